@@ -0,0 +1,53 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Entry point of the benchmarks jar. It accepts the usual JMH command line options and runs the selected
+ * benchmarks once per thread count listed in the {@code threads} system property (comma separated, default
+ * {@code 1}), always with the GC profiler enabled so that allocation rates are reported as with
+ * {@code -prof gc}.</p>
+ * <p>
+ * <pre>
+ * java -Dthreads=1,4,16 -jar target/benchmarks.jar TryBenchmark
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        for (String threads : System.getProperty("threads", "1").split(",")) {
+            new Runner(new OptionsBuilder()
+                    .parent(cmd)
+                    .threads(Integer.parseInt(threads.trim()))
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambdista.example.ParseAndSum;
+import com.lambdista.util.Try;
+
+/**
+ * Benchmark versions of the {@link ParseAndSum} and {@link com.lambdista.example.SumAndDivide} examples, each in
+ * its {@code try-catch} and {@code Try} flavour.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExamplesBenchmark {
+
+    @Param({"0.0", "0.001", "0.1"})
+    public double failureRatio;
+
+    @Param({"1000"})
+    public int size;
+
+    private String[] inputs;
+
+    @Setup
+    public void setup() {
+        inputs = Inputs.numbers(size, failureRatio, 42L);
+    }
+
+    @Benchmark
+    public int parseAndSumWithoutTry() {
+        return ParseAndSum.sumWithoutTry(inputs);
+    }
+
+    @Benchmark
+    public int parseAndSumWithTry() {
+        return ParseAndSum.sumWithTry(inputs);
+    }
+
+    @Benchmark
+    public int parseAndSumWithTryFold() {
+        return ParseAndSum.sumWithTryFold(inputs);
+    }
+
+    @Benchmark
+    public int parseAndSumWithIntTry() {
+        return ParseAndSum.sumWithIntTry(inputs);
+    }
+
+    /**
+     * Same as {@link com.lambdista.example.SumAndDivide#sumWithoutTry(String, String, String)} applied to
+     * consecutive triples of inputs, without the printing
+     */
+    @Benchmark
+    public int sumAndDivideWithoutTry() {
+        int total = 0;
+        for (int i = 0; i + 2 < inputs.length; i += 3) {
+            try {
+                total += Integer.parseInt(inputs[i]) + Integer.parseInt(inputs[i + 1]) + Integer.parseInt(inputs[i + 2]);
+            } catch (NumberFormatException e) {
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Same as {@link com.lambdista.example.SumAndDivide#sumWithTry(String, String, String)} applied to
+     * consecutive triples of inputs, without the printing
+     */
+    @Benchmark
+    public int sumAndDivideWithTry() {
+        int total = 0;
+        for (int i = 0; i + 2 < inputs.length; i += 3) {
+            String first = inputs[i], second = inputs[i + 1], third = inputs[i + 2];
+            Try<Integer> x = Try.apply(() -> Integer.parseInt(first));
+            Try<Integer> y = Try.apply(() -> Integer.parseInt(second));
+            Try<Integer> z = Try.apply(() -> Integer.parseInt(third));
+            total += x.flatMap(a -> y.flatMap(b -> z.map(c -> a + b + c))).getOrElse(0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic inputs shared by the benchmarks.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+final class Inputs {
+
+    /**
+     * The value used in place of a number to make parsing fail
+     */
+    static final String INVALID = "n/a";
+
+    private Inputs() {
+    }
+
+    /**
+     * @param size         the number of inputs
+     * @param failureRatio the fraction, between 0 and 1, of inputs which cannot be parsed as an {@code int}
+     * @param seed         the seed of the random generator, so that runs are comparable
+     * @return an array of strings, each of which is either a small non-negative integer or {@link #INVALID}
+     */
+    static String[] numbers(int size, double failureRatio, long seed) {
+        Random random = new Random(seed);
+        String[] inputs = new String[size];
+        for (int i = 0; i < size; i++) {
+            inputs[i] = random.nextDouble() < failureRatio ? INVALID : Integer.toString(random.nextInt(1000));
+        }
+        return inputs;
+    }
+
+    /**
+     * Parses {@code s} after descending {@code depth} frames, so that the exception thrown for an invalid input
+     * has a stack trace at least {@code depth} frames deep.
+     *
+     * @param s     the string to parse
+     * @param depth the number of extra frames
+     * @return the parsed {@code int}
+     * @throws NumberFormatException if {@code s} is not a number
+     */
+    static int parse(String s, int depth) {
+        return depth <= 0 ? Integer.parseInt(s) : parse(s, depth - 1);
+    }
+}
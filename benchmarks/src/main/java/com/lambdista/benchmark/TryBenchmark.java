@@ -0,0 +1,160 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambdista.util.RetryPolicy;
+import com.lambdista.util.Try;
+import com.lambdista.util.TryPipeline;
+
+/**
+ * Measures {@link Try#apply(com.lambdista.util.FailableSupplier)} and the core combinators against a plain
+ * {@code try-catch} block. Each invocation parses the next input and runs it through a chain of
+ * {@code chainLength} steps.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.attempts(3);
+
+    @Param({"0.0", "0.1", "0.25", "0.5"})
+    public double failureRatio;
+
+    @Param({"1", "5", "20"})
+    public int chainLength;
+
+    @Param({"0", "32"})
+    public int stackDepth;
+
+    private String[] inputs;
+    private int index;
+    private TryPipeline<Integer> pipeline;
+
+    @Setup
+    public void setup() {
+        inputs = Inputs.numbers(SIZE, failureRatio, 42L);
+        TryPipeline<Integer> p = TryPipeline.of(() -> Inputs.parse(next(), stackDepth));
+        for (int i = 0; i < chainLength; i++) {
+            p = p.map(x -> x + 1);
+        }
+        pipeline = p;
+    }
+
+    private String next() {
+        String s = inputs[index];
+        index = (index + 1) & (SIZE - 1);
+        return s;
+    }
+
+    @Benchmark
+    public int tryCatch() {
+        String s = next();
+        try {
+            int x = Inputs.parse(s, stackDepth);
+            for (int i = 0; i < chainLength; i++) {
+                x = x + 1;
+            }
+            return x;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Try<Integer> apply() {
+        String s = next();
+        return Try.apply(() -> Inputs.parse(s, stackDepth));
+    }
+
+    @Benchmark
+    public Try<Integer> map() {
+        String s = next();
+        Try<Integer> t = Try.apply(() -> Inputs.parse(s, stackDepth));
+        for (int i = 0; i < chainLength; i++) {
+            t = t.map(x -> x + 1);
+        }
+        return t;
+    }
+
+    /**
+     * Same as {@link #map()} but fused into a {@link TryPipeline} built once in {@link #setup()}
+     */
+    @Benchmark
+    public Try<Integer> pipelineMap() {
+        return pipeline.run();
+    }
+
+    @Benchmark
+    public Try<Integer> flatMap() {
+        String s = next();
+        Try<Integer> t = Try.apply(() -> Inputs.parse(s, stackDepth));
+        for (int i = 0; i < chainLength; i++) {
+            t = t.flatMap(x -> new Try.Success<>(x + 1));
+        }
+        return t;
+    }
+
+    @Benchmark
+    public Try<Integer> filter() {
+        String s = next();
+        Try<Integer> t = Try.apply(() -> Inputs.parse(s, stackDepth));
+        for (int i = 0; i < chainLength; i++) {
+            t = t.filter(x -> x >= 0);
+        }
+        return t;
+    }
+
+    /**
+     * Same as {@link #apply()} with up to three immediate attempts: invalid inputs fail every attempt
+     */
+    @Benchmark
+    public Try<Integer> retry() {
+        String s = next();
+        return Try.retry(RETRY_POLICY, () -> Inputs.parse(s, stackDepth));
+    }
+
+    @Benchmark
+    public Integer recover() {
+        String s = next();
+        Try<Integer> t = Try.apply(() -> Inputs.parse(s, stackDepth));
+        for (int i = 0; i < chainLength; i++) {
+            t = t.map(x -> x + 1);
+        }
+        return t.recover(e -> -1).get();
+    }
+}
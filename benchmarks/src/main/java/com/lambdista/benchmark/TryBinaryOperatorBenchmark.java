@@ -0,0 +1,86 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lambdista.util.Try;
+import com.lambdista.util.TryBinaryOperator;
+
+/**
+ * Measures reducing an array of {@link Try} values with {@link TryBinaryOperator#of(java.util.function.BinaryOperator)}
+ * against a hand-written loop.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBinaryOperatorBenchmark {
+
+    @Param({"0.0", "0.001", "0.1"})
+    public double failureRatio;
+
+    @Param({"1000"})
+    public int size;
+
+    private Try<Integer>[] values;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        values = Arrays.stream(Inputs.numbers(size, failureRatio, 42L))
+                .map(s -> Try.apply(() -> Integer.parseInt(s)))
+                .toArray(Try[]::new);
+    }
+
+    @Benchmark
+    public int loop() {
+        int sum = 0;
+        for (Try<Integer> value : values) {
+            if (value.isFailure()) return -1;
+            sum += value.get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Try<Integer> reduce() {
+        return Arrays.stream(values).reduce(new Try.Success<>(0), TryBinaryOperator.of(Integer::sum));
+    }
+
+    @Benchmark
+    public Try<Integer> fold() {
+        return TryBinaryOperator.<Integer>of(Integer::sum).fold(new Try.Success<>(0), Arrays.stream(values));
+    }
+}
@@ -17,6 +17,8 @@ package com.lambdista.example;
 
 import java.util.Arrays;
 
+import com.lambdista.util.IntTry;
+import com.lambdista.util.IntTryBinaryOperator;
 import com.lambdista.util.Try;
 import com.lambdista.util.TryBinaryOperator;
 
@@ -36,6 +38,14 @@ public class ParseAndSum {
         System.out.println("Sum using the Try-Success-Failure API");
         int sum2 = sumWithTry(args);
         System.out.println("Result: " + sum2);
+
+        System.out.println("Sum using the Try-Success-Failure API, stopping at the first failure");
+        int sum3 = sumWithTryFold(args);
+        System.out.println("Result: " + sum3);
+
+        System.out.println("Sum using the IntTry-Success-Failure API");
+        int sum4 = sumWithIntTry(args);
+        System.out.println("Result: " + sum4);
     }
 
     public static int sumWithoutTry(String[] args) {
@@ -56,4 +66,15 @@ public class ParseAndSum {
                 .reduce(Try.apply(() -> 0), TryBinaryOperator.of(Integer::sum)).getOrElse(-1);
     }
 
+    public static int sumWithTryFold(String[] args) {
+        return TryBinaryOperator.<Integer>of(Integer::sum)
+                .fold(Try.apply(() -> 0), Arrays.stream(args).map(line -> Try.apply(() -> Math.abs(Integer.parseInt(line)))))
+                .getOrElse(-1);
+    }
+
+    public static int sumWithIntTry(String[] args) {
+        return Arrays.stream(args).map(line -> IntTry.apply(() -> Math.abs(Integer.parseInt(line))))
+                .reduce(IntTry.apply(() -> 0), IntTryBinaryOperator.of(Integer::sum)).getOrElse(-1);
+    }
+
 }
@@ -16,12 +16,15 @@
 package com.lambdista.example;
 
 import com.lambdista.util.Try;
+import com.lambdista.util.TryFiles;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * File lines read example
@@ -41,6 +44,10 @@ public class ReadFileLines {
         System.out.println("File read using the Try-Success-Failure API");
         lines.forEach(System.out::println);
 
+        lines = readFileLazilyWithTry("test.txt");
+        System.out.println("File read line by line using TryFiles");
+        lines.forEach(System.out::println);
+
     } 
 
     public static List<String> readFileWithoutTry(String file) {
@@ -61,4 +68,17 @@ public class ReadFileLines {
                 .getOrElse(Arrays.asList("Could not read the file: " + file));
 
     }
+
+    public static List<String> readFileLazilyWithTry(String file) {
+
+        return TryFiles.lines(new File(file).toPath())
+                .map(lines -> {
+                    try (Stream<Try<String>> stream = lines) {
+                        return stream.map(line -> line.getOrElse("Could not decode the line"))
+                                .collect(Collectors.toList());
+                    }
+                })
+                .getOrElse(Arrays.asList("Could not read the file: " + file));
+
+    }
 }
@@ -18,9 +18,11 @@ package com.lambdista.example;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 
 import com.lambdista.util.Try;
+import com.lambdista.util.TryIO;
 
 /**
  * Try-with-resource input stream consumption
@@ -42,6 +44,12 @@ public class ReadInputStreamAsString {
         System.out.println("Read InputStream as String using the Try-Success-Failure API");
         final String result2 = consumptionWithTry(stream);
         System.out.println("Result: " + result2);
+
+        resetStreamToStart(stream);
+
+        System.out.println("Read InputStream as String using TryIO");
+        final String result3 = consumptionWithTryIO(stream);
+        System.out.println("Result: " + result3);
     }
 
 	private static void markStartOfStream(final InputStream stream) {
@@ -69,6 +77,10 @@ public class ReadInputStreamAsString {
     private static String consumptionWithTry(InputStream stream) {
         return Try.apply(ReadInputStreamAsString::convertStreamToString).apply(stream).get();
     }
+
+    private static String consumptionWithTryIO(InputStream stream) {
+        return TryIO.readString(stream, StandardCharsets.ISO_8859_1, 1024).get();
+    }
     
 	// http://stackoverflow.com/questions/309424/read-convert-an-inputstream-to-a-string
 	@SuppressWarnings("resource")
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes how long a {@link RetryPolicy} waits before the next attempt.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface Backoff {
+
+    /**
+     * @param failedAttempts      the number of attempts failed so far, starting from 1
+     * @param previousDelayNanos  the delay returned for the previous retry, or 0 before the first retry
+     * @return the delay before the next attempt, in nanoseconds
+     */
+    public long nextDelayNanos(int failedAttempts, long previousDelayNanos);
+
+    /**
+     * @return a {@code Backoff} retrying right away
+     */
+    public static Backoff none() {
+        return (failedAttempts, previousDelayNanos) -> 0L;
+    }
+
+    /**
+     * @param delay the delay between two attempts
+     * @param unit  the unit of {@code delay}
+     * @return a {@code Backoff} always waiting {@code delay}
+     */
+    public static Backoff fixed(long delay, TimeUnit unit) {
+        long nanos = unit.toNanos(delay);
+        return (failedAttempts, previousDelayNanos) -> nanos;
+    }
+
+    /**
+     * @param initialDelay the delay before the first retry
+     * @param maxDelay     the maximum delay
+     * @param unit         the unit of {@code initialDelay} and {@code maxDelay}
+     * @param multiplier   the factor the delay is multiplied by after each retry, at least 1
+     * @return a {@code Backoff} waiting {@code initialDelay * multiplier^(failedAttempts - 1)}, capped at
+     * {@code maxDelay}
+     */
+    public static Backoff exponential(long initialDelay, long maxDelay, TimeUnit unit, double multiplier) {
+        if (multiplier < 1) throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+        long initial = unit.toNanos(initialDelay);
+        long max = unit.toNanos(maxDelay);
+        return (failedAttempts, previousDelayNanos) -> {
+            double delay = initial * Math.pow(multiplier, failedAttempts - 1);
+            return delay >= max ? max : (long) delay;
+        };
+    }
+
+    /**
+     * The "decorrelated jitter" backoff: each delay is picked at random between {@code baseDelay} and three times
+     * the previous delay, capped at {@code maxDelay}. It spreads the retries of concurrent callers better than a
+     * plain exponential backoff.
+     *
+     * @param baseDelay the minimum delay
+     * @param maxDelay  the maximum delay
+     * @param unit      the unit of {@code baseDelay} and {@code maxDelay}
+     * @return a decorrelated jitter {@code Backoff}
+     */
+    public static Backoff decorrelatedJitter(long baseDelay, long maxDelay, TimeUnit unit) {
+        long base = unit.toNanos(baseDelay);
+        long max = unit.toNanos(maxDelay);
+        return (failedAttempts, previousDelayNanos) -> {
+            long upper = Math.min(max, Math.max(base, previousDelayNanos) * 3);
+            return upper <= base ? base : ThreadLocalRandom.current().nextLong(base, upper + 1);
+        };
+    }
+}
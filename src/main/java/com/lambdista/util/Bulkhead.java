@@ -0,0 +1,335 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A bulkhead limiting the number of concurrent calls to a dependency made through {@link #apply(FailableSupplier)},
+ * so that a slow dependency cannot hold every thread of the caller.</p>
+ * <p>
+ * <p>A call over the limit is not queued: it's rejected right away with a preallocated {@link Try.Failure} holding a
+ * stackless {@link BulkheadFullException}. The limit is either fixed ({@link #fixed(int)}) or adjusted after every
+ * call according to its latency:</p>
+ * <ul>
+ * <li>{@link #aimd(long, TimeUnit)} grows the limit by one while calls are faster than a latency threshold and the
+ * limit is being used, and multiplies it by a backoff ratio whenever a call is slower than that;</li>
+ * <li>{@link #gradient()} needs no threshold: it compares the recent latency with the long-term one and shrinks the
+ * limit as the former grows, i.e. as calls start queueing in the dependency, growing it again while they don't.</li>
+ * </ul>
+ * <p>
+ * <p>Failed calls are measured too, since they held a permit all the same. The number of calls in flight and the
+ * limit are updated with compare-and-set only, so the bulkhead never blocks.</p>
+ * <p>
+ * <pre>
+ * Bulkhead bulkhead = Bulkhead.gradient().withLimits(4, 20, 200);
+ * Try&lt;String&gt; body = bulkhead.apply(() -&gt; fetch(url));
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class Bulkhead {
+
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private enum Kind {
+        FIXED, AIMD, GRADIENT
+    }
+
+    private final Kind kind;
+    private final int minLimit;
+    private final int initialLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final Limit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Try.Failure<Object> rejection = new Try.Failure<>(new BulkheadFullException());
+
+    private Bulkhead(Kind kind, int minLimit, int initialLimit, int maxLimit, long latencyThresholdNanos,
+                     double backoffRatio) {
+        this.kind = kind;
+        this.minLimit = minLimit;
+        this.initialLimit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        switch (kind) {
+            case FIXED:
+                this.limit = new Limit(initialLimit);
+                break;
+            case AIMD:
+                this.limit = new AimdLimit(this);
+                break;
+            default:
+                this.limit = new GradientLimit(this);
+        }
+    }
+
+    /**
+     * @param maxConcurrentCalls the maximum number of calls in flight
+     * @return a {@code Bulkhead} with a fixed limit
+     */
+    public static Bulkhead fixed(int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive: " + maxConcurrentCalls);
+        }
+        return new Bulkhead(Kind.FIXED, maxConcurrentCalls, maxConcurrentCalls, maxConcurrentCalls, 0L, 1.0);
+    }
+
+    /**
+     * @param latencyThreshold the latency above which a call makes the limit shrink
+     * @param unit             the unit of {@code latencyThreshold}
+     * @return a {@code Bulkhead} with an additive-increase/multiplicative-decrease limit, between 1 and 200 and
+     * starting at 20, shrunk by 10% on every slow call
+     */
+    public static Bulkhead aimd(long latencyThreshold, TimeUnit unit) {
+        long latencyThresholdNanos = unit.toNanos(latencyThreshold);
+        if (latencyThresholdNanos < 1) {
+            throw new IllegalArgumentException("latencyThreshold must be positive: " + latencyThreshold);
+        }
+        return new Bulkhead(Kind.AIMD, DEFAULT_MIN_LIMIT, DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT,
+                latencyThresholdNanos, DEFAULT_BACKOFF_RATIO);
+    }
+
+    /**
+     * @return a {@code Bulkhead} with a limit driven by the gradient between the long-term and the recent latency,
+     * between 1 and 200 and starting at 20
+     */
+    public static Bulkhead gradient() {
+        return new Bulkhead(Kind.GRADIENT, DEFAULT_MIN_LIMIT, DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT, 0L, 1.0);
+    }
+
+    /**
+     * @param minLimit     the limit is never shrunk below this value
+     * @param initialLimit the limit to start from
+     * @param maxLimit     the limit is never grown above this value
+     * @return a new {@code Bulkhead} with the same configuration as {@code this} one apart from the limits
+     * @throws IllegalStateException if {@code this} bulkhead has a fixed limit
+     */
+    public Bulkhead withLimits(int minLimit, int initialLimit, int maxLimit) {
+        if (kind == Kind.FIXED) throw new IllegalStateException("the limit of this bulkhead is fixed");
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit: " +
+                    minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        return new Bulkhead(kind, minLimit, initialLimit, maxLimit, latencyThresholdNanos, backoffRatio);
+    }
+
+    /**
+     * @param backoffRatio the factor, between 0 and 1 excluded, the limit is multiplied by on every slow call
+     * @return a new {@code Bulkhead} with the same configuration as {@code this} one apart from the backoff ratio
+     * @throws IllegalStateException if {@code this} bulkhead was not created by {@link #aimd(long, TimeUnit)}
+     */
+    public Bulkhead withBackoffRatio(double backoffRatio) {
+        if (kind != Kind.AIMD) throw new IllegalStateException("only an AIMD bulkhead has a backoff ratio");
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+        }
+        return new Bulkhead(kind, minLimit, initialLimit, maxLimit, latencyThresholdNanos, backoffRatio);
+    }
+
+    /**
+     * @return the current maximum number of calls in flight
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return the number of calls currently in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} unless the limit is reached, measuring its latency.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the outcome of {@code supplier} or, if the limit is reached, a {@link Try.Failure} holding a
+     * {@link BulkheadFullException}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Try<T> apply(FailableSupplier<T> supplier) {
+        if (!acquire()) return (Try<T>) (Try<?>) rejection;
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Throwable e) {
+            release(start);
+            return new Try.Failure<>(Try.nonFatal(e));
+        }
+        release(start);
+        return new Try.Success<>(value);
+    }
+
+    private boolean acquire() {
+        for (; ; ) {
+            int current = inFlight.get();
+            if (current >= limit.get()) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private void release(long start) {
+        record(System.nanoTime() - start, inFlight.getAndDecrement());
+    }
+
+    /**
+     * @param latencyNanos how long a call took
+     * @param inFlight     the calls in flight when it completed, itself included
+     */
+    void record(long latencyNanos, int inFlight) {
+        limit.onSample(latencyNanos, inFlight);
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead{" +
+                "kind=" + kind +
+                ", limit=" + getLimit() +
+                ", inFlight=" + getInFlight() +
+                '}';
+    }
+
+    /**
+     * The limit, as a {@code double} so that adaptive limits can move by fractions, stored in the bits of an
+     * {@link AtomicLong}. This base class never changes it.
+     */
+    private static class Limit {
+        private final AtomicLong bits;
+
+        Limit(double initial) {
+            this.bits = new AtomicLong(Double.doubleToRawLongBits(initial));
+        }
+
+        final int get() {
+            return (int) value();
+        }
+
+        final double value() {
+            return Double.longBitsToDouble(bits.get());
+        }
+
+        final boolean compareAndSet(double expected, double update) {
+            return bits.compareAndSet(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(update));
+        }
+
+        /**
+         * @param latencyNanos how long the call took
+         * @param inFlight     the number of calls in flight, this one included, when it completed
+         */
+        void onSample(long latencyNanos, int inFlight) {
+        }
+    }
+
+    /**
+     * Grows the limit by one on a fast call using at least half of it, multiplies it by the backoff ratio on a slow
+     * call.
+     */
+    private static final class AimdLimit extends Limit {
+        private final Bulkhead config;
+
+        AimdLimit(Bulkhead config) {
+            super(config.initialLimit);
+            this.config = config;
+        }
+
+        @Override
+        void onSample(long latencyNanos, int inFlight) {
+            for (; ; ) {
+                double current = value();
+                double next;
+                if (latencyNanos > config.latencyThresholdNanos) {
+                    next = Math.max(config.minLimit, current * config.backoffRatio);
+                } else if (inFlight * 2 >= current) {
+                    next = Math.min(config.maxLimit, current + 1);
+                } else {
+                    return;
+                }
+                if (next == current || compareAndSet(current, next)) return;
+            }
+        }
+    }
+
+    /**
+     * <p>Keeps two exponential moving averages of the latency, a short one over about the last 10 calls and a long
+     * one over about the last 500. Their ratio, times a tolerance of 1.5 and capped between 0.5 and 1, is the
+     * gradient: 1 while the recent latency is in line with the long-term one, less when calls start queueing.</p>
+     * <p>
+     * <p>After every call the limit moves by a fifth of the way towards {@code limit * gradient + sqrt(limit)}, the
+     * square root leaving room for some queueing so that the limit keeps probing upwards. It's not grown while less
+     * than half of it is used, since the latency says nothing about a higher limit then. When the recent latency
+     * drops well below the long-term one, e.g. after a spike, the long-term average decays towards it faster.</p>
+     */
+    private static final class GradientLimit extends Limit {
+        private static final double SHORT_ALPHA = 2.0 / 11;
+        private static final double LONG_ALPHA = 2.0 / 501;
+        private static final double TOLERANCE = 1.5;
+        private static final double SMOOTHING = 0.2;
+
+        private final Bulkhead config;
+        private final AtomicLong shortLatency = new AtomicLong(Double.doubleToRawLongBits(0.0));
+        private final AtomicLong longLatency = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+        GradientLimit(Bulkhead config) {
+            super(config.initialLimit);
+            this.config = config;
+        }
+
+        @Override
+        void onSample(long latencyNanos, int inFlight) {
+            double shortAverage = average(shortLatency, latencyNanos, SHORT_ALPHA);
+            double longAverage = average(longLatency, latencyNanos, LONG_ALPHA);
+            if (longAverage > 2 * shortAverage) longAverage = average(longLatency, latencyNanos, SHORT_ALPHA);
+            if (shortAverage <= 0) return;
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longAverage / shortAverage));
+            for (; ; ) {
+                double current = value();
+                double target = current * gradient + Math.sqrt(current);
+                double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+                next = Math.max(config.minLimit, Math.min(config.maxLimit, next));
+                if (next > current && inFlight * 2 < current) return;
+                if (next == current || compareAndSet(current, next)) return;
+            }
+        }
+
+        /**
+         * Folds {@code sample} into the exponential moving average held by {@code bits}, which starts from the first
+         * sample.
+         *
+         * @return the updated average
+         */
+        private static double average(AtomicLong bits, long sample, double alpha) {
+            for (; ; ) {
+                long currentBits = bits.get();
+                double current = Double.longBitsToDouble(currentBits);
+                double next = current == 0.0 ? sample : current + alpha * (sample - current);
+                if (bits.compareAndSet(currentBits, Double.doubleToRawLongBits(next))) return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * <p>A circuit breaker guarding the calls to a dependency made through {@link #apply(FailableSupplier)}.</p>
+ * <p>
+ * <p>While {@link State#CLOSED} every call runs and its outcome is recorded in a sliding window, either the last
+ * {@code N} calls ({@link #countBased(int, long, TimeUnit, double)}) or the calls of the last period of time
+ * ({@link #timeBased(long, long, TimeUnit, double)}). Once the window holds at least the minimum number of calls
+ * and the failure rate reaches the threshold the breaker goes {@link State#OPEN}: calls are rejected right away with
+ * a preallocated {@link Try.Failure} holding a stackless {@link CircuitBreakerOpenException}, so a dependency which
+ * is down costs neither a thread nor an exception. After the open duration the breaker goes
+ * {@link State#HALF_OPEN} and lets a few probe calls through: if all of them succeed it closes again, otherwise it
+ * opens again.</p>
+ * <p>
+ * <p>The state is an immutable object swapped with compare-and-set and the windows are lock-free ring buffers, so
+ * the breaker never blocks. Every state change is reported to the listeners registered with
+ * {@link #addListener(Consumer)}, in the thread causing it.</p>
+ * <p>
+ * <pre>
+ * CircuitBreaker breaker = CircuitBreaker.countBased(100, 30, TimeUnit.SECONDS, 0.5);
+ * Try&lt;String&gt; body = breaker.apply(() -&gt; fetch(url));
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The states of a {@code CircuitBreaker}
+     */
+    public enum State {
+        /**
+         * Calls run and their outcomes are recorded
+         */
+        CLOSED,
+        /**
+         * Calls are rejected
+         */
+        OPEN,
+        /**
+         * A limited number of probe calls run to check whether the dependency recovered
+         */
+        HALF_OPEN
+    }
+
+    private static final int TIME_BUCKETS = 10;
+
+    private final int windowSize;
+    private final long windowNanos;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int minimumCalls;
+    private final int permittedHalfOpenCalls;
+
+    private final AtomicReference<Phase> phase;
+    private final List<Consumer<? super Transition>> listeners = new CopyOnWriteArrayList<>();
+    private final Try.Failure<Object> rejection = new Try.Failure<>(new CircuitBreakerOpenException());
+
+    private CircuitBreaker(int windowSize, long windowNanos, double failureRateThreshold, long openDurationNanos,
+                           int minimumCalls, int permittedHalfOpenCalls) {
+        this.windowSize = windowSize;
+        this.windowNanos = windowNanos;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.minimumCalls = minimumCalls;
+        this.permittedHalfOpenCalls = permittedHalfOpenCalls;
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    /**
+     * @param windowSize           the number of most recent calls the failure rate is computed on
+     * @param openDuration         how long the breaker stays open before letting probe calls through
+     * @param unit                 the unit of {@code openDuration}
+     * @param failureRateThreshold the failure rate, between 0 and 1, opening the breaker
+     * @return a closed {@code CircuitBreaker} with a count-based sliding window
+     */
+    public static CircuitBreaker countBased(int windowSize, long openDuration, TimeUnit unit,
+                                            double failureRateThreshold) {
+        if (windowSize < 1) throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        return new CircuitBreaker(windowSize, 0L, checkThreshold(failureRateThreshold), unit.toNanos(openDuration),
+                windowSize, 1);
+    }
+
+    /**
+     * @param windowDuration       the period of time the failure rate is computed on
+     * @param openDuration         how long the breaker stays open before letting probe calls through
+     * @param unit                 the unit of {@code windowDuration} and {@code openDuration}
+     * @param failureRateThreshold the failure rate, between 0 and 1, opening the breaker
+     * @return a closed {@code CircuitBreaker} with a time-based sliding window, opening after at least 10 calls
+     */
+    public static CircuitBreaker timeBased(long windowDuration, long openDuration, TimeUnit unit,
+                                           double failureRateThreshold) {
+        long windowNanos = unit.toNanos(windowDuration);
+        if (windowNanos < TIME_BUCKETS) throw new IllegalArgumentException("windowDuration is too short");
+        return new CircuitBreaker(0, windowNanos, checkThreshold(failureRateThreshold), unit.toNanos(openDuration),
+                10, 1);
+    }
+
+    /**
+     * @param minimumCalls the minimum number of calls in the window before the failure rate is considered
+     * @return a new, closed, {@code CircuitBreaker} with the same configuration as {@code this} one apart from the
+     * minimum number of calls
+     */
+    public CircuitBreaker withMinimumCalls(int minimumCalls) {
+        if (minimumCalls < 1) throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+        return new CircuitBreaker(windowSize, windowNanos, failureRateThreshold, openDurationNanos, minimumCalls,
+                permittedHalfOpenCalls);
+    }
+
+    /**
+     * @param permittedHalfOpenCalls the number of probe calls let through while half-open, all of which must
+     *                               succeed to close the breaker
+     * @return a new, closed, {@code CircuitBreaker} with the same configuration as {@code this} one apart from the
+     * number of probe calls
+     */
+    public CircuitBreaker withPermittedHalfOpenCalls(int permittedHalfOpenCalls) {
+        if (permittedHalfOpenCalls < 1) {
+            throw new IllegalArgumentException("permittedHalfOpenCalls must be positive: " + permittedHalfOpenCalls);
+        }
+        return new CircuitBreaker(windowSize, windowNanos, failureRateThreshold, openDurationNanos, minimumCalls,
+                permittedHalfOpenCalls);
+    }
+
+    /**
+     * @param listener the callback to notify of every state change
+     */
+    public void addListener(Consumer<? super Transition> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener is null"));
+    }
+
+    /**
+     * @return the current {@link State}
+     */
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} unless the breaker is open, recording its outcome.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the outcome of {@code supplier} or, if the call is not permitted, a {@link Try.Failure} holding a
+     * {@link CircuitBreakerOpenException}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Try<T> apply(FailableSupplier<T> supplier) {
+        Phase current = acquire();
+        if (current == null) return (Try<T>) (Try<?>) rejection;
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Throwable e) {
+            onFailure(current);
+            return new Try.Failure<>(Try.nonFatal(e));
+        }
+        onSuccess(current);
+        return new Try.Success<>(value);
+    }
+
+    /**
+     * @return the phase the call runs in, or {@code null} if the call is not permitted
+     */
+    private Phase acquire() {
+        for (; ; ) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.openedAt < openDurationNanos) return null;
+                    transition(current, new Phase(State.HALF_OPEN, 0L, null, permittedHalfOpenCalls));
+                    break;
+                default:
+                    return current.permits.getAndDecrement() > 0 ? current : null;
+            }
+        }
+    }
+
+    private void onSuccess(Phase current) {
+        if (current.state == State.CLOSED) {
+            current.window.record(false);
+        } else if (current.successes.incrementAndGet() >= permittedHalfOpenCalls) {
+            transition(current, closed());
+        }
+    }
+
+    private void onFailure(Phase current) {
+        if (current.state == State.CLOSED) {
+            Window window = current.window;
+            window.record(true);
+            int calls = window.calls();
+            if (calls >= minimumCalls && window.failures() >= failureRateThreshold * calls) {
+                transition(current, new Phase(State.OPEN, System.nanoTime(), null, 0));
+            }
+        } else {
+            transition(current, new Phase(State.OPEN, System.nanoTime(), null, 0));
+        }
+    }
+
+    private void transition(Phase from, Phase to) {
+        if (!phase.compareAndSet(from, to)) return;
+        if (listeners.isEmpty()) return;
+        Transition transition = new Transition(from.state, to.state, System.currentTimeMillis());
+        for (Consumer<? super Transition> listener : listeners) {
+            try {
+                listener.accept(transition);
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    private Phase closed() {
+        Window window = windowNanos > 0 ? new TimeWindow(windowNanos) : new CountWindow(windowSize);
+        return new Phase(State.CLOSED, 0L, window, 0);
+    }
+
+    private static double checkThreshold(double failureRateThreshold) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+        }
+        return failureRateThreshold;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "state=" + getState() +
+                '}';
+    }
+
+    /**
+     * A state change of a {@code CircuitBreaker}
+     */
+    public static final class Transition {
+        private final State from;
+        private final State to;
+        private final long timestamp;
+
+        Transition(State from, State to, long timestamp) {
+            this.from = from;
+            this.to = to;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * @return the state before the change
+         */
+        public State getFrom() {
+            return from;
+        }
+
+        /**
+         * @return the state after the change
+         */
+        public State getTo() {
+            return to;
+        }
+
+        /**
+         * @return when the change happened, in milliseconds since the epoch
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return "Transition{" +
+                    "from=" + from +
+                    ", to=" + to +
+                    ", timestamp=" + timestamp +
+                    '}';
+        }
+    }
+
+    /**
+     * An immutable state, with the data needed while in it: the window when closed, the opening time when open,
+     * the probe counters when half-open. A new instance is created on every transition.
+     */
+    private static final class Phase {
+        final State state;
+        final long openedAt;
+        final Window window;
+        final AtomicInteger permits;
+        final AtomicInteger successes;
+
+        Phase(State state, long openedAt, Window window, int permits) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.window = window;
+            this.permits = state == State.HALF_OPEN ? new AtomicInteger(permits) : null;
+            this.successes = state == State.HALF_OPEN ? new AtomicInteger() : null;
+        }
+    }
+
+    /**
+     * A sliding window of call outcomes
+     */
+    private interface Window {
+        void record(boolean failure);
+
+        int calls();
+
+        int failures();
+    }
+
+    /**
+     * Ring buffer of the outcomes of the last {@code size} calls: 0 for an empty slot, 1 for a success, 2 for a
+     * failure. The counters are updated with the difference between the new and the overwritten outcome.
+     */
+    private static final class CountWindow implements Window {
+        private final AtomicIntegerArray slots;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        CountWindow(int size) {
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        @Override
+        public void record(boolean failure) {
+            int index = (int) (cursor.getAndIncrement() % slots.length());
+            int previous = slots.getAndSet(index, failure ? 2 : 1);
+            if (previous == 0) calls.incrementAndGet();
+            if (failure && previous != 2) failures.incrementAndGet();
+            else if (!failure && previous == 2) failures.decrementAndGet();
+        }
+
+        @Override
+        public int calls() {
+            return calls.get();
+        }
+
+        @Override
+        public int failures() {
+            return failures.get();
+        }
+    }
+
+    /**
+     * Ring buffer of {@value #TIME_BUCKETS} buckets, each counting the calls of a slice of the window. A bucket is
+     * recycled, by compare-and-set of its epoch, when time moves to a slice it no longer belongs to.
+     */
+    private static final class TimeWindow implements Window {
+        private final long bucketNanos;
+        private final Bucket[] buckets = new Bucket[TIME_BUCKETS];
+
+        TimeWindow(long windowNanos) {
+            this.bucketNanos = windowNanos / TIME_BUCKETS;
+            for (int i = 0; i < TIME_BUCKETS; i++) buckets[i] = new Bucket();
+        }
+
+        @Override
+        public void record(boolean failure) {
+            long epoch = System.nanoTime() / bucketNanos;
+            Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) TIME_BUCKETS)];
+            long bucketEpoch = bucket.epoch.get();
+            if (bucketEpoch != epoch && bucket.epoch.compareAndSet(bucketEpoch, epoch)) {
+                bucket.calls.set(0);
+                bucket.failures.set(0);
+            }
+            bucket.calls.incrementAndGet();
+            if (failure) bucket.failures.incrementAndGet();
+        }
+
+        @Override
+        public int calls() {
+            return sum(false);
+        }
+
+        @Override
+        public int failures() {
+            return sum(true);
+        }
+
+        private int sum(boolean failures) {
+            long oldest = System.nanoTime() / bucketNanos - TIME_BUCKETS;
+            int sum = 0;
+            for (Bucket bucket : buckets) {
+                if (bucket.epoch.get() > oldest) sum += failures ? bucket.failures.get() : bucket.calls.get();
+            }
+            return sum;
+        }
+
+        private static final class Bucket {
+            final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+            final AtomicInteger calls = new AtomicInteger();
+            final AtomicInteger failures = new AtomicInteger();
+        }
+    }
+}
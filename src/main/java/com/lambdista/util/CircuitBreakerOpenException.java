@@ -0,0 +1,34 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * Custom unchecked exception held by the {@link com.lambdista.util.Try.Failure} a {@link CircuitBreaker} returns,
+ * without running the supplier, while it's open. A single instance is shared by all the rejected calls of a
+ * breaker, so it has neither a stack trace nor suppressed exceptions.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    private static final String message = "circuit breaker is open";
+
+    public CircuitBreakerOpenException() {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The exception held by a {@link Try.Failure} decoded by a {@link TryCodec}. It stands for the exception which
+ * was encoded: {@link #toString()} starts with the original class name, and the message, stack trace and cause are
+ * the encoded ones, the cause being a {@code DecodedFailureException} too.</p>
+ * <p>
+ * <p>Only the class name is decoded upfront. The rest of the record is parsed the first time the message, stack
+ * trace or cause is asked for, so failures which are only counted or logged by class are cheap to decode.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class DecodedFailureException extends Exception {
+
+    private final String className;
+    private ByteBuffer remaining;
+    private String message;
+
+    /**
+     * @param record the encoded exception, starting with its class name
+     */
+    DecodedFailureException(byte[] record) {
+        this(ByteBuffer.wrap(record));
+    }
+
+    private DecodedFailureException(ByteBuffer record) {
+        this.className = TryCodec.getString(record);
+        this.remaining = record;
+    }
+
+    /**
+     * @return the name of the class of the encoded exception
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public String getMessage() {
+        decode();
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable getCause() {
+        decode();
+        return super.getCause();
+    }
+
+    @Override
+    public StackTraceElement[] getStackTrace() {
+        decode();
+        return super.getStackTrace();
+    }
+
+    @Override
+    public String toString() {
+        String m = getLocalizedMessage();
+        return m != null ? className + ": " + m : className;
+    }
+
+    /**
+     * The stack trace is the encoded one, set by {@link #decode()}, rather than the one of the decoding thread
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    private synchronized void decode() {
+        ByteBuffer in = remaining;
+        if (in == null) return;
+        remaining = null;
+        StackTraceElement[] stack;
+        DecodedFailureException cause;
+        try {
+            message = TryCodec.getString(in);
+            int frames = TryCodec.getVarint(in);
+            // each frame takes at least 4 bytes: don't let a corrupted count size the array
+            if (frames < 0 || frames > in.remaining() / 4) throw new IllegalArgumentException("invalid frame count");
+            stack = new StackTraceElement[frames];
+            for (int i = 0; i < stack.length; i++) {
+                String declaringClass = TryCodec.getString(in);
+                String methodName = TryCodec.getString(in);
+                String fileName = TryCodec.getString(in);
+                int line = TryCodec.getVarint(in);
+                stack[i] = new StackTraceElement(declaringClass, methodName, fileName, (line >>> 1) ^ -(line & 1));
+            }
+            cause = in.get() == 1 ? new DecodedFailureException(in.slice()) : null;
+        } catch (RuntimeException e) {
+            // the header of the record was valid but its body is not: keep what could be read
+            if (message == null) message = "undecodable exception record";
+            stack = new StackTraceElement[0];
+            cause = null;
+        }
+        setStackTrace(stack);
+        initCause(cause);
+    }
+}
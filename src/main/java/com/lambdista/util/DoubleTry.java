@@ -0,0 +1,501 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>The {@code DoubleTry} type is the {@code double} specialization of {@link Try}: it represents a computation that
+ * may fail and, if successful, produces a primitive {@code double} which is never boxed.</p>
+ * <p>
+ * <p>Use {@link DoubleTry#apply(FailableDoubleSupplier)} to create one, {@link Try#mapToDouble(java.util.function.ToDoubleFunction)}
+ * to get one from a {@code Try} and {@link #mapToObj(DoubleFunction)} or {@link #boxed()} to go back.
+ * The semantics of every method is the same as the {@link Try} method with the same name.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public abstract class DoubleTry {
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private DoubleTry() {
+    }
+
+    /**
+     * @return {@code true} if the {@code DoubleTry} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code DoubleTry} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws
+     * the exception if {@code this} is a {@code Failure}
+     * @throws GetOfFailureException if {@code this} is a {@code Failure}
+     */
+    public abstract double getAsDouble() throws GetOfFailureException;
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws the exception if {@code
+     * this} is a {@code Failure}
+     * @throws Throwable if {@code this} is a {@code Failure}
+     */
+    public abstract double checkedGetAsDouble() throws Throwable;
+
+    /**
+     * Feeds the value to {@link DoubleConsumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link DoubleConsumer} to use
+     */
+    public abstract void forEach(DoubleConsumer action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code DoubleTry} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract DoubleTry map(DoubleUnaryOperator mapper);
+
+    /**
+     * Maps the value to an object of type {@code U} by applying the {@code mapper} function to it if {@code this}
+     * is a {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return the result of applying {@code mapper} wrapped in a {@link Try} if it's a {@link Success} or
+     * the same exception wrapped in a {@link Try.Failure} if it's a {@link Failure}
+     */
+    public abstract <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    /**
+     * Maps the value to an {@code int} by applying {@code mapper} if {@code this} is a {@link Success},
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in an {@link IntTry} if it's a {@link Success}
+     * or the same exception wrapped in an {@link IntTry.Failure} if it's a {@link Failure}
+     */
+    public abstract IntTry mapToInt(DoubleToIntFunction mapper);
+
+    /**
+     * Maps the value to a {@code long} by applying {@code mapper} if {@code this} is a {@link Success},
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@link LongTry} if it's a {@link Success}
+     * or the same exception wrapped in a {@link LongTry.Failure} if it's a {@link Failure}
+     */
+    public abstract LongTry mapToLong(DoubleToLongFunction mapper);
+
+    /**
+     * Maps the value to a {@code DoubleTry} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value which produces a {@code DoubleTry}
+     * @return the result of applying {@code mapper} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link DoublePredicate} to use
+     * @return a {@code DoubleTry} which is a {@link Success} if {@code predicate}
+     * is satisfied or a {@link Failure} if either  {@code this}
+     * is already a {@link Failure} or the {@code predicate}
+     * is not satisfied.
+     */
+    public abstract DoubleTry filter(DoublePredicate predicate);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code DoubleTry} obtained by wrapping the result of applying {@code recoverFunc} to
+     * the {@link java.lang.Throwable}
+     */
+    public abstract DoubleTry recover(ToDoubleFunction<? super Throwable> recoverFunc);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code DoubleTry} obtained by applying {@code recoverFunc} to the {@link java.lang.Throwable}
+     */
+    public abstract DoubleTry recoverWith(Function<? super Throwable, ? extends DoubleTry> recoverFunc);
+
+    /**
+     * Completes {@code this} {@code DoubleTry} with an exception wrapped in a {@link Try.Success}.
+     *
+     * @return a {@code Try<Throwable>}, where {@code Throwable} is either the exception that the {@code DoubleTry}
+     * failed with (if {@code this} is a {@link Failure}) or an {@link java.lang.UnsupportedOperationException}
+     */
+    public abstract Try<Throwable> failed();
+
+    /**
+     * Converts this {@code DoubleTry} into a {@code java.util.OptionalDouble}
+     *
+     * @return {@link OptionalDouble#empty()} if {@code this} is a {@link Failure}
+     * or {@link OptionalDouble#of(double)} if {@code this} is a {@link Success}
+     */
+    public abstract OptionalDouble toOptional();
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract double getOrElse(double defaultValue);
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return {@code this} {@code DoubleTry} if it's a {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract DoubleTry orElse(DoubleTry defaultValue);
+
+    /**
+     * @return {@code this} as a {@code Try<Double>}, boxing the value if it's a {@link Success}
+     */
+    public abstract Try<Double> boxed();
+
+    /**
+     * Constructs a {@code DoubleTry} using the {@link FailableDoubleSupplier} parameter. This
+     * method will ensure any {@link java.lang.Throwable} is caught.
+     * However note that only {@link java.lang.Exception}s will be wrapped within a {@link Failure}
+     * object and returned. On the other hand any {@link java.lang.Error} will be rethrown.
+     *
+     * @param supplier the {@link FailableDoubleSupplier} to use
+     * @return a {@code DoubleTry} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static DoubleTry apply(FailableDoubleSupplier supplier) {
+        try {
+            return new Success(supplier.getAsDouble());
+        } catch (Throwable e) {
+            return new Failure(Try.nonFatal(e));
+        }
+    }
+
+    /**
+     * Represents the successful result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-16
+     */
+    public static final class Success extends DoubleTry {
+        private final double value;
+
+        public Success(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return value;
+        }
+
+        @Override
+        public double checkedGetAsDouble() {
+            return value;
+        }
+
+        @Override
+        public void forEach(DoubleConsumer action) {
+            action.accept(value);
+        }
+
+        @Override
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            try {
+                return new Success(mapper.applyAsDouble(value));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            try {
+                return new Try.Success<>(mapper.apply(value));
+            } catch (Throwable e) {
+                return new Try.Failure<>(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            try {
+                return new IntTry.Success(mapper.applyAsInt(value));
+            } catch (Throwable e) {
+                return new IntTry.Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            try {
+                return new LongTry.Success(mapper.applyAsLong(value));
+            } catch (Throwable e) {
+                return new LongTry.Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper) {
+            try {
+                return Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate predicate) {
+            try {
+                return predicate.test(value) ? this : new Failure(new Try.PredicateNotSatisfiedException(value));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry recover(ToDoubleFunction<? super Throwable> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry recoverWith(Function<? super Throwable, ? extends DoubleTry> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public Try<Throwable> failed() {
+            return new Try.Failure<>(new Try.SuccessFailedException());
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public double getOrElse(double defaultValue) {
+            return value;
+        }
+
+        @Override
+        public DoubleTry orElse(DoubleTry defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<Double> boxed() {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return Double.compare(value, success.value) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-16
+     */
+    public static final class Failure extends DoubleTry {
+        private final Throwable exception;
+        private GetOfFailureException unckeckedException;
+
+        public Failure(Throwable exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public double getAsDouble() {
+            GetOfFailureException e = unckeckedException;
+            if (e == null) {
+                e = new GetOfFailureException(exception);
+                unckeckedException = e;
+            }
+            throw e;
+        }
+
+        @Override
+        public double checkedGetAsDouble() throws Throwable {
+            throw exception;
+        }
+
+        @Override
+        public void forEach(DoubleConsumer action) {
+        }
+
+        @Override
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return new Try.Failure<>(exception);
+        }
+
+        @Override
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            return new IntTry.Failure(exception);
+        }
+
+        @Override
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            return new LongTry.Failure(exception);
+        }
+
+        @Override
+        public DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry recover(ToDoubleFunction<? super Throwable> recoverFunc) {
+            try {
+                return new Success(recoverFunc.applyAsDouble(exception));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry recoverWith(Function<? super Throwable, ? extends DoubleTry> recoverFunc) {
+            try {
+                return Objects.requireNonNull(recoverFunc.apply(exception), "recoverFunc returned null");
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public Try<Throwable> failed() {
+            return new Try.Success<>(exception);
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public double getOrElse(double defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public DoubleTry orElse(DoubleTry defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<Double> boxed() {
+            return new Try.Failure<>(exception);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return failure.exception.equals(exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.Stream;
+
+import com.lambdista.util.DoubleTry.Failure;
+import com.lambdista.util.DoubleTry.Success;
+
+/**
+ * The {@code double} specialization of {@link TryBinaryOperator}: a {@link BinaryOperator} on {@link DoubleTry} values
+ * which returns a {@link Failure} if one of the values is a failure, and passes the wrapped values to
+ * a {@link DoubleBinaryOperator} otherwise, without boxing them.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface DoubleTryBinaryOperator extends BinaryOperator<DoubleTry> {
+
+  /**
+   * Returns a {@link DoubleTryBinaryOperator} which returns either a {@link Failure},
+   * if either of the both arguments is non-successful, or passes the wrapped
+   * values to the specified {@link DoubleBinaryOperator}
+   *
+   * @param binaryOperator a {@link DoubleBinaryOperator} for operating on the wrapped
+   *          values if both represent a {@link Success}
+   * @return a {@link DoubleTryBinaryOperator} which returns a {@link Failure} if
+   *         either of its arguments is a failure, or the result of the binary
+   *         operation done by the passed {@link DoubleBinaryOperator}
+   * @throws NullPointerException if the argument is null
+   */
+  public static DoubleTryBinaryOperator of(DoubleBinaryOperator binaryOperator) {
+    Objects.requireNonNull(binaryOperator);
+    return (a, b) -> a.flatMap(x -> b.map(y -> binaryOperator.applyAsDouble(x, y)));
+  }
+
+  /**
+   * Returns a {@link DoubleTryBinaryOperator} which returns the lesser of two
+   * values, if both are a {@link Success}.
+   *
+   * @return a {@code DoubleTryBinaryOperator} which returns the lesser of its
+   *         operands or the first {@link Failure} if one is encountered.
+   */
+  public static DoubleTryBinaryOperator min() {
+    return DoubleTryBinaryOperator.of(Math::min);
+  }
+
+  /**
+   * Returns a {@link DoubleTryBinaryOperator} which returns the greater of two
+   * values, if both are a {@link Success}.
+   *
+   * @return a {@code DoubleTryBinaryOperator} which returns the greater of its
+   *         operands or the first {@link Failure} if one is encountered.
+   */
+  public static DoubleTryBinaryOperator max() {
+    return DoubleTryBinaryOperator.of(Math::max);
+  }
+
+  /**
+   * Folds the values with this operator starting from {@code identity} and
+   * stops consuming {@code values} as soon as the accumulated result is a
+   * {@link Failure}, as {@link TryBinaryOperator#fold(Try, Stream)} does.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default DoubleTry fold(DoubleTry identity, Stream<? extends DoubleTry> values) {
+    return fold(identity, Spliterators.iterator(values.spliterator()));
+  }
+
+  /**
+   * Same as {@link #fold(DoubleTry, Stream)} for an {@link Iterator}.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default DoubleTry fold(DoubleTry identity, Iterator<? extends DoubleTry> values) {
+    DoubleTry result = identity;
+    while (result.isSuccess() && values.hasNext()) {
+      result = apply(result, values.next());
+    }
+    return result;
+  }
+
+}
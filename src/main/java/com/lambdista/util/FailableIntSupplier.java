@@ -0,0 +1,34 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * This class is semantically the same as the {@link java.util.function.IntSupplier} class apart from the fact that
+ * its {@link FailableIntSupplier#getAsInt()} method may throw an {@link java.lang.Throwable}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface FailableIntSupplier {
+
+    /**
+     *
+     * @return a value of type {@code int}
+     * @throws Throwable if it fails
+     */
+    public int getAsInt() throws Throwable;
+}
@@ -2,7 +2,7 @@ package com.lambdista.util;
 
 /**
  * Custom unchecked exception to signal the invocation of the get method on a {@link com.lambdista.util.Try.Failure}
- * object.
+ * object. Whether it captures its stack trace is decided by the {@link StackTracePolicy}.
  *
  * @author Alessandro Lacava
  * @since 2015-03-04
@@ -12,7 +12,7 @@ public class GetOfFailureException extends RuntimeException {
     private static final String message = "get of a Failure object";
 
     public GetOfFailureException(Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, StackTracePolicy.captureStackTrace());
     }
 
 }
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>A hashed-wheel timer: deadlines are hashed by tick into a circular array of buckets, which a single daemon
+ * thread visits one per tick, so scheduling and cancelling a deadline cost O(1) however many are pending.</p>
+ * <p>
+ * <p>New deadlines go through a lock-free queue which the worker drains at every tick; the buckets themselves are
+ * only ever touched by the worker. Cancelled deadlines are unlinked when the worker next visits their bucket. The
+ * worker parks while nothing is pending. Tasks run in the worker thread, so they must be short; whatever a task
+ * throws, {@link Error}s included, is reported to the uncaught-exception handler and the worker goes on.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+final class HashedWheelTimer {
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private volatile boolean idle;
+
+    HashedWheelTimer(long tick, TimeUnit unit, int wheelSize, String threadName) {
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = Math.max(1, unit.toNanos(tick));
+        this.wheel = new Bucket[wheelSize];
+        this.mask = wheelSize - 1;
+        for (int i = 0; i < wheelSize; i++) wheel[i] = new Bucket();
+        this.worker = new Thread(this::work, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @return the timer shared by the whole library, ticking every millisecond
+     */
+    static HashedWheelTimer shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * @param task  the task to run once the delay has elapsed
+     * @param delay the delay
+     * @param unit  the unit of {@code delay}
+     * @return the handle to cancel the task with
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+        pending.add(timeout);
+        if (idle) LockSupport.unpark(worker);
+        return timeout;
+    }
+
+    private void work() {
+        long start = System.nanoTime();
+        long tick = 0;
+        int size = 0;
+        for (; ; ) {
+            if (size == 0 && pending.isEmpty()) {
+                idle = true;
+                while (pending.isEmpty()) LockSupport.park(this);
+                idle = false;
+                start = System.nanoTime();
+                tick = 0;
+            }
+            long wakeUp = start + (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = wakeUp - System.nanoTime()) > 0) LockSupport.parkNanos(this, sleep);
+            for (Timeout t; (t = pending.poll()) != null; ) {
+                if (t.get() != Timeout.PENDING) continue;
+                long due = Math.max(tick, (t.deadline - start + tickNanos - 1) / tickNanos - 1);
+                t.rounds = (due - tick) / wheel.length;
+                wheel[(int) (due & mask)].add(t);
+                size++;
+            }
+            size -= wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    /**
+     * A scheduled task. Its state moves from {@code PENDING} to either {@code CANCELLED} or {@code RUNNING} and
+     * then {@code DONE}.
+     */
+    static final class Timeout extends AtomicInteger {
+        static final int PENDING = 0;
+        static final int CANCELLED = 1;
+        static final int RUNNING = 2;
+        static final int DONE = 3;
+
+        private final Runnable task;
+        private final long deadline;
+        private long rounds;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return {@code true} if the task was cancelled before running, {@code false} if it already started
+         */
+        boolean cancel() {
+            return compareAndSet(PENDING, CANCELLED) || get() == CANCELLED;
+        }
+
+        /**
+         * Waits, spinning, for a task which already started to finish
+         */
+        void awaitDone() {
+            while (get() != DONE) Thread.yield();
+        }
+
+        private void expire() {
+            if (!compareAndSet(PENDING, RUNNING)) return;
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // the worker is shared by the whole library: an Error must not stop every other deadline
+                Thread thread = Thread.currentThread();
+                try {
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                } catch (Throwable ignored) {
+                    // the handler failing too leaves nothing else to report to
+                }
+            } finally {
+                set(DONE);
+            }
+        }
+    }
+
+    /**
+     * A doubly-linked list of timeouts, only accessed by the worker thread
+     */
+    private static final class Bucket {
+        private Timeout head;
+
+        void add(Timeout t) {
+            t.next = head;
+            if (head != null) head.prev = t;
+            head = t;
+        }
+
+        /**
+         * Runs the timeouts due in the current round and unlinks them along with the cancelled ones.
+         *
+         * @return the number of timeouts unlinked
+         */
+        int expire() {
+            int removed = 0;
+            for (Timeout t = head; t != null; ) {
+                Timeout next = t.next;
+                if (t.get() == Timeout.CANCELLED) {
+                    remove(t);
+                    removed++;
+                } else if (t.rounds <= 0) {
+                    remove(t);
+                    removed++;
+                    t.expire();
+                } else {
+                    t.rounds--;
+                }
+                t = next;
+            }
+            return removed;
+        }
+
+        private void remove(Timeout t) {
+            if (t.prev != null) t.prev.next = t.next;
+            else head = t.next;
+            if (t.next != null) t.next.prev = t.prev;
+            t.prev = null;
+            t.next = null;
+        }
+    }
+
+    private static final class Shared {
+        static final HashedWheelTimer INSTANCE =
+                new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 1024, "try-timer");
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Describes when {@link Try#hedge(HedgePolicy, FailableSupplier, FailableSupplier, Executor)} starts the backup
+ * supplier: after a fixed delay ({@link #after(long, TimeUnit)}) or once the primary supplier has taken longer than
+ * a given percentile of the latency observed so far ({@link #percentile(double, long, TimeUnit)}), so that only the
+ * slowest calls are hedged whatever the latency of the dependency.</p>
+ * <p>
+ * <p>A percentile policy records the latency of every successful call, measured from the start of the primary supplier
+ * even when the backup wins, in a lock-free histogram with four buckets per power of two, the one {@link TryMetrics}
+ * uses, i.e. with an error of at most 25%, which is halved every 1024 samples so that it follows the dependency as it
+ * gets faster or slower. Until 20 samples have been recorded the initial delay is used. Share a policy among the calls
+ * to the same dependency, and only among them.</p>
+ * <p>
+ * <pre>
+ * HedgePolicy p95 = HedgePolicy.percentile(0.95, 50, TimeUnit.MILLISECONDS);
+ * Try&lt;String&gt; body = Try.hedge(p95, () -&gt; fetch(replica1), () -&gt; fetch(replica2), executor);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class HedgePolicy {
+
+    private static final int MIN_SAMPLES = 20;
+    private static final int DECAY_SAMPLES = 1024;
+
+    private final long delayNanos;
+    private final double quantile;
+    private final TryMetrics.Histogram histogram;
+    private final AtomicLong samples = new AtomicLong();
+
+    private HedgePolicy(long delayNanos, double quantile) {
+        this.delayNanos = delayNanos;
+        this.quantile = quantile;
+        this.histogram = quantile > 0 ? new TryMetrics.Histogram() : null;
+    }
+
+    /**
+     * @param delay how long the primary supplier runs alone
+     * @param unit  the unit of {@code delay}
+     * @return a policy starting the backup supplier after a fixed delay
+     */
+    public static HedgePolicy after(long delay, TimeUnit unit) {
+        if (delay < 0) throw new IllegalArgumentException("delay must not be negative: " + delay);
+        return new HedgePolicy(unit.toNanos(delay), 0.0);
+    }
+
+    /**
+     * @param quantile     the percentile of the observed latency, between 0 and 1 excluded, after which the backup
+     *                     supplier is started, e.g. {@code 0.95}
+     * @param initialDelay the delay used until enough latencies have been observed
+     * @param unit         the unit of {@code initialDelay}
+     * @return a policy starting the backup supplier after the given percentile of the observed latency
+     */
+    public static HedgePolicy percentile(double quantile, long initialDelay, TimeUnit unit) {
+        if (!(quantile > 0 && quantile < 1)) {
+            throw new IllegalArgumentException("quantile must be in (0, 1): " + quantile);
+        }
+        if (initialDelay < 0) throw new IllegalArgumentException("initialDelay must not be negative: " + initialDelay);
+        return new HedgePolicy(unit.toNanos(initialDelay), quantile);
+    }
+
+    /**
+     * @param unit the unit of the result
+     * @return the delay after which the backup supplier would be started now
+     */
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(delayNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    long delayNanos() {
+        if (histogram == null || samples.get() < MIN_SAMPLES) return delayNanos;
+        long delay = histogram.valueAt(quantile);
+        return delay < 0 ? delayNanos : delay;
+    }
+
+    /**
+     * @param latencyNanos how long a successful call took, from the start of the primary supplier
+     */
+    void record(long latencyNanos) {
+        if (histogram == null) return;
+        histogram.record(latencyNanos);
+        if (samples.incrementAndGet() % DECAY_SAMPLES == 0) histogram.decay();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgePolicy{" +
+                (histogram == null ? "delay=" + delayNanos + "ns" : "quantile=" + quantile) +
+                '}';
+    }
+}
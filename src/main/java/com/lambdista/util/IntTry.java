@@ -0,0 +1,501 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>The {@code IntTry} type is the {@code int} specialization of {@link Try}: it represents a computation that
+ * may fail and, if successful, produces a primitive {@code int} which is never boxed.</p>
+ * <p>
+ * <p>Use {@link IntTry#apply(FailableIntSupplier)} to create one, {@link Try#mapToInt(java.util.function.ToIntFunction)}
+ * to get one from a {@code Try} and {@link #mapToObj(IntFunction)} or {@link #boxed()} to go back.
+ * The semantics of every method is the same as the {@link Try} method with the same name.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public abstract class IntTry {
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private IntTry() {
+    }
+
+    /**
+     * @return {@code true} if the {@code IntTry} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code IntTry} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws
+     * the exception if {@code this} is a {@code Failure}
+     * @throws GetOfFailureException if {@code this} is a {@code Failure}
+     */
+    public abstract int getAsInt() throws GetOfFailureException;
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws the exception if {@code
+     * this} is a {@code Failure}
+     * @throws Throwable if {@code this} is a {@code Failure}
+     */
+    public abstract int checkedGetAsInt() throws Throwable;
+
+    /**
+     * Feeds the value to {@link IntConsumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link IntConsumer} to use
+     */
+    public abstract void forEach(IntConsumer action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in an {@code IntTry} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract IntTry map(IntUnaryOperator mapper);
+
+    /**
+     * Maps the value to an object of type {@code U} by applying the {@code mapper} function to it if {@code this}
+     * is a {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return the result of applying {@code mapper} wrapped in a {@link Try} if it's a {@link Success} or
+     * the same exception wrapped in a {@link Try.Failure} if it's a {@link Failure}
+     */
+    public abstract <U> Try<U> mapToObj(IntFunction<? extends U> mapper);
+
+    /**
+     * Maps the value to a {@code long} by applying {@code mapper} if {@code this} is a {@link Success},
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@link LongTry} if it's a {@link Success}
+     * or the same exception wrapped in a {@link LongTry.Failure} if it's a {@link Failure}
+     */
+    public abstract LongTry mapToLong(IntToLongFunction mapper);
+
+    /**
+     * Maps the value to a {@code double} by applying {@code mapper} if {@code this} is a {@link Success},
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@link DoubleTry} if it's a {@link Success}
+     * or the same exception wrapped in a {@link DoubleTry.Failure} if it's a {@link Failure}
+     */
+    public abstract DoubleTry mapToDouble(IntToDoubleFunction mapper);
+
+    /**
+     * Maps the value to an {@code IntTry} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value which produces an {@code IntTry}
+     * @return the result of applying {@code mapper} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract IntTry flatMap(IntFunction<? extends IntTry> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link IntPredicate} to use
+     * @return an {@code IntTry} which is a {@link Success} if {@code predicate}
+     * is satisfied or a {@link Failure} if either  {@code this}
+     * is already a {@link Failure} or the {@code predicate}
+     * is not satisfied.
+     */
+    public abstract IntTry filter(IntPredicate predicate);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return an {@code IntTry} obtained by wrapping the result of applying {@code recoverFunc} to
+     * the {@link java.lang.Throwable}
+     */
+    public abstract IntTry recover(ToIntFunction<? super Throwable> recoverFunc);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return an {@code IntTry} obtained by applying {@code recoverFunc} to the {@link java.lang.Throwable}
+     */
+    public abstract IntTry recoverWith(Function<? super Throwable, ? extends IntTry> recoverFunc);
+
+    /**
+     * Completes {@code this} {@code IntTry} with an exception wrapped in a {@link Try.Success}.
+     *
+     * @return a {@code Try<Throwable>}, where {@code Throwable} is either the exception that the {@code IntTry}
+     * failed with (if {@code this} is a {@link Failure}) or an {@link java.lang.UnsupportedOperationException}
+     */
+    public abstract Try<Throwable> failed();
+
+    /**
+     * Converts this {@code IntTry} into a {@code java.util.OptionalInt}
+     *
+     * @return {@link OptionalInt#empty()} if {@code this} is a {@link Failure}
+     * or {@link OptionalInt#of(int)} if {@code this} is a {@link Success}
+     */
+    public abstract OptionalInt toOptional();
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract int getOrElse(int defaultValue);
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return {@code this} {@code IntTry} if it's a {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract IntTry orElse(IntTry defaultValue);
+
+    /**
+     * @return {@code this} as a {@code Try<Integer>}, boxing the value if it's a {@link Success}
+     */
+    public abstract Try<Integer> boxed();
+
+    /**
+     * Constructs an {@code IntTry} using the {@link FailableIntSupplier} parameter. This
+     * method will ensure any {@link java.lang.Throwable} is caught.
+     * However note that only {@link java.lang.Exception}s will be wrapped within a {@link Failure}
+     * object and returned. On the other hand any {@link java.lang.Error} will be rethrown.
+     *
+     * @param supplier the {@link FailableIntSupplier} to use
+     * @return an {@code IntTry} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static IntTry apply(FailableIntSupplier supplier) {
+        try {
+            return new Success(supplier.getAsInt());
+        } catch (Throwable e) {
+            return new Failure(Try.nonFatal(e));
+        }
+    }
+
+    /**
+     * Represents the successful result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-16
+     */
+    public static final class Success extends IntTry {
+        private final int value;
+
+        public Success(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public int getAsInt() {
+            return value;
+        }
+
+        @Override
+        public int checkedGetAsInt() {
+            return value;
+        }
+
+        @Override
+        public void forEach(IntConsumer action) {
+            action.accept(value);
+        }
+
+        @Override
+        public IntTry map(IntUnaryOperator mapper) {
+            try {
+                return new Success(mapper.applyAsInt(value));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            try {
+                return new Try.Success<>(mapper.apply(value));
+            } catch (Throwable e) {
+                return new Try.Failure<>(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            try {
+                return new LongTry.Success(mapper.applyAsLong(value));
+            } catch (Throwable e) {
+                return new LongTry.Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            try {
+                return new DoubleTry.Success(mapper.applyAsDouble(value));
+            } catch (Throwable e) {
+                return new DoubleTry.Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public IntTry flatMap(IntFunction<? extends IntTry> mapper) {
+            try {
+                return Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public IntTry filter(IntPredicate predicate) {
+            try {
+                return predicate.test(value) ? this : new Failure(new Try.PredicateNotSatisfiedException(value));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public IntTry recover(ToIntFunction<? super Throwable> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public IntTry recoverWith(Function<? super Throwable, ? extends IntTry> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public Try<Throwable> failed() {
+            return new Try.Failure<>(new Try.SuccessFailedException());
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public int getOrElse(int defaultValue) {
+            return value;
+        }
+
+        @Override
+        public IntTry orElse(IntTry defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<Integer> boxed() {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return value == success.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-16
+     */
+    public static final class Failure extends IntTry {
+        private final Throwable exception;
+        private GetOfFailureException unckeckedException;
+
+        public Failure(Throwable exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public int getAsInt() {
+            GetOfFailureException e = unckeckedException;
+            if (e == null) {
+                e = new GetOfFailureException(exception);
+                unckeckedException = e;
+            }
+            throw e;
+        }
+
+        @Override
+        public int checkedGetAsInt() throws Throwable {
+            throw exception;
+        }
+
+        @Override
+        public void forEach(IntConsumer action) {
+        }
+
+        @Override
+        public IntTry map(IntUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            return new Try.Failure<>(exception);
+        }
+
+        @Override
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            return new LongTry.Failure(exception);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            return new DoubleTry.Failure(exception);
+        }
+
+        @Override
+        public IntTry flatMap(IntFunction<? extends IntTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public IntTry filter(IntPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public IntTry recover(ToIntFunction<? super Throwable> recoverFunc) {
+            try {
+                return new Success(recoverFunc.applyAsInt(exception));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public IntTry recoverWith(Function<? super Throwable, ? extends IntTry> recoverFunc) {
+            try {
+                return Objects.requireNonNull(recoverFunc.apply(exception), "recoverFunc returned null");
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public Try<Throwable> failed() {
+            return new Try.Success<>(exception);
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public int getOrElse(int defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public IntTry orElse(IntTry defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<Integer> boxed() {
+            return new Try.Failure<>(exception);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return failure.exception.equals(exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "exception=" + exception +
+                    '}';
+        }
+    }
+}
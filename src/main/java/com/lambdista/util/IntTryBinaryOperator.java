@@ -0,0 +1,106 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.Stream;
+
+import com.lambdista.util.IntTry.Failure;
+import com.lambdista.util.IntTry.Success;
+
+/**
+ * The {@code int} specialization of {@link TryBinaryOperator}: a {@link BinaryOperator} on {@link IntTry} values
+ * which returns a {@link Failure} if one of the values is a failure, and passes the wrapped values to
+ * an {@link IntBinaryOperator} otherwise, without boxing them.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface IntTryBinaryOperator extends BinaryOperator<IntTry> {
+
+  /**
+   * Returns an {@link IntTryBinaryOperator} which returns either a {@link Failure},
+   * if either of the both arguments is non-successful, or passes the wrapped
+   * values to the specified {@link IntBinaryOperator}
+   *
+   * @param binaryOperator an {@link IntBinaryOperator} for operating on the wrapped
+   *          values if both represent a {@link Success}
+   * @return an {@link IntTryBinaryOperator} which returns a {@link Failure} if
+   *         either of its arguments is a failure, or the result of the binary
+   *         operation done by the passed {@link IntBinaryOperator}
+   * @throws NullPointerException if the argument is null
+   */
+  public static IntTryBinaryOperator of(IntBinaryOperator binaryOperator) {
+    Objects.requireNonNull(binaryOperator);
+    return (a, b) -> a.flatMap(x -> b.map(y -> binaryOperator.applyAsInt(x, y)));
+  }
+
+  /**
+   * Returns an {@link IntTryBinaryOperator} which returns the lesser of two
+   * values, if both are a {@link Success}.
+   *
+   * @return an {@code IntTryBinaryOperator} which returns the lesser of its
+   *         operands or the first {@link Failure} if one is encountered.
+   */
+  public static IntTryBinaryOperator min() {
+    return IntTryBinaryOperator.of(Math::min);
+  }
+
+  /**
+   * Returns an {@link IntTryBinaryOperator} which returns the greater of two
+   * values, if both are a {@link Success}.
+   *
+   * @return an {@code IntTryBinaryOperator} which returns the greater of its
+   *         operands or the first {@link Failure} if one is encountered.
+   */
+  public static IntTryBinaryOperator max() {
+    return IntTryBinaryOperator.of(Math::max);
+  }
+
+  /**
+   * Folds the values with this operator starting from {@code identity} and
+   * stops consuming {@code values} as soon as the accumulated result is a
+   * {@link Failure}, as {@link TryBinaryOperator#fold(Try, Stream)} does.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default IntTry fold(IntTry identity, Stream<? extends IntTry> values) {
+    return fold(identity, Spliterators.iterator(values.spliterator()));
+  }
+
+  /**
+   * Same as {@link #fold(IntTry, Stream)} for an {@link Iterator}.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default IntTry fold(IntTry identity, Iterator<? extends IntTry> values) {
+    IntTry result = identity;
+    while (result.isSuccess() && values.hasNext()) {
+      result = apply(result, values.next());
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@link TryHook} behind {@link TryFlightRecorder}, along with its events. It's only loaded, by name, once Flight
+ * Recorder is known to be available, and only compiled by the {@code jfr} Maven profile, since the jdk.jfr API is
+ * missing from Java 8 before 8u262. It listens to the recordings and keeps itself registered while any of them is
+ * running.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class JfrSupport implements TryHook, FlightRecorderListener, TryFlightRecorder.Installation {
+
+    private final long failureThresholdNanos;
+    private final long slowThresholdNanos;
+    private boolean registered;
+    private boolean stopped;
+
+    JfrSupport(long failureThresholdNanos, long slowThresholdNanos) {
+        this.failureThresholdNanos = failureThresholdNanos;
+        this.slowThresholdNanos = slowThresholdNanos;
+    }
+
+    @Override
+    public void start() {
+        FlightRecorder.addListener(this);
+        if (FlightRecorder.isInitialized()) update();
+    }
+
+    @Override
+    public void stop() {
+        FlightRecorder.removeListener(this);
+        synchronized (this) {
+            stopped = true;
+            setRegistered(false);
+        }
+    }
+
+    @Override
+    public void recordingStateChanged(Recording recording) {
+        update();
+    }
+
+    /**
+     * Registers or unregisters the hook according to the running recordings. Flight Recorder is queried without
+     * holding the lock of {@code this}, since it may notify the listeners while holding its own locks.
+     */
+    private void update() {
+        boolean running = false;
+        for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+            running |= recording.getState() == RecordingState.RUNNING;
+        }
+        synchronized (this) {
+            if (!stopped) setRegistered(running);
+        }
+    }
+
+    private void setRegistered(boolean register) {
+        if (register == registered) return;
+        registered = register;
+        if (register) TryHooks.register(this);
+        else TryHooks.unregister(this);
+    }
+
+    @Override
+    public void onSuccess(String operation, long durationNanos) {
+        slow(operation, null, durationNanos);
+    }
+
+    @Override
+    public void onFailure(String operation, Throwable exception, long durationNanos) {
+        failure(operation, exception, durationNanos);
+        slow(operation, exception, durationNanos);
+    }
+
+    @Override
+    public void onRecovery(String operation, Throwable recovered, long durationNanos) {
+        recovery(operation, recovered, true, durationNanos);
+        slow(operation, null, durationNanos);
+    }
+
+    @Override
+    public void onRecoveryFailure(String operation, Throwable recovering, Throwable exception, long durationNanos) {
+        recovery(operation, recovering, false, durationNanos);
+        onFailure(operation, exception, durationNanos);
+    }
+
+    private void failure(String operation, Throwable exception, long durationNanos) {
+        if (durationNanos < failureThresholdNanos) return;
+        FailureEvent event = new FailureEvent();
+        if (!event.isEnabled()) return;
+        event.operation = operation;
+        event.exceptionClass = exception.getClass();
+        event.message = exception.getMessage();
+        event.operationDuration = durationNanos;
+        event.commit();
+    }
+
+    private static void recovery(String operation, Throwable recovering, boolean recovered, long durationNanos) {
+        RecoveryEvent event = new RecoveryEvent();
+        if (!event.isEnabled()) return;
+        event.operation = operation;
+        event.exceptionClass = recovering.getClass();
+        event.recovered = recovered;
+        event.operationDuration = durationNanos;
+        event.commit();
+    }
+
+    private void slow(String operation, Throwable exception, long durationNanos) {
+        if (durationNanos < slowThresholdNanos) return;
+        SlowOperationEvent event = new SlowOperationEvent();
+        if (!event.isEnabled()) return;
+        event.operation = operation;
+        event.exceptionClass = exception == null ? null : exception.getClass();
+        event.operationDuration = durationNanos;
+        event.commit();
+    }
+
+    @Name("com.lambdista.util.TryFailure")
+    @Label("Try Failure")
+    @Category({"Lambdista", "Try"})
+    @Description("An exception captured into a Try.Failure")
+    static final class FailureEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Message")
+        String message;
+
+        @Label("Operation Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long operationDuration;
+    }
+
+    @Name("com.lambdista.util.TryRecovery")
+    @Label("Try Recovery")
+    @Category({"Lambdista", "Try"})
+    @Description("A Try.Failure handled by recover or recoverWith")
+    static final class RecoveryEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Exception Class")
+        @Description("The class of the exception being recovered")
+        Class<?> exceptionClass;
+
+        @Label("Recovered")
+        @Description("Whether the recovery produced a Try.Success")
+        boolean recovered;
+
+        @Label("Operation Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long operationDuration;
+    }
+
+    @Name("com.lambdista.util.TrySlowOperation")
+    @Label("Try Slow Operation")
+    @Category({"Lambdista", "Try"})
+    @Description("A Try operation slower than the configured threshold")
+    static final class SlowOperationEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Exception Class")
+        @Description("The class of the exception the operation failed with, if any")
+        Class<?> exceptionClass;
+
+        @Label("Operation Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long operationDuration;
+    }
+}
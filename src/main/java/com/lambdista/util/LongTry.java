@@ -0,0 +1,501 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>The {@code LongTry} type is the {@code long} specialization of {@link Try}: it represents a computation that
+ * may fail and, if successful, produces a primitive {@code long} which is never boxed.</p>
+ * <p>
+ * <p>Use {@link LongTry#apply(FailableLongSupplier)} to create one, {@link Try#mapToLong(java.util.function.ToLongFunction)}
+ * to get one from a {@code Try} and {@link #mapToObj(LongFunction)} or {@link #boxed()} to go back.
+ * The semantics of every method is the same as the {@link Try} method with the same name.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public abstract class LongTry {
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private LongTry() {
+    }
+
+    /**
+     * @return {@code true} if the {@code LongTry} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code LongTry} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws
+     * the exception if {@code this} is a {@code Failure}
+     * @throws GetOfFailureException if {@code this} is a {@code Failure}
+     */
+    public abstract long getAsLong() throws GetOfFailureException;
+
+    /**
+     * @return the value wrapped within {@code Success} if it's a {@code Success} or throws the exception if {@code
+     * this} is a {@code Failure}
+     * @throws Throwable if {@code this} is a {@code Failure}
+     */
+    public abstract long checkedGetAsLong() throws Throwable;
+
+    /**
+     * Feeds the value to {@link LongConsumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link LongConsumer} to use
+     */
+    public abstract void forEach(LongConsumer action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@code LongTry} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract LongTry map(LongUnaryOperator mapper);
+
+    /**
+     * Maps the value to an object of type {@code U} by applying the {@code mapper} function to it if {@code this}
+     * is a {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return the result of applying {@code mapper} wrapped in a {@link Try} if it's a {@link Success} or
+     * the same exception wrapped in a {@link Try.Failure} if it's a {@link Failure}
+     */
+    public abstract <U> Try<U> mapToObj(LongFunction<? extends U> mapper);
+
+    /**
+     * Maps the value to an {@code int} by applying {@code mapper} if {@code this} is a {@link Success},
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in an {@link IntTry} if it's a {@link Success}
+     * or the same exception wrapped in an {@link IntTry.Failure} if it's a {@link Failure}
+     */
+    public abstract IntTry mapToInt(LongToIntFunction mapper);
+
+    /**
+     * Maps the value to a {@code double} by applying {@code mapper} if {@code this} is a {@link Success},
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value
+     * @return the result of applying {@code mapper} wrapped in a {@link DoubleTry} if it's a {@link Success}
+     * or the same exception wrapped in a {@link DoubleTry.Failure} if it's a {@link Failure}
+     */
+    public abstract DoubleTry mapToDouble(LongToDoubleFunction mapper);
+
+    /**
+     * Maps the value to a {@code LongTry} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value which produces a {@code LongTry}
+     * @return the result of applying {@code mapper} if it's a {@link Success} or
+     * {@code this} if it's a  {@link Failure}
+     */
+    public abstract LongTry flatMap(LongFunction<? extends LongTry> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link LongPredicate} to use
+     * @return a {@code LongTry} which is a {@link Success} if {@code predicate}
+     * is satisfied or a {@link Failure} if either  {@code this}
+     * is already a {@link Failure} or the {@code predicate}
+     * is not satisfied.
+     */
+    public abstract LongTry filter(LongPredicate predicate);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code LongTry} obtained by wrapping the result of applying {@code recoverFunc} to
+     * the {@link java.lang.Throwable}
+     */
+    public abstract LongTry recover(ToLongFunction<? super Throwable> recoverFunc);
+
+    /**
+     * Applies the given function {@code recoverFunc} if {@code this} is a {@link Failure},
+     * otherwise returns {@code this} if {@code this} is a {@link Success}.
+     *
+     * @param recoverFunc the function to apply if {@code this} is a {@link Failure}
+     * @return a {@code LongTry} obtained by applying {@code recoverFunc} to the {@link java.lang.Throwable}
+     */
+    public abstract LongTry recoverWith(Function<? super Throwable, ? extends LongTry> recoverFunc);
+
+    /**
+     * Completes {@code this} {@code LongTry} with an exception wrapped in a {@link Try.Success}.
+     *
+     * @return a {@code Try<Throwable>}, where {@code Throwable} is either the exception that the {@code LongTry}
+     * failed with (if {@code this} is a {@link Failure}) or an {@link java.lang.UnsupportedOperationException}
+     */
+    public abstract Try<Throwable> failed();
+
+    /**
+     * Converts this {@code LongTry} into a {@code java.util.OptionalLong}
+     *
+     * @return {@link OptionalLong#empty()} if {@code this} is a {@link Failure}
+     * or {@link OptionalLong#of(long)} if {@code this} is a {@link Success}
+     */
+    public abstract OptionalLong toOptional();
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return the value from {@code this} {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract long getOrElse(long defaultValue);
+
+    /**
+     * @param defaultValue the default value to return if {@code this} is a {@link Failure}
+     * @return {@code this} {@code LongTry} if it's a {@link Success} or the given {@code defaultValue}
+     * argument if {@code this} is a {@link Failure}
+     */
+    public abstract LongTry orElse(LongTry defaultValue);
+
+    /**
+     * @return {@code this} as a {@code Try<Long>}, boxing the value if it's a {@link Success}
+     */
+    public abstract Try<Long> boxed();
+
+    /**
+     * Constructs a {@code LongTry} using the {@link FailableLongSupplier} parameter. This
+     * method will ensure any {@link java.lang.Throwable} is caught.
+     * However note that only {@link java.lang.Exception}s will be wrapped within a {@link Failure}
+     * object and returned. On the other hand any {@link java.lang.Error} will be rethrown.
+     *
+     * @param supplier the {@link FailableLongSupplier} to use
+     * @return a {@code LongTry} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static LongTry apply(FailableLongSupplier supplier) {
+        try {
+            return new Success(supplier.getAsLong());
+        } catch (Throwable e) {
+            return new Failure(Try.nonFatal(e));
+        }
+    }
+
+    /**
+     * Represents the successful result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-16
+     */
+    public static final class Success extends LongTry {
+        private final long value;
+
+        public Success(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public long getAsLong() {
+            return value;
+        }
+
+        @Override
+        public long checkedGetAsLong() {
+            return value;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            action.accept(value);
+        }
+
+        @Override
+        public LongTry map(LongUnaryOperator mapper) {
+            try {
+                return new Success(mapper.applyAsLong(value));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            try {
+                return new Try.Success<>(mapper.apply(value));
+            } catch (Throwable e) {
+                return new Try.Failure<>(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            try {
+                return new IntTry.Success(mapper.applyAsInt(value));
+            } catch (Throwable e) {
+                return new IntTry.Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            try {
+                return new DoubleTry.Success(mapper.applyAsDouble(value));
+            } catch (Throwable e) {
+                return new DoubleTry.Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry flatMap(LongFunction<? extends LongTry> mapper) {
+            try {
+                return Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry filter(LongPredicate predicate) {
+            try {
+                return predicate.test(value) ? this : new Failure(new Try.PredicateNotSatisfiedException(value));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry recover(ToLongFunction<? super Throwable> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public LongTry recoverWith(Function<? super Throwable, ? extends LongTry> recoverFunc) {
+            return this;
+        }
+
+        @Override
+        public Try<Throwable> failed() {
+            return new Try.Failure<>(new Try.SuccessFailedException());
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public long getOrElse(long defaultValue) {
+            return value;
+        }
+
+        @Override
+        public LongTry orElse(LongTry defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<Long> boxed() {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return value == success.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed result of a computation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-16
+     */
+    public static final class Failure extends LongTry {
+        private final Throwable exception;
+        private GetOfFailureException unckeckedException;
+
+        public Failure(Throwable exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public long getAsLong() {
+            GetOfFailureException e = unckeckedException;
+            if (e == null) {
+                e = new GetOfFailureException(exception);
+                unckeckedException = e;
+            }
+            throw e;
+        }
+
+        @Override
+        public long checkedGetAsLong() throws Throwable {
+            throw exception;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+        }
+
+        @Override
+        public LongTry map(LongUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            return new Try.Failure<>(exception);
+        }
+
+        @Override
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            return new IntTry.Failure(exception);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            return new DoubleTry.Failure(exception);
+        }
+
+        @Override
+        public LongTry flatMap(LongFunction<? extends LongTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public LongTry filter(LongPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public LongTry recover(ToLongFunction<? super Throwable> recoverFunc) {
+            try {
+                return new Success(recoverFunc.applyAsLong(exception));
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry recoverWith(Function<? super Throwable, ? extends LongTry> recoverFunc) {
+            try {
+                return Objects.requireNonNull(recoverFunc.apply(exception), "recoverFunc returned null");
+            } catch (Throwable e) {
+                return new Failure(Try.nonFatal(e));
+            }
+        }
+
+        @Override
+        public Try<Throwable> failed() {
+            return new Try.Success<>(exception);
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public long getOrElse(long defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public LongTry orElse(LongTry defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<Long> boxed() {
+            return new Try.Failure<>(exception);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return failure.exception.equals(exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.Stream;
+
+import com.lambdista.util.LongTry.Failure;
+import com.lambdista.util.LongTry.Success;
+
+/**
+ * The {@code long} specialization of {@link TryBinaryOperator}: a {@link BinaryOperator} on {@link LongTry} values
+ * which returns a {@link Failure} if one of the values is a failure, and passes the wrapped values to
+ * a {@link LongBinaryOperator} otherwise, without boxing them.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface LongTryBinaryOperator extends BinaryOperator<LongTry> {
+
+  /**
+   * Returns a {@link LongTryBinaryOperator} which returns either a {@link Failure},
+   * if either of the both arguments is non-successful, or passes the wrapped
+   * values to the specified {@link LongBinaryOperator}
+   *
+   * @param binaryOperator a {@link LongBinaryOperator} for operating on the wrapped
+   *          values if both represent a {@link Success}
+   * @return a {@link LongTryBinaryOperator} which returns a {@link Failure} if
+   *         either of its arguments is a failure, or the result of the binary
+   *         operation done by the passed {@link LongBinaryOperator}
+   * @throws NullPointerException if the argument is null
+   */
+  public static LongTryBinaryOperator of(LongBinaryOperator binaryOperator) {
+    Objects.requireNonNull(binaryOperator);
+    return (a, b) -> a.flatMap(x -> b.map(y -> binaryOperator.applyAsLong(x, y)));
+  }
+
+  /**
+   * Returns a {@link LongTryBinaryOperator} which returns the lesser of two
+   * values, if both are a {@link Success}.
+   *
+   * @return a {@code LongTryBinaryOperator} which returns the lesser of its
+   *         operands or the first {@link Failure} if one is encountered.
+   */
+  public static LongTryBinaryOperator min() {
+    return LongTryBinaryOperator.of(Math::min);
+  }
+
+  /**
+   * Returns a {@link LongTryBinaryOperator} which returns the greater of two
+   * values, if both are a {@link Success}.
+   *
+   * @return a {@code LongTryBinaryOperator} which returns the greater of its
+   *         operands or the first {@link Failure} if one is encountered.
+   */
+  public static LongTryBinaryOperator max() {
+    return LongTryBinaryOperator.of(Math::max);
+  }
+
+  /**
+   * Folds the values with this operator starting from {@code identity} and
+   * stops consuming {@code values} as soon as the accumulated result is a
+   * {@link Failure}, as {@link TryBinaryOperator#fold(Try, Stream)} does.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default LongTry fold(LongTry identity, Stream<? extends LongTry> values) {
+    return fold(identity, Spliterators.iterator(values.spliterator()));
+  }
+
+  /**
+   * Same as {@link #fold(LongTry, Stream)} for an {@link Iterator}.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default LongTry fold(LongTry identity, Iterator<? extends LongTry> values) {
+    LongTry result = identity;
+    while (result.isSuccess() && values.hasNext()) {
+      result = apply(result, values.next());
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Custom unchecked exception gathering several failures, each of which is added as a suppressed exception. It is
+ * produced by the operations which keep going after the first {@link com.lambdista.util.Try.Failure}, such as
+ * {@link Try#sequenceAll(Iterable)}. Whether it captures its stack trace is decided by the {@link StackTracePolicy}.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class MultipleFailuresException extends RuntimeException {
+
+    public MultipleFailuresException(List<? extends Throwable> failures) {
+        super(failures.size() + (failures.size() == 1 ? " failure" : " failures"), null, true,
+                StackTracePolicy.captureStackTrace());
+        for (Throwable failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+
+    /**
+     * @return the gathered failures, in the order they were encountered
+     */
+    public List<Throwable> getFailures() {
+        return Arrays.asList(getSuppressed());
+    }
+
+}
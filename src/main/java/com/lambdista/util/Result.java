@@ -0,0 +1,544 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>The {@code Result} type represents the outcome of an operation which either produces a value of type {@code T},
+ * wrapped in a {@link Success}, or an error of type {@code E}, wrapped in a {@link Failure}. Unlike {@link Try} the
+ * error can be anything: an enum, a message, a domain object. Expected, frequent errors such as a failed validation
+ * or a missing record can therefore be reported without creating a {@link Throwable}, and without paying for its
+ * stack trace.</p>
+ * <p>
+ * <p>{@code Result} has the same combinators as {@code Try}, plus {@link #mapError(Function)} and
+ * {@link #fold(Function, Function)}. Since errors are values, the functions passed to a {@code Result} are not
+ * guarded: an exception they throw reaches the caller. Use {@link #fromTry(Try)} and {@link #toTry(Function)} where a
+ * {@code Result} meets code which may throw.</p>
+ * <p>
+ * <p>{@link #validate(Object, Function[])}, {@link #combine(Result, Result, BiFunction)},
+ * {@link #sequenceAll(Iterable)} and {@link #traverseAll(Iterable, Function)} accumulate all the errors in a
+ * {@link List} rather than stopping at the first one:</p>
+ * <p>
+ * <pre>
+ * Result&lt;Form, List&lt;String&gt;&gt; form = Result.validate(input, this::checkName, this::checkAge);
+ * </pre>
+ *
+ * @param <T> the type of the value
+ * @param <E> the type of the error
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public abstract class Result<T, E> {
+    /**
+     * Ensures that the only possible instances of this class
+     * are either {@link Success} or {@link Failure}
+     */
+    private Result() {
+    }
+
+    /**
+     * @return {@code true} if the {@code Result} is a {@code Success}, {@code false} if it's a {@code Failure}
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return {@code true} if the {@code Result} is a {@code Failure}, {@code false} if it's a {@code Success}
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return the value wrapped within {@code Success}
+     * @throws NoSuchElementException if {@code this} is a {@code Failure}
+     */
+    public abstract T get();
+
+    /**
+     * @return the error wrapped within {@code Failure}
+     * @throws NoSuchElementException if {@code this} is a {@code Success}
+     */
+    public abstract E getError();
+
+    /**
+     * Feeds the value to {@link Consumer}'s {@code accept} method if {@code this} is
+     * a {@link Success}. If {@code this} is a  {@link Failure} it takes no action
+     *
+     * @param action the {@link Consumer} to use
+     */
+    public abstract void forEach(Consumer<? super T> action);
+
+    /**
+     * Maps the value by applying the {@code mapper} function to it if {@code this} is a {@link Success}
+     * otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @param <U>    the type of the mapped value
+     * @return the result of applying {@code mapper} wrapped in a {@link Success} or {@code this} if it's a
+     * {@link Failure}
+     */
+    public abstract <U> Result<U, E> map(Function<? super T, ? extends U> mapper);
+
+    /**
+     * Maps the error by applying the {@code mapper} function to it if {@code this} is a {@link Failure}
+     * otherwise it takes no action if {@code this} is a {@link Success}
+     *
+     * @param mapper a function to apply to the error of type {@code E}
+     * @param <F>    the type of the mapped error
+     * @return the result of applying {@code mapper} wrapped in a {@link Failure} or {@code this} if it's a
+     * {@link Success}
+     */
+    public abstract <F> Result<T, F> mapError(Function<? super E, ? extends F> mapper);
+
+    /**
+     * Maps the value to a {@code Result} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}
+     *
+     * @param mapper a function to apply to the value of type {@code T} which produces a {@code Result}
+     * @param <U>    the type of the value of the produced {@code Result}
+     * @return the result of applying {@code mapper} or {@code this} if it's a {@link Failure}
+     */
+    public abstract <U> Result<U, E> flatMap(Function<? super T, ? extends Result<U, E>> mapper);
+
+    /**
+     * Converts {@code this} to a {@link Failure} if the predicate is not satisfied.
+     *
+     * @param predicate the {@link Predicate} to use
+     * @param error     produces the error of the {@link Failure} from the value not satisfying {@code predicate}
+     * @return {@code this} if it's a {@link Failure} or {@code predicate} holds, a {@link Failure} otherwise
+     */
+    public abstract Result<T, E> filter(Predicate<? super T> predicate, Function<? super T, ? extends E> error);
+
+    /**
+     * Turns a {@link Failure} into a {@link Success} by applying {@code recoverFunc} to its error. It takes no
+     * action if {@code this} is a {@link Success}
+     *
+     * @param recoverFunc the function producing a value from the error
+     * @return {@code this} if it's a {@link Success} or the value produced by {@code recoverFunc} wrapped in a
+     * {@link Success}
+     */
+    public abstract Result<T, E> recover(Function<? super E, ? extends T> recoverFunc);
+
+    /**
+     * Replaces a {@link Failure} with the {@code Result} produced by applying {@code recoverFunc} to its error.
+     * It takes no action if {@code this} is a {@link Success}
+     *
+     * @param recoverFunc the function producing a {@code Result} from the error
+     * @param <F>         the type of the error of the produced {@code Result}
+     * @return {@code this} if it's a {@link Success} or the {@code Result} produced by {@code recoverFunc}
+     */
+    public abstract <F> Result<T, F> recoverWith(Function<? super E, ? extends Result<T, F>> recoverFunc);
+
+    /**
+     * Reduces {@code this} to a single value, whichever the outcome.
+     *
+     * @param successFunc the function to apply to the value if {@code this} is a {@link Success}
+     * @param failureFunc the function to apply to the error if {@code this} is a {@link Failure}
+     * @param <R>         the type of the reduced value
+     * @return the result of applying the function matching the outcome
+     */
+    public abstract <R> R fold(Function<? super T, ? extends R> successFunc,
+                               Function<? super E, ? extends R> failureFunc);
+
+    /**
+     * @return {@code Optional} with the value if it's a {@link Success} or {@code Optional.empty()} if it's a
+     * {@link Failure} or the value is {@code null}
+     */
+    public abstract Optional<T> toOptional();
+
+    /**
+     * @param defaultValue the value to return if {@code this} is a {@link Failure}
+     * @return the value if it's a {@link Success} or {@code defaultValue} if it's a {@link Failure}
+     */
+    public abstract T getOrElse(T defaultValue);
+
+    /**
+     * @param defaultValue the {@code Result} to return if {@code this} is a {@link Failure}
+     * @return {@code this} if it's a {@link Success} or {@code defaultValue} if it's a {@link Failure}
+     */
+    public abstract Result<T, E> orElse(Result<T, E> defaultValue);
+
+    /**
+     * Converts {@code this} to a {@link Try}. This is where an exception is finally created, if needed.
+     *
+     * @param toException produces the exception of the {@link Try.Failure} from the error
+     * @return a {@link Try.Success} holding the value or a {@link Try.Failure} holding the exception produced by
+     * {@code toException}
+     */
+    public abstract Try<T> toTry(Function<? super E, ? extends Throwable> toException);
+
+    /**
+     * Converts a {@link Try} to a {@code Result} whose error is the exception of the {@link Try.Failure}. No
+     * exception is created.
+     *
+     * @param t   the {@code Try} to convert
+     * @param <T> the type of the value
+     * @return a {@link Success} holding the value or a {@link Failure} holding the exception of {@code t}
+     */
+    public static <T> Result<T, Throwable> fromTry(Try<? extends T> t) {
+        if (t instanceof Try.Failure) return new Failure<>(((Try.Failure<?>) t).exception());
+        return new Success<>(t.get());
+    }
+
+    /**
+     * Converts a {@code Result} whose error is an exception to a {@link Try}, the inverse of {@link #fromTry(Try)}.
+     *
+     * @param result the {@code Result} to convert
+     * @param <T>    the type of the value
+     * @return a {@link Try.Success} holding the value or a {@link Try.Failure} holding the exception of
+     * {@code result}
+     */
+    public static <T> Try<T> toTry(Result<? extends T, ? extends Throwable> result) {
+        if (result instanceof Failure) return new Try.Failure<>(result.getError());
+        return new Try.Success<>(result.get());
+    }
+
+    /**
+     * Runs every check against {@code value} and gathers all the errors they report.
+     *
+     * @param value  the value to check
+     * @param checks the checks, each producing a {@link Failure} if {@code value} does not pass it
+     * @param <T>    the type of the value
+     * @param <E>    the type of the errors
+     * @return a {@link Success} holding {@code value} if it passes every check, or a {@link Failure} holding the
+     * errors in the order of {@code checks}
+     */
+    @SafeVarargs
+    public static <T, E> Result<T, List<E>> validate(T value,
+                                                     Function<? super T, ? extends Result<?, ? extends E>>... checks) {
+        List<E> errors = null;
+        for (Function<? super T, ? extends Result<?, ? extends E>> check : checks) {
+            Result<?, ? extends E> result = check.apply(value);
+            if (result instanceof Failure) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(result.getError());
+            }
+        }
+        return errors == null ? new Success<>(value) : new Failure<>(errors);
+    }
+
+    /**
+     * Combines two independent {@code Result}s, gathering the errors of both if neither succeeds.
+     *
+     * @param first   the first {@code Result}
+     * @param second  the second {@code Result}
+     * @param combine the function combining the two values
+     * @param <A>     the type of the first value
+     * @param <B>     the type of the second value
+     * @param <R>     the type of the combined value
+     * @param <E>     the type of the errors
+     * @return a {@link Success} holding the combined value if both succeeded, or a {@link Failure} holding their
+     * errors
+     */
+    public static <A, B, R, E> Result<R, List<E>> combine(Result<? extends A, ? extends E> first,
+                                                          Result<? extends B, ? extends E> second,
+                                                          BiFunction<? super A, ? super B, ? extends R> combine) {
+        if (first instanceof Success && second instanceof Success) {
+            return new Success<>(combine.apply(first.get(), second.get()));
+        }
+        List<E> errors = new ArrayList<>(2);
+        if (first instanceof Failure) errors.add(first.getError());
+        if (second instanceof Failure) errors.add(second.getError());
+        return new Failure<>(errors);
+    }
+
+    /**
+     * Transforms an {@link Iterable} of {@code Result}s into a {@code Result} of a {@link List}, gathering all the
+     * errors rather than stopping at the first one.
+     *
+     * @param results the {@code Result}s to gather
+     * @param <T>     the type of the values
+     * @param <E>     the type of the errors
+     * @return a {@link Success} holding the values, in order, if every {@code Result} succeeded, or a
+     * {@link Failure} holding the errors, in order
+     */
+    public static <T, E> Result<List<T>, List<E>> sequenceAll(
+            Iterable<? extends Result<? extends T, ? extends E>> results) {
+        return traverseAll(results, Function.identity());
+    }
+
+    /**
+     * Applies {@code mapper} to every value and gathers the produced {@code Result}s as
+     * {@link #sequenceAll(Iterable)} does.
+     *
+     * @param values the values to map
+     * @param mapper the function producing a {@code Result} from each value
+     * @param <T>    the type of the values
+     * @param <R>    the type of the values of the produced {@code Result}s
+     * @param <E>    the type of the errors
+     * @return a {@link Success} holding the mapped values, in order, if every {@code Result} succeeded, or a
+     * {@link Failure} holding the errors, in order
+     */
+    public static <T, R, E> Result<List<R>, List<E>> traverseAll(
+            Iterable<? extends T> values, Function<? super T, ? extends Result<? extends R, ? extends E>> mapper) {
+        List<R> results = new ArrayList<>();
+        List<E> errors = null;
+        for (T value : values) {
+            Result<? extends R, ? extends E> result = mapper.apply(value);
+            if (result instanceof Failure) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(result.getError());
+            } else if (errors == null) {
+                results.add(result.get());
+            }
+        }
+        return errors == null ? new Success<>(results) : new Failure<>(errors);
+    }
+
+    /**
+     * Represents the successful outcome of an operation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Success<T, E> extends Result<T, E> {
+        private final T value;
+
+        public Success(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public E getError() {
+            throw new NoSuchElementException("getError of a Success object");
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            action.accept(value);
+        }
+
+        @Override
+        public <U> Result<U, E> map(Function<? super T, ? extends U> mapper) {
+            return new Success<>(mapper.apply(value));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <F> Result<T, F> mapError(Function<? super E, ? extends F> mapper) {
+            return (Result<T, F>) this;
+        }
+
+        @Override
+        public <U> Result<U, E> flatMap(Function<? super T, ? extends Result<U, E>> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public Result<T, E> filter(Predicate<? super T> predicate, Function<? super T, ? extends E> error) {
+            return predicate.test(value) ? this : new Failure<>(error.apply(value));
+        }
+
+        @Override
+        public Result<T, E> recover(Function<? super E, ? extends T> recoverFunc) {
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <F> Result<T, F> recoverWith(Function<? super E, ? extends Result<T, F>> recoverFunc) {
+            return (Result<T, F>) this;
+        }
+
+        @Override
+        public <R> R fold(Function<? super T, ? extends R> successFunc,
+                          Function<? super E, ? extends R> failureFunc) {
+            return successFunc.apply(value);
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.ofNullable(value);
+        }
+
+        @Override
+        public T getOrElse(T defaultValue) {
+            return value;
+        }
+
+        @Override
+        public Result<T, E> orElse(Result<T, E> defaultValue) {
+            return this;
+        }
+
+        @Override
+        public Try<T> toTry(Function<? super E, ? extends Throwable> toException) {
+            return new Try.Success<>(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Success success = (Success) o;
+
+            return Objects.equals(value, success.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+
+    /**
+     * Represents the failed outcome of an operation
+     *
+     * @author Alessandro Lacava
+     * @since 2026-10-17
+     */
+    public static final class Failure<T, E> extends Result<T, E> {
+        private final E error;
+
+        public Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public T get() {
+            throw new NoSuchElementException("get of a Failure object: " + error);
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <U> Result<U, E> map(Function<? super T, ? extends U> mapper) {
+            return (Result<U, E>) this;
+        }
+
+        @Override
+        public <F> Result<T, F> mapError(Function<? super E, ? extends F> mapper) {
+            return new Failure<>(mapper.apply(error));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <U> Result<U, E> flatMap(Function<? super T, ? extends Result<U, E>> mapper) {
+            return (Result<U, E>) this;
+        }
+
+        @Override
+        public Result<T, E> filter(Predicate<? super T> predicate, Function<? super T, ? extends E> error) {
+            return this;
+        }
+
+        @Override
+        public Result<T, E> recover(Function<? super E, ? extends T> recoverFunc) {
+            return new Success<>(recoverFunc.apply(error));
+        }
+
+        @Override
+        public <F> Result<T, F> recoverWith(Function<? super E, ? extends Result<T, F>> recoverFunc) {
+            return recoverFunc.apply(error);
+        }
+
+        @Override
+        public <R> R fold(Function<? super T, ? extends R> successFunc,
+                          Function<? super E, ? extends R> failureFunc) {
+            return failureFunc.apply(error);
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public T getOrElse(T defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Result<T, E> orElse(Result<T, E> defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Try<T> toTry(Function<? super E, ? extends Throwable> toException) {
+            return new Try.Failure<>(toException.apply(error));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Failure failure = (Failure) o;
+
+            return Objects.equals(error, failure.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(error);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "error=" + error +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A budget of retries shared by all the callers using the same {@link RetryPolicy}, so that retries cannot
+ * multiply the load on a dependency which is already failing.</p>
+ * <p>
+ * <p>Each call deposits {@code retryRatio} tokens and each retry withdraws one token. A retry is only allowed if a
+ * whole token is available, so in the long run at most {@code retryRatio} retries per call are performed. The
+ * balance starts at, and never exceeds, {@code maxBalance} tokens which allows short bursts of retries. The balance
+ * is kept in an {@link AtomicLong}, so the budget never blocks.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000L;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    private RetryBudget(long deposit, long maxBalance) {
+        this.deposit = deposit;
+        this.maxBalance = maxBalance;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * @param retryRatio the number of retries allowed for each call, e.g. {@code 0.1} for one retry every ten calls
+     * @param maxBalance the maximum number of retries which can be performed in a burst
+     * @return a new {@code RetryBudget}
+     */
+    public static RetryBudget of(double retryRatio, int maxBalance) {
+        if (retryRatio < 0) throw new IllegalArgumentException("retryRatio must not be negative: " + retryRatio);
+        if (maxBalance < 0) throw new IllegalArgumentException("maxBalance must not be negative: " + maxBalance);
+        return new RetryBudget(Math.round(retryRatio * SCALE), maxBalance * SCALE);
+    }
+
+    /**
+     * Records a new call.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) return;
+        } while (!balance.compareAndSet(current, Math.min(maxBalance, current + deposit)));
+    }
+
+    /**
+     * Tries to take the token needed by a retry.
+     *
+     * @return {@code true} if the retry is allowed
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) return false;
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * @return the number of retries currently available
+     */
+    public double getBalance() {
+        return balance.get() / (double) SCALE;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{" +
+                "balance=" + getBalance() +
+                '}';
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * <p>Describes how {@link Try#retry(RetryPolicy, FailableSupplier)} and
+ * {@link TryFuture#retry(RetryPolicy, FailableSupplier, ScheduledExecutorService)} retry a failing
+ * {@link FailableSupplier}: how many attempts at most, which exceptions are worth a retry, how long to wait between
+ * attempts ({@link Backoff}), how long to keep trying overall and which shared {@link RetryBudget} to draw from.</p>
+ * <p>
+ * <p>Policies are immutable: each {@code with} method returns a new policy. When an attempt fails and no more
+ * retries are allowed the {@link Try.Failure} of the last attempt is returned. {@link java.lang.Error}s are never
+ * retried and are rethrown, as {@link Try#apply(FailableSupplier)} does.</p>
+ * <p>
+ * <pre>
+ * RetryPolicy policy = RetryPolicy.attempts(5)
+ *         .withBackoff(Backoff.decorrelatedJitter(10, 1000, TimeUnit.MILLISECONDS))
+ *         .retryOn(e -&gt; e instanceof IOException)
+ *         .withMaxDuration(5, TimeUnit.SECONDS)
+ *         .withBudget(RetryBudget.of(0.1, 100));
+ * Try&lt;String&gt; body = Try.retry(policy, () -&gt; fetch(url));
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final Predicate<? super Throwable> retryOn;
+    private final long maxDurationNanos;
+    private final RetryBudget budget;
+
+    private RetryPolicy(int maxAttempts, Backoff backoff, Predicate<? super Throwable> retryOn, long maxDurationNanos,
+                        RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.retryOn = retryOn;
+        this.maxDurationNanos = maxDurationNanos;
+        this.budget = budget;
+    }
+
+    /**
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @return a policy retrying any exception right away, up to {@code maxAttempts} attempts
+     */
+    public static RetryPolicy attempts(int maxAttempts) {
+        if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        return new RetryPolicy(maxAttempts, Backoff.none(), e -> true, 0L, null);
+    }
+
+    /**
+     * @param backoff the {@link Backoff} computing the delay between attempts
+     * @return a copy of {@code this} policy using {@code backoff}
+     */
+    public RetryPolicy withBackoff(Backoff backoff) {
+        return new RetryPolicy(maxAttempts, Objects.requireNonNull(backoff, "backoff is null"), retryOn,
+                maxDurationNanos, budget);
+    }
+
+    /**
+     * @param retryOn the {@link Predicate} telling which exceptions are worth a retry
+     * @return a copy of {@code this} policy retrying only the exceptions satisfying {@code retryOn}
+     */
+    public RetryPolicy retryOn(Predicate<? super Throwable> retryOn) {
+        return new RetryPolicy(maxAttempts, backoff, Objects.requireNonNull(retryOn, "retryOn is null"),
+                maxDurationNanos, budget);
+    }
+
+    /**
+     * @param maxDuration the maximum time to spend, measured from the start of the first attempt
+     * @param unit        the unit of {@code maxDuration}
+     * @return a copy of {@code this} policy which does not retry if the next attempt would start after
+     * {@code maxDuration}
+     */
+    public RetryPolicy withMaxDuration(long maxDuration, TimeUnit unit) {
+        if (maxDuration <= 0) throw new IllegalArgumentException("maxDuration must be positive: " + maxDuration);
+        return new RetryPolicy(maxAttempts, backoff, retryOn, unit.toNanos(maxDuration), budget);
+    }
+
+    /**
+     * @param budget the {@link RetryBudget} to draw each retry from
+     * @return a copy of {@code this} policy using {@code budget}
+     */
+    public RetryPolicy withBudget(RetryBudget budget) {
+        return new RetryPolicy(maxAttempts, backoff, retryOn, maxDurationNanos,
+                Objects.requireNonNull(budget, "budget is null"));
+    }
+
+    /**
+     * Runs {@code supplier} until it succeeds or no more retries are allowed, sleeping between attempts. If the
+     * sleep is interrupted the interrupt status is restored and the result is a {@link Try.Failure} holding the
+     * {@link InterruptedException}, with the exception of the last attempt as suppressed.
+     */
+    <T> Try<T> execute(FailableSupplier<T> supplier) {
+        if (budget != null) budget.deposit();
+        long start = System.nanoTime();
+        long delay = 0L;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new Try.Success<>(supplier.get());
+            } catch (Throwable e) {
+                Exception exception = Try.nonFatal(e);
+                delay = nextDelay(exception, attempt, delay, start);
+                if (delay < 0) return new Try.Failure<>(exception);
+                if (delay > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        ie.addSuppressed(exception);
+                        return new Try.Failure<>(ie);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs {@code supplier} on {@code scheduler} until it succeeds or no more retries are allowed, scheduling each
+     * retry instead of sleeping.
+     */
+    <T> TryFuture<T> executeAsync(FailableSupplier<T> supplier, ScheduledExecutorService scheduler) {
+        if (budget != null) budget.deposit();
+        AsyncRetry<T> retry = new AsyncRetry<>(supplier, scheduler);
+        scheduler.execute(retry);
+        return retry.future;
+    }
+
+    /**
+     * @return the delay before the next attempt, in nanoseconds, or -1 if no retry is allowed
+     */
+    private long nextDelay(Exception exception, int failedAttempts, long previousDelay, long start) {
+        if (failedAttempts >= maxAttempts) return -1L;
+        boolean retryable;
+        try {
+            retryable = retryOn.test(exception);
+        } catch (RuntimeException e) {
+            retryable = false;
+        }
+        if (!retryable) return -1L;
+        long delay = Math.max(0L, backoff.nextDelayNanos(failedAttempts, previousDelay));
+        if (maxDurationNanos > 0 && System.nanoTime() - start + delay > maxDurationNanos) return -1L;
+        if (budget != null && !budget.tryWithdraw()) return -1L;
+        return delay;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", maxDurationNanos=" + maxDurationNanos +
+                ", budget=" + budget +
+                '}';
+    }
+
+    /**
+     * One asynchronous retry loop: each run is an attempt, rescheduled on failure
+     */
+    private final class AsyncRetry<T> implements Runnable {
+        final TryFuture<T> future = new TryFuture<>();
+        private final FailableSupplier<T> supplier;
+        private final ScheduledExecutorService scheduler;
+        private final long start = System.nanoTime();
+        private int attempt;
+        private long delay;
+
+        AsyncRetry(FailableSupplier<T> supplier, ScheduledExecutorService scheduler) {
+            this.supplier = supplier;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            attempt++;
+            T value;
+            try {
+                value = supplier.get();
+            } catch (Throwable e) {
+                if (e instanceof Error) future.tryComplete(new Try.Failure<>(e));
+                Exception exception = Try.nonFatal(e);
+                delay = nextDelay(exception, attempt, delay, start);
+                if (delay < 0) {
+                    future.tryComplete(new Try.Failure<>(exception));
+                } else {
+                    try {
+                        scheduler.schedule(this, delay, TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException rejected) {
+                        future.tryComplete(new Try.Failure<>(exception));
+                    }
+                }
+                return;
+            }
+            future.tryComplete(new Try.Success<>(value));
+        }
+    }
+}
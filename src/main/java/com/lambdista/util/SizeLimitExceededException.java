@@ -0,0 +1,51 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.IOException;
+
+/**
+ * The {@link IOException} held by the {@link Try.Failure} of a {@link TryIO} read whose input is larger than the
+ * limit it was given. Its stack trace is captured according to the {@link StackTracePolicy}.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class SizeLimitExceededException extends IOException {
+
+    private final long limit;
+
+    /**
+     * @param limit the maximum number of bytes which could be read
+     */
+    public SizeLimitExceededException(long limit) {
+        super("input is larger than " + limit + " bytes");
+        this.limit = limit;
+    }
+
+    /**
+     * @return the maximum number of bytes which could be read
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
+    }
+
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>Global policy deciding whether the exceptions created by this library (e.g. the {@link GetOfFailureException}
+ * thrown by {@link Try.Failure#get()} or the {@link java.util.NoSuchElementException} produced by
+ * {@link Try#filter(java.util.function.Predicate)}) capture their stack trace.</p>
+ * <p>
+ * <p>Filling in a stack trace is by far the most expensive part of creating an exception, so in hot loops with a
+ * high failure rate you may want to capture it only once in a while ({@link Mode#SAMPLED}) or never
+ * ({@link Mode#NONE}). Exceptions thrown by your own code are never affected.</p>
+ * <p>
+ * <p>The initial mode is read from the {@value #MODE_PROPERTY} system property ({@code full}, {@code sampled} or
+ * {@code none}, default {@code full}) and the sampling rate from {@value #SAMPLE_RATE_PROPERTY} (default
+ * {@value #DEFAULT_SAMPLE_RATE}). Both can be changed at runtime.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class StackTracePolicy {
+
+    /**
+     * Name of the system property holding the initial {@link Mode}
+     */
+    public static final String MODE_PROPERTY = "com.lambdista.util.stackTraces";
+
+    /**
+     * Name of the system property holding the initial sampling rate
+     */
+    public static final String SAMPLE_RATE_PROPERTY = "com.lambdista.util.stackTraceSampleRate";
+
+    /**
+     * The sampling rate used when none is configured: one stack trace every 100 exceptions
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+
+    /**
+     * How stack traces of library-generated exceptions are captured
+     */
+    public enum Mode {
+        /**
+         * Every exception captures its stack trace. This is the default.
+         */
+        FULL,
+        /**
+         * One exception out of {@link #getSampleRate()}, on average, captures its stack trace
+         */
+        SAMPLED,
+        /**
+         * No exception captures its stack trace
+         */
+        NONE
+    }
+
+    private static volatile Mode mode = parseMode(System.getProperty(MODE_PROPERTY));
+    private static volatile int sampleRate = parseSampleRate(System.getProperty(SAMPLE_RATE_PROPERTY));
+
+    private StackTracePolicy() {
+    }
+
+    /**
+     * @return the current {@link Mode}
+     */
+    public static Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the {@link Mode} to use from now on.
+     *
+     * @param newMode the new {@link Mode}
+     * @throws NullPointerException if {@code newMode} is {@code null}
+     */
+    public static void setMode(Mode newMode) {
+        if (newMode == null) throw new NullPointerException("newMode is null");
+        mode = newMode;
+    }
+
+    /**
+     * @return the sampling rate used in {@link Mode#SAMPLED} mode
+     */
+    public static int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the sampling rate used in {@link Mode#SAMPLED} mode.
+     *
+     * @param rate one stack trace is captured every {@code rate} exceptions, on average
+     * @throws IllegalArgumentException if {@code rate} is less than 1
+     */
+    public static void setSampleRate(int rate) {
+        if (rate < 1) throw new IllegalArgumentException("rate must be positive: " + rate);
+        sampleRate = rate;
+    }
+
+    /**
+     * @return {@code true} if the exception being created should capture its stack trace according to the
+     * current policy
+     */
+    public static boolean captureStackTrace() {
+        switch (mode) {
+            case FULL:
+                return true;
+            case NONE:
+                return false;
+            default:
+                int rate = sampleRate;
+                return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+        }
+    }
+
+    private static Mode parseMode(String value) {
+        if (value == null) return Mode.FULL;
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Mode.FULL;
+        }
+    }
+
+    private static int parseSampleRate(String value) {
+        if (value == null) return DEFAULT_SAMPLE_RATE;
+        try {
+            int rate = Integer.parseInt(value.trim());
+            return rate < 1 ? DEFAULT_SAMPLE_RATE : rate;
+        } catch (NumberFormatException e) {
+            return DEFAULT_SAMPLE_RATE;
+        }
+    }
+}
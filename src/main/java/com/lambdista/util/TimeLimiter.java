@@ -0,0 +1,123 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Runs a {@link FailableSupplier} under a deadline tracked by the shared {@link HashedWheelTimer}.</p>
+ * <p>
+ * <p>The limiter is the task scheduled on the timer and its state arbitrates between the thread running the supplier
+ * and the timer: a supplier is started only if the deadline has not passed yet and the running thread is
+ * interrupted only while it is still running the supplier. If the interrupt is delivered the running thread clears
+ * it before returning, so that it never leaks into unrelated code.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+final class TimeLimiter<T> extends AtomicInteger implements Runnable {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+    private static final int INTERRUPTING = 3;
+    private static final int INTERRUPTED = 4;
+
+    private final TryFuture<T> future;
+    private final TimeoutPolicy policy;
+    private final long timeout;
+    private final TimeUnit unit;
+    private volatile Thread runner;
+
+    private TimeLimiter(TryFuture<T> future, TimeoutPolicy policy, long timeout, TimeUnit unit) {
+        this.future = future;
+        this.policy = policy;
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    static <T> Try<T> apply(FailableSupplier<T> supplier, long timeout, TimeUnit unit) {
+        TimeLimiter<T> limiter = new TimeLimiter<>(null, TimeoutPolicy.INTERRUPT, timeout, unit);
+        limiter.runner = Thread.currentThread();
+        limiter.set(RUNNING);
+        HashedWheelTimer.Timeout deadline = HashedWheelTimer.shared().schedule(limiter, timeout, unit);
+        Try<T> result = limiter.execute(supplier);
+        deadline.cancel();
+        return result;
+    }
+
+    static <T> TryFuture<T> applyAsync(FailableSupplier<T> supplier, Executor executor, long timeout, TimeUnit unit,
+                                       TimeoutPolicy policy) {
+        TryFuture<T> future = new TryFuture<>();
+        TimeLimiter<T> limiter = new TimeLimiter<>(future, policy, timeout, unit);
+        HashedWheelTimer.Timeout deadline = HashedWheelTimer.shared().schedule(limiter, timeout, unit);
+        executor.execute(() -> {
+            limiter.runner = Thread.currentThread();
+            if (!limiter.compareAndSet(NEW, RUNNING)) return;
+            Try<T> result;
+            try {
+                result = limiter.execute(supplier);
+            } catch (Error e) {
+                future.tryComplete(new Try.Failure<>(e));
+                throw e;
+            } finally {
+                deadline.cancel();
+            }
+            future.tryComplete(result);
+        });
+        return future;
+    }
+
+    /**
+     * Expires the deadline
+     */
+    @Override
+    public void run() {
+        if (!compareAndSet(NEW, FINISHED) && policy == TimeoutPolicy.INTERRUPT
+                && compareAndSet(RUNNING, INTERRUPTING)) {
+            runner.interrupt();
+            set(INTERRUPTED);
+        }
+        if (future != null) future.tryComplete(timedOut());
+    }
+
+    private Try<T> execute(FailableSupplier<T> supplier) {
+        Try<T> result;
+        try {
+            result = Try.apply(supplier);
+        } catch (Error e) {
+            finish();
+            throw e;
+        }
+        return finish() ? result : timedOut();
+    }
+
+    /**
+     * @return {@code true} if the supplier finished before being interrupted
+     */
+    private boolean finish() {
+        if (compareAndSet(RUNNING, FINISHED)) return true;
+        while (get() != INTERRUPTED) Thread.yield();
+        Thread.interrupted();
+        return false;
+    }
+
+    private Try<T> timedOut() {
+        return new Try.Failure<>(new TryTimeoutException(timeout, unit));
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * What happens to a computation still running when its deadline passes. Whatever the policy, the {@link Try} it
+ * produces is a {@link Try.Failure} holding a {@link TryTimeoutException}, and a computation whose deadline passes
+ * before it starts is never run.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public enum TimeoutPolicy {
+    /**
+     * The thread running the computation is interrupted, so that blocking calls give up
+     */
+    INTERRUPT,
+    /**
+     * The computation is left running and its outcome discarded
+     */
+    ABANDON
+}
@@ -15,11 +15,24 @@
  */
 package com.lambdista.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 /**
  * <p>The {@code Try} type represents a computation that may fail. If the computation is successful returns
@@ -196,6 +209,36 @@ public abstract class Try<T> {
     public abstract <U> Try<U> transform(Function<? super T, ? extends Try<U>> successFunc,
                                          Function<Throwable, ? extends Try<U>> failureFunc);
 
+    /**
+     * Maps the value to an {@code int} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}. The result is never boxed.
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @return the result of applying {@code mapper} wrapped in an {@link IntTry} if it's a {@link Success} or
+     * the same exception wrapped in an {@link IntTry.Failure} if it's a {@link Failure}
+     */
+    public abstract IntTry mapToInt(ToIntFunction<? super T> mapper);
+
+    /**
+     * Maps the value to a {@code long} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}. The result is never boxed.
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @return the result of applying {@code mapper} wrapped in a {@link LongTry} if it's a {@link Success} or
+     * the same exception wrapped in a {@link LongTry.Failure} if it's a {@link Failure}
+     */
+    public abstract LongTry mapToLong(ToLongFunction<? super T> mapper);
+
+    /**
+     * Maps the value to a {@code double} by applying the {@code mapper} function to it if {@code this} is a
+     * {@link Success} otherwise it takes no action if {@code this} is a {@link Failure}. The result is never boxed.
+     *
+     * @param mapper a function to apply to the value of type {@code T}
+     * @return the result of applying {@code mapper} wrapped in a {@link DoubleTry} if it's a {@link Success} or
+     * the same exception wrapped in a {@link DoubleTry.Failure} if it's a {@link Failure}
+     */
+    public abstract DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper);
+
     /**
      * Converts a {@link Function} expecting an {@link java.lang.AutoCloseable} into a
      * {@code Function} which closes the {@code AutoCloseable} after execution.
@@ -229,14 +272,138 @@ public abstract class Try<T> {
      * @return a {@code Try} object (an instance of either {@link Success} or {@link Failure}
      */
     public static <T> Try<T> apply(FailableSupplier<T> supplier) {
+        if (TryHooks.enabled()) return TryHooks.observe("apply", null, () -> guard(supplier));
+        return guard(supplier);
+    }
+
+    /**
+     * Same as {@link #apply(FailableSupplier)} but the registered {@link TryHook}s, if any, see this call as the
+     * operation with the given name rather than as {@code apply}, so that its outcomes and durations can be told
+     * apart from the others'.
+     *
+     * @param name     the name of the operation
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code Try} object (an instance of either {@link Success} or {@link Failure}
+     */
+    public static <T> Try<T> apply(String name, FailableSupplier<T> supplier) {
+        if (TryHooks.enabled()) return TryHooks.observe(name, null, () -> guard(supplier));
+        return guard(supplier);
+    }
+
+    /**
+     * The unobserved body of {@link #apply(FailableSupplier)}, used by the combinators which report their outcome
+     * under their own name.
+     */
+    static <T> Try<T> guard(FailableSupplier<T> supplier) {
         try {
             return new Success<>(supplier.get());
         } catch (Throwable e) {
-            if (e instanceof Exception) return new Failure<>((Exception) e);
-            else throw ((Error) e);
+            return new Failure<>(nonFatal(e));
         }
     }
 
+    /**
+     * Constructs a {@code Try} using the {@link FailableSupplier} parameter, bounding its duration. The supplier runs
+     * in the calling thread, which is interrupted if the deadline passes before the supplier completes: the result
+     * is then a {@link Failure} holding a {@link TryTimeoutException}, whatever the supplier returned, and the
+     * interrupt status is cleared. Deadlines are tracked by a shared hashed-wheel timer, so each of them costs O(1).
+     * See {@link TryFuture#apply(FailableSupplier, java.util.concurrent.Executor, long, TimeUnit, TimeoutPolicy)} to
+     * abandon the supplier instead.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param timeout  the maximum time the supplier may take
+     * @param unit     the unit of {@code timeout}
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the outcome of {@code supplier} or a {@link Failure} holding a {@link TryTimeoutException}
+     */
+    public static <T> Try<T> apply(FailableSupplier<T> supplier, long timeout, TimeUnit unit) {
+        return TimeLimiter.apply(supplier, timeout, unit);
+    }
+
+    /**
+     * Runs a batch of {@link FailableSupplier}s on the given {@link Executor}, at most {@code concurrency} of them at
+     * a time, and waits for all of them. See {@link TryBatch} to stream the outcomes in completion order or to
+     * cancel the batch on the first failure.
+     *
+     * @param suppliers   the {@link FailableSupplier}s to run
+     * @param concurrency the maximum number of suppliers running at the same time
+     * @param executor    the {@link Executor} running the suppliers
+     * @param <T>         the type returned by the suppliers
+     * @return an unmodifiable, array-backed, list holding the outcome of each supplier, in input order
+     */
+    public static <T> List<Try<T>> applyAll(Collection<? extends FailableSupplier<? extends T>> suppliers,
+                                            int concurrency, Executor executor) {
+        return TryBatch.of(concurrency, executor).run(suppliers);
+    }
+
+    /**
+     * Constructs a {@code Try} using the {@link FailableSupplier} parameter, retrying it according to the given
+     * {@link RetryPolicy} while it fails. The calling thread sleeps between attempts; see
+     * {@link TryFuture#retry(RetryPolicy, FailableSupplier, java.util.concurrent.ScheduledExecutorService)} for an
+     * asynchronous version. If the first attempt succeeds nothing is allocated apart from the {@link Success}.
+     *
+     * @param policy   the {@link RetryPolicy} to use
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return the {@link Success} of the first successful attempt or the {@link Failure} of the last attempt
+     */
+    public static <T> Try<T> retry(RetryPolicy policy, FailableSupplier<T> supplier) {
+        return policy.execute(supplier);
+    }
+
+    /**
+     * Runs {@code primary} on the given {@link Executor} and, if it has not succeeded once the delay of the
+     * {@link HedgePolicy} has passed, {@code backup} too, returning whichever succeeds first; the other one is
+     * interrupted. If {@code primary} fails before the delay {@code backup} is started right away. The calling thread
+     * waits for the outcome, and submits {@code backup} itself; if it's interrupted both suppliers are interrupted,
+     * the interrupt status is restored and the result is a {@link Failure} holding the {@link InterruptedException}.
+     * With an {@link Executor} running the tasks in the calling thread, such as {@code Runnable::run}, the suppliers
+     * run one after the other.
+     *
+     * @param policy   the {@link HedgePolicy} deciding when {@code backup} is started
+     * @param primary  the {@link FailableSupplier} to run first
+     * @param backup   the {@link FailableSupplier} to run if {@code primary} is slow or fails
+     * @param executor the {@link Executor} running the suppliers
+     * @param <T>      the type returned by the suppliers
+     * @return the first {@link Success} or, if both suppliers fail, a {@link Failure} holding a
+     * {@link MultipleFailuresException} with their exceptions as suppressed
+     */
+    public static <T> Try<T> hedge(HedgePolicy policy, FailableSupplier<? extends T> primary,
+                                   FailableSupplier<? extends T> backup, Executor executor) {
+        return TryRace.hedge(policy, primary, backup, executor);
+    }
+
+    /**
+     * Runs all the suppliers at the same time on the given {@link Executor} and returns the first {@link Success};
+     * the suppliers still running are then interrupted. The calling thread waits for the outcome; if it's interrupted
+     * all the suppliers are interrupted, the interrupt status is restored and the result is a {@link Failure}
+     * holding the {@link InterruptedException}.
+     *
+     * @param suppliers the {@link FailableSupplier}s to race
+     * @param executor  the {@link Executor} running the suppliers
+     * @param <T>       the type returned by the suppliers
+     * @return the first {@link Success} or, if all the suppliers fail, a {@link Failure} holding a
+     * {@link MultipleFailuresException} with their exceptions, in input order, as suppressed
+     * @throws IllegalArgumentException if {@code suppliers} is empty
+     */
+    public static <T> Try<T> firstSuccessOf(Collection<? extends FailableSupplier<? extends T>> suppliers,
+                                            Executor executor) {
+        return TryRace.firstSuccessOf(new ArrayList<>(suppliers), executor);
+    }
+
+    /**
+     * Returns {@code e} if it's an {@link java.lang.Exception}, so that it can be wrapped in a failure, otherwise
+     * rethrows it since {@link java.lang.Error}s must never be caught.
+     *
+     * @param e the {@link java.lang.Throwable} caught while running user code
+     * @return {@code e} as an {@link java.lang.Exception}
+     */
+    static Exception nonFatal(Throwable e) {
+        if (e instanceof Exception) return (Exception) e;
+        else throw ((Error) e);
+    }
+
     /**
      * Converts a {@code Try<Try<T>>} to a {@code Try<T>}.
      *
@@ -245,11 +412,240 @@ public abstract class Try<T> {
      * @return a {@code Try<T>}
      */
     public static <T> Try<T> join(Try<Try<T>> t) {
-        if (t == null) return ((Try<T>) new Failure<>(new NullPointerException("t is null")));
+        if (TryHooks.enabled()) return TryHooks.observe("join", null, () -> flatten(t));
+        return flatten(t);
+    }
+
+    /**
+     * The unobserved body of {@link #join(Try)}, used by the combinators which report their outcome under their own
+     * name.
+     */
+    static <T> Try<T> flatten(Try<Try<T>> t) {
+        if (t == null) return ((Try<T>) new Failure<>(new NullTryException()));
         else if (t instanceof Failure<?>) return ((Try<T>) t);
         else return t.get();
     }
 
+    /**
+     * Converts an {@code Iterable<Try<T>>} into a {@code Try<List<T>>}. It stops at the first {@link Failure},
+     * without looking at the remaining elements, and returns it.
+     *
+     * @param tries the {@code Try}s to convert
+     * @param <T>   the type wrapped by {@code Try}
+     * @return a {@link Success} wrapping the list of all the values, in order, or the first {@link Failure}
+     */
+    public static <T> Try<List<T>> sequence(Iterable<? extends Try<? extends T>> tries) {
+        return sequence(tries.iterator(), sizeOf(tries), false);
+    }
+
+    /**
+     * Same as {@link #sequence(Iterable)} for an array of {@code Try}s.
+     *
+     * @param tries the {@code Try}s to convert
+     * @param <T>   the type wrapped by {@code Try}
+     * @return a {@link Success} wrapping the list of all the values, in order, or the first {@link Failure}
+     */
+    public static <T> Try<List<T>> sequence(Try<? extends T>[] tries) {
+        return sequence(Arrays.asList(tries).iterator(), tries.length, false);
+    }
+
+    /**
+     * Same as {@link #sequence(Iterable)} for a {@link Stream} of {@code Try}s. Elements after the first
+     * {@link Failure} are not consumed.
+     *
+     * @param tries the {@code Try}s to convert
+     * @param <T>   the type wrapped by {@code Try}
+     * @return a {@link Success} wrapping the list of all the values, in order, or the first {@link Failure}
+     */
+    public static <T> Try<List<T>> sequence(Stream<? extends Try<? extends T>> tries) {
+        Spliterator<? extends Try<? extends T>> spliterator = tries.spliterator();
+        return sequence(Spliterators.iterator(spliterator), spliterator.getExactSizeIfKnown(), false);
+    }
+
+    /**
+     * Like {@link #sequence(Iterable)} but, instead of stopping at the first {@link Failure}, goes through all the
+     * elements and gathers every failure in a {@link MultipleFailuresException}, as suppressed exceptions.
+     *
+     * @param tries the {@code Try}s to convert
+     * @param <T>   the type wrapped by {@code Try}
+     * @return a {@link Success} wrapping the list of all the values, in order, or a {@link Failure} holding a
+     * {@link MultipleFailuresException} if at least one element is a {@link Failure}
+     */
+    public static <T> Try<List<T>> sequenceAll(Iterable<? extends Try<? extends T>> tries) {
+        return sequence(tries.iterator(), sizeOf(tries), true);
+    }
+
+    /**
+     * Same as {@link #sequenceAll(Iterable)} for an array of {@code Try}s.
+     *
+     * @param tries the {@code Try}s to convert
+     * @param <T>   the type wrapped by {@code Try}
+     * @return a {@link Success} wrapping the list of all the values, in order, or a {@link Failure} holding a
+     * {@link MultipleFailuresException} if at least one element is a {@link Failure}
+     */
+    public static <T> Try<List<T>> sequenceAll(Try<? extends T>[] tries) {
+        return sequence(Arrays.asList(tries).iterator(), tries.length, true);
+    }
+
+    /**
+     * Same as {@link #sequenceAll(Iterable)} for a {@link Stream} of {@code Try}s.
+     *
+     * @param tries the {@code Try}s to convert
+     * @param <T>   the type wrapped by {@code Try}
+     * @return a {@link Success} wrapping the list of all the values, in order, or a {@link Failure} holding a
+     * {@link MultipleFailuresException} if at least one element is a {@link Failure}
+     */
+    public static <T> Try<List<T>> sequenceAll(Stream<? extends Try<? extends T>> tries) {
+        Spliterator<? extends Try<? extends T>> spliterator = tries.spliterator();
+        return sequence(Spliterators.iterator(spliterator), spliterator.getExactSizeIfKnown(), true);
+    }
+
+    /**
+     * Applies {@code mapper} to each value, in order, and collects the results into a {@code Try<List<R>>}. It
+     * stops at the first {@link Failure}, either returned or thrown by {@code mapper}, without applying it to the
+     * remaining values. It's equivalent to, but cheaper than, mapping and then calling {@link #sequence(Iterable)}.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type wrapped by the {@code Try}s returned by {@code mapper}
+     * @return a {@link Success} wrapping the list of all the results, in order, or the first {@link Failure}
+     */
+    public static <T, R> Try<List<R>> traverse(Iterable<? extends T> values,
+                                               Function<? super T, ? extends Try<? extends R>> mapper) {
+        return traverse(values.iterator(), sizeOf(values), mapper, false);
+    }
+
+    /**
+     * Same as {@link #traverse(Iterable, Function)} for an array of values.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type wrapped by the {@code Try}s returned by {@code mapper}
+     * @return a {@link Success} wrapping the list of all the results, in order, or the first {@link Failure}
+     */
+    public static <T, R> Try<List<R>> traverse(T[] values, Function<? super T, ? extends Try<? extends R>> mapper) {
+        return traverse(Arrays.asList(values).iterator(), values.length, mapper, false);
+    }
+
+    /**
+     * Same as {@link #traverse(Iterable, Function)} for a {@link Stream} of values. Elements after the first
+     * {@link Failure} are not consumed.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type wrapped by the {@code Try}s returned by {@code mapper}
+     * @return a {@link Success} wrapping the list of all the results, in order, or the first {@link Failure}
+     */
+    public static <T, R> Try<List<R>> traverse(Stream<? extends T> values,
+                                               Function<? super T, ? extends Try<? extends R>> mapper) {
+        Spliterator<? extends T> spliterator = values.spliterator();
+        return traverse(Spliterators.iterator(spliterator), spliterator.getExactSizeIfKnown(), mapper, false);
+    }
+
+    /**
+     * Like {@link #traverse(Iterable, Function)} but, instead of stopping at the first {@link Failure}, applies
+     * {@code mapper} to all the values and gathers every failure in a {@link MultipleFailuresException}, as
+     * suppressed exceptions.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type wrapped by the {@code Try}s returned by {@code mapper}
+     * @return a {@link Success} wrapping the list of all the results, in order, or a {@link Failure} holding a
+     * {@link MultipleFailuresException} if at least one result is a {@link Failure}
+     */
+    public static <T, R> Try<List<R>> traverseAll(Iterable<? extends T> values,
+                                                  Function<? super T, ? extends Try<? extends R>> mapper) {
+        return traverse(values.iterator(), sizeOf(values), mapper, true);
+    }
+
+    /**
+     * Same as {@link #traverseAll(Iterable, Function)} for an array of values.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type wrapped by the {@code Try}s returned by {@code mapper}
+     * @return a {@link Success} wrapping the list of all the results, in order, or a {@link Failure} holding a
+     * {@link MultipleFailuresException} if at least one result is a {@link Failure}
+     */
+    public static <T, R> Try<List<R>> traverseAll(T[] values,
+                                                  Function<? super T, ? extends Try<? extends R>> mapper) {
+        return traverse(Arrays.asList(values).iterator(), values.length, mapper, true);
+    }
+
+    /**
+     * Same as {@link #traverseAll(Iterable, Function)} for a {@link Stream} of values.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <T>    the type of the values
+     * @param <R>    the type wrapped by the {@code Try}s returned by {@code mapper}
+     * @return a {@link Success} wrapping the list of all the results, in order, or a {@link Failure} holding a
+     * {@link MultipleFailuresException} if at least one result is a {@link Failure}
+     */
+    public static <T, R> Try<List<R>> traverseAll(Stream<? extends T> values,
+                                                  Function<? super T, ? extends Try<? extends R>> mapper) {
+        Spliterator<? extends T> spliterator = values.spliterator();
+        return traverse(Spliterators.iterator(spliterator), spliterator.getExactSizeIfKnown(), mapper, true);
+    }
+
+    private static long sizeOf(Iterable<?> iterable) {
+        return iterable instanceof Collection ? ((Collection<?>) iterable).size() : -1L;
+    }
+
+    private static <T> ArrayList<T> newList(long size) {
+        return size >= 0 && size <= Integer.MAX_VALUE ? new ArrayList<>((int) size) : new ArrayList<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Try<List<T>> sequence(Iterator<? extends Try<? extends T>> tries, long size,
+                                             boolean accumulate) {
+        ArrayList<T> values = newList(size);
+        List<Throwable> failures = null;
+        while (tries.hasNext()) {
+            Try<? extends T> t = tries.next();
+            if (t == null) t = new Failure<>(new NullTryException());
+            if (t instanceof Failure) {
+                if (!accumulate) return (Try<List<T>>) (Try<?>) t;
+                if (failures == null) failures = new ArrayList<>();
+                failures.add(((Failure<?>) t).exception());
+            } else if (failures == null) {
+                values.add(t.get());
+            }
+        }
+        return failures == null ? new Success<>(values) : new Failure<>(new MultipleFailuresException(failures));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Try<List<R>> traverse(Iterator<? extends T> values, long size,
+                                                Function<? super T, ? extends Try<? extends R>> mapper,
+                                                boolean accumulate) {
+        ArrayList<R> results = newList(size);
+        List<Throwable> failures = null;
+        while (values.hasNext()) {
+            T value = values.next();
+            Try<? extends R> t;
+            try {
+                t = mapper.apply(value);
+                if (t == null) t = new Failure<>(new NullTryException());
+            } catch (Throwable e) {
+                t = new Failure<>(nonFatal(e));
+            }
+            if (t instanceof Failure) {
+                if (!accumulate) return (Try<List<R>>) (Try<?>) t;
+                if (failures == null) failures = new ArrayList<>();
+                failures.add(((Failure<?>) t).exception());
+            } else if (failures == null) {
+                results.add(t.get());
+            }
+        }
+        return failures == null ? new Success<>(results) : new Failure<>(new MultipleFailuresException(failures));
+    }
+
     /**
      * Represents the successful result of a computation
      *
@@ -288,27 +684,52 @@ public abstract class Try<T> {
             action.accept(value);
         }
 
+        /*
+         * The combinators guard the user function inline rather than through guard and flatten: on the unobserved
+         * path the only allocation left is the resulting Try, if any. The lambdas handed to TryHooks are only
+         * created while hooks are enabled.
+         */
+
         @Override
         public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
-            return Try.apply(() -> mapper.apply(value));
+            if (TryHooks.enabled()) return TryHooks.observe("map", null, () -> mapValue(mapper));
+            return mapValue(mapper);
+        }
+
+        private <U> Try<U> mapValue(Function<? super T, ? extends U> mapper) {
+            try {
+                return new Success<>(mapper.apply(value));
+            } catch (Throwable e) {
+                return new Failure<>(nonFatal(e));
+            }
         }
 
         @Override
         public <U> Try<U> flatMap(Function<? super T, ? extends Try<U>> mapper) {
-            return Try.join(Try.apply(() -> mapper.apply(value)));
+            if (TryHooks.enabled()) return TryHooks.observe("flatMap", null, () -> bind(mapper));
+            return bind(mapper);
+        }
+
+        private <U> Try<U> bind(Function<? super T, ? extends Try<U>> mapper) {
+            try {
+                return mapper.apply(value);
+            } catch (Throwable e) {
+                return new Failure<>(nonFatal(e));
+            }
         }
 
         @Override
         public Try<T> filter(Predicate<? super T> predicate) {
-            return Try.join(Try.apply(() ->
-                    {
-                        if (predicate.test(value)) {
-                            return this;
-                        } else {
-                            return new Failure<>(new NoSuchElementException("Predicate does not hold for " + value));
-                        }
-                    }
-            ));
+            if (TryHooks.enabled()) return TryHooks.observe("filter", null, () -> test(predicate));
+            return test(predicate);
+        }
+
+        private Try<T> test(Predicate<? super T> predicate) {
+            try {
+                return predicate.test(value) ? this : new Failure<>(new PredicateNotSatisfiedException(value));
+            } catch (Throwable e) {
+                return new Failure<>(nonFatal(e));
+            }
         }
 
         @SuppressWarnings("unchecked")
@@ -325,7 +746,7 @@ public abstract class Try<T> {
 
         @Override
         public Try<Throwable> failed() {
-            return new Failure<>(new UnsupportedOperationException("Success.failed"));
+            return new Failure<>(new SuccessFailedException());
         }
 
         @Override
@@ -346,7 +767,35 @@ public abstract class Try<T> {
         @Override
         public <U> Try<U> transform(Function<? super T, ? extends Try<U>> successFunc,
                                     Function<Throwable, ? extends Try<U>> failureFunc) {
-            return Try.join(Try.apply(() -> successFunc.apply(value)));
+            if (TryHooks.enabled()) return TryHooks.observe("transform", null, () -> bind(successFunc));
+            return bind(successFunc);
+        }
+
+        @Override
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            try {
+                return new IntTry.Success(mapper.applyAsInt(value));
+            } catch (Throwable e) {
+                return new IntTry.Failure(nonFatal(e));
+            }
+        }
+
+        @Override
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            try {
+                return new LongTry.Success(mapper.applyAsLong(value));
+            } catch (Throwable e) {
+                return new LongTry.Failure(nonFatal(e));
+            }
+        }
+
+        @Override
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            try {
+                return new DoubleTry.Success(mapper.applyAsDouble(value));
+            } catch (Throwable e) {
+                return new DoubleTry.Failure(nonFatal(e));
+            }
         }
 
         @Override
@@ -380,11 +829,17 @@ public abstract class Try<T> {
      */
     public static final class Failure<T> extends Try<T> {
         private final Throwable exception;
-        private final GetOfFailureException unckeckedException;
+        private volatile GetOfFailureException unckeckedException;
 
         public Failure(Throwable exception) {
             this.exception = exception;
-            this.unckeckedException = new GetOfFailureException(exception);
+        }
+
+        /**
+         * @return the exception {@code this} failed with, without the allocation of {@link #failed()}
+         */
+        Throwable exception() {
+            return exception;
         }
 
         @Override
@@ -397,9 +852,20 @@ public abstract class Try<T> {
             return true;
         }
 
+        /**
+         * The {@link GetOfFailureException} is created on the first invocation since most failures are never
+         * unwrapped this way. It's published through a volatile field, so that other threads never see it partially
+         * constructed; concurrent first invocations may still create more than one instance, and each caller throws
+         * the one it created or read.
+         */
         @Override
         public T get() {
-            throw unckeckedException;
+            GetOfFailureException e = unckeckedException;
+            if (e == null) {
+                e = new GetOfFailureException(exception);
+                unckeckedException = e;
+            }
+            throw e;
         }
 
         @Override
@@ -430,12 +896,30 @@ public abstract class Try<T> {
 
         @Override
         public <U> Try<U> recover(Function<? super Throwable, ? extends U> recoverFunc) {
-            return Try.apply(() -> recoverFunc.apply(exception));
+            if (TryHooks.enabled()) return TryHooks.observe("recover", exception, () -> recoverException(recoverFunc));
+            return recoverException(recoverFunc);
+        }
+
+        private <U> Try<U> recoverException(Function<? super Throwable, ? extends U> recoverFunc) {
+            try {
+                return new Success<>(recoverFunc.apply(exception));
+            } catch (Throwable e) {
+                return new Failure<>(nonFatal(e));
+            }
         }
 
         @Override
         public <U> Try<U> recoverWith(Function<? super Throwable, ? extends Try<U>> recoverFunc) {
-            return Try.join(Try.apply(() -> recoverFunc.apply(exception)));
+            if (TryHooks.enabled()) return TryHooks.observe("recoverWith", exception, () -> bind(recoverFunc));
+            return bind(recoverFunc);
+        }
+
+        private <U> Try<U> bind(Function<? super Throwable, ? extends Try<U>> recoverFunc) {
+            try {
+                return recoverFunc.apply(exception);
+            } catch (Throwable e) {
+                return new Failure<>(nonFatal(e));
+            }
         }
 
         @Override
@@ -461,7 +945,23 @@ public abstract class Try<T> {
         @Override
         public <U> Try<U> transform(Function<? super T, ? extends Try<U>> successFunc,
                                     Function<Throwable, ? extends Try<U>> failureFunc) {
-            return Try.join(Try.apply(() -> failureFunc.apply(exception)));
+            if (TryHooks.enabled()) return TryHooks.observe("transform", null, () -> bind(failureFunc));
+            return bind(failureFunc);
+        }
+
+        @Override
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            return new IntTry.Failure(exception);
+        }
+
+        @Override
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            return new LongTry.Failure(exception);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            return new DoubleTry.Failure(exception);
         }
 
         @Override
@@ -487,4 +987,56 @@ public abstract class Try<T> {
                     '}';
         }
     }
+
+    /**
+     * Signals that the predicate passed to {@link Try#filter(Predicate)} does not hold. The message is only
+     * rendered if asked for, since converting the value to a {@code String} may be expensive.
+     */
+    static final class PredicateNotSatisfiedException extends NoSuchElementException {
+        private final transient Object value;
+        private String message;
+
+        PredicateNotSatisfiedException(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getMessage() {
+            if (message == null) message = "Predicate does not hold for " + value;
+            return message;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
+        }
+    }
+
+    /**
+     * Signals the invocation of {@link Try#failed()} on a {@link Success}
+     */
+    static final class SuccessFailedException extends UnsupportedOperationException {
+        SuccessFailedException() {
+            super("Success.failed");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
+        }
+    }
+
+    /**
+     * Signals that a {@code null} {@code Try} was passed to {@link Try#join(Try)}
+     */
+    private static final class NullTryException extends NullPointerException {
+        NullTryException() {
+            super("t is null");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
+        }
+    }
 }
@@ -0,0 +1,319 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Runs a batch of independent {@link FailableSupplier}s on an {@link Executor}, at most {@code concurrency} of
+ * them at a time.</p>
+ * <p>
+ * <p>Rather than submitting a task per supplier, the batch submits {@code concurrency} workers which pull the next
+ * supplier from a shared counter, so that a large batch neither floods the executor's queue nor needs a
+ * semaphore. Results are gathered in an array, in input order, and can also be streamed in completion order.</p>
+ * <p>
+ * <p>In fail-fast mode the first failure cancels the rest of the batch: the suppliers not started yet are skipped,
+ * and the ones running are interrupted. Each skipped supplier gets a {@link Try.Failure} holding a
+ * {@link CancellationException}. An interrupted supplier gets whatever {@code Try} it produced.</p>
+ * <p>
+ * <pre>
+ * List&lt;Try&lt;Page&gt;&gt; pages = TryBatch.of(8, executor).withFailFast().run(downloads);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryBatch {
+
+    private final int concurrency;
+    private final Executor executor;
+    private final boolean failFast;
+
+    private TryBatch(int concurrency, Executor executor, boolean failFast) {
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.failFast = failFast;
+    }
+
+    /**
+     * @param concurrency the maximum number of suppliers running at the same time
+     * @param executor    the {@link Executor} running the suppliers
+     * @return a batch runner which runs every supplier
+     */
+    public static TryBatch of(int concurrency, Executor executor) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        return new TryBatch(concurrency, Objects.requireNonNull(executor, "executor is null"), false);
+    }
+
+    /**
+     * @return a batch runner like {@code this} one which cancels the rest of the batch on the first failure
+     */
+    public TryBatch withFailFast() {
+        return new TryBatch(concurrency, executor, true);
+    }
+
+    /**
+     * Runs the suppliers and waits for all of them. If the calling thread is interrupted while waiting the batch is
+     * cancelled, the interrupt status is restored and the suppliers which did not run get a {@link Try.Failure}
+     * holding a {@link CancellationException}.
+     *
+     * @param suppliers the {@link FailableSupplier}s to run
+     * @param <T>       the type returned by the suppliers
+     * @return an unmodifiable, array-backed, list holding the outcome of each supplier, in input order
+     */
+    public <T> List<Try<T>> run(Collection<? extends FailableSupplier<? extends T>> suppliers) {
+        Execution<T> execution = new Execution<>(this, suppliers, null);
+        execution.start();
+        boolean interrupted = false;
+        try {
+            for (; ; ) {
+                try {
+                    return execution.future.await().get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    execution.cancel();
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the suppliers without waiting for them.
+     *
+     * @param suppliers the {@link FailableSupplier}s to run
+     * @param <T>       the type returned by the suppliers
+     * @return a {@link TryFuture} completed, once every supplier has run or has been cancelled, with an
+     * unmodifiable, array-backed, list holding the outcome of each supplier, in input order
+     */
+    public <T> TryFuture<List<Try<T>>> runAsync(Collection<? extends FailableSupplier<? extends T>> suppliers) {
+        Execution<T> execution = new Execution<>(this, suppliers, null);
+        execution.start();
+        return execution.future;
+    }
+
+    /**
+     * Runs the suppliers, streaming their outcomes as they complete. The stream blocks until the next outcome is
+     * available; if the consuming thread is interrupted while waiting the batch is cancelled, the interrupt status
+     * is restored and the stream yields a {@link Try.Failure} holding the {@link InterruptedException} in place of
+     * each outcome not available yet.
+     *
+     * @param suppliers the {@link FailableSupplier}s to run
+     * @param <T>       the type returned by the suppliers
+     * @return a sequential stream of the outcome of each supplier, in completion order
+     */
+    public <T> Stream<Try<T>> stream(Collection<? extends FailableSupplier<? extends T>> suppliers) {
+        BlockingQueue<Try<T>> completed = new LinkedBlockingQueue<>();
+        Execution<T> execution = new Execution<>(this, suppliers, completed::add);
+        execution.start();
+        int size = execution.results.length;
+        Iterator<Try<T>> iterator = new Iterator<Try<T>>() {
+            private int taken;
+
+            @Override
+            public boolean hasNext() {
+                return taken < size;
+            }
+
+            @Override
+            public Try<T> next() {
+                if (taken >= size) throw new NoSuchElementException();
+                taken++;
+                try {
+                    return completed.take();
+                } catch (InterruptedException e) {
+                    execution.cancel();
+                    Thread.currentThread().interrupt();
+                    return new Try.Failure<>(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliterator(iterator, size,
+                Spliterator.SIZED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public String toString() {
+        return "TryBatch{" +
+                "concurrency=" + concurrency +
+                ", failFast=" + failFast +
+                '}';
+    }
+
+    /**
+     * A running batch
+     */
+    private static final class Execution<T> {
+        final Executor executor;
+        final boolean failFast;
+        final FailableSupplier<?>[] suppliers;
+        final Try<?>[] results;
+        final Consumer<Try<T>> listener;
+        final Worker[] workers;
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger active;
+        final TryFuture<List<Try<T>>> future = new TryFuture<>();
+        volatile boolean cancelled;
+        volatile RuntimeException rejection;
+
+        Execution(TryBatch batch, Collection<? extends FailableSupplier<? extends T>> suppliers,
+                  Consumer<Try<T>> listener) {
+            this.executor = batch.executor;
+            this.failFast = batch.failFast;
+            this.suppliers = suppliers.toArray(new FailableSupplier<?>[0]);
+            this.results = new Try<?>[this.suppliers.length];
+            this.listener = listener;
+            this.workers = new Worker[Math.max(1, Math.min(batch.concurrency, this.suppliers.length))];
+            this.active = new AtomicInteger(workers.length);
+        }
+
+        void start() {
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = new Worker(this);
+            }
+            for (Worker worker : workers) {
+                try {
+                    executor.execute(worker);
+                } catch (RuntimeException e) {
+                    rejection = e;
+                    exited();
+                }
+            }
+        }
+
+        /**
+         * Stops the workers from starting new suppliers and interrupts the ones running
+         */
+        void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            for (Worker worker : workers) {
+                worker.interrupt();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(int index, Try<?> result) {
+            results[index] = result;
+            if (listener != null) listener.accept((Try<T>) result);
+            if (failFast && result.isFailure()) cancel();
+        }
+
+        /**
+         * Called by each worker on exit. The last one fills the slots of the skipped suppliers and completes the
+         * batch.
+         */
+        @SuppressWarnings("unchecked")
+        void exited() {
+            if (active.decrementAndGet() != 0) return;
+            Try<T> skipped = null;
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    if (skipped == null) skipped = new Try.Failure<>(rejection != null && !cancelled
+                            ? rejection
+                            : new CancellationException("batch cancelled"));
+                    results[i] = skipped;
+                    if (listener != null) listener.accept(skipped);
+                }
+            }
+            List<?> list = Collections.unmodifiableList(Arrays.asList(results));
+            future.tryComplete(new Try.Success<>((List<Try<T>>) list));
+        }
+    }
+
+    /**
+     * Runs suppliers until there are none left or the batch is cancelled. Its state arbitrates between the worker
+     * and a canceller, so that the worker thread is only interrupted while running a supplier of the batch and
+     * clears the interrupt before moving on.
+     */
+    private static final class Worker extends AtomicInteger implements Runnable {
+        private static final int IDLE = 0;
+        private static final int RUNNING = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int INTERRUPTED = 3;
+
+        private final Execution<?> execution;
+        private volatile Thread thread;
+
+        Worker(Execution<?> execution) {
+            this.execution = execution;
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            Execution<?> ex = execution;
+            try {
+                int index;
+                while (!ex.cancelled && (index = ex.next.getAndIncrement()) < ex.suppliers.length) {
+                    set(RUNNING);
+                    if (ex.cancelled) {
+                        finish();
+                        break;
+                    }
+                    Try<?> result;
+                    try {
+                        result = Try.apply(ex.suppliers[index]);
+                    } catch (Error e) {
+                        finish();
+                        ex.complete(index, new Try.Failure<>(e));
+                        ex.cancel();
+                        throw e;
+                    }
+                    boolean interrupted = !finish();
+                    ex.complete(index, result);
+                    if (interrupted) break;
+                }
+            } finally {
+                ex.exited();
+            }
+        }
+
+        /**
+         * @return {@code false} if the worker was interrupted by a canceller
+         */
+        boolean finish() {
+            if (compareAndSet(RUNNING, IDLE)) return true;
+            while (get() != INTERRUPTED) Thread.yield();
+            Thread.interrupted();
+            return false;
+        }
+
+        void interrupt() {
+            if (compareAndSet(RUNNING, INTERRUPTING)) {
+                thread.interrupt();
+                set(INTERRUPTED);
+            }
+        }
+    }
+}
@@ -16,8 +16,12 @@
 package com.lambdista.util;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterators;
 import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import com.lambdista.util.Try.Failure;
 import com.lambdista.util.Try.Success;
@@ -81,4 +85,60 @@ public interface TryBinaryOperator<T> extends BinaryOperator<Try<T>> {
     return TryBinaryOperator.of(BinaryOperator.maxBy(comparator));
   }
 
+  /**
+   * Folds the values with this operator starting from {@code identity}, like
+   * {@link Stream#reduce(Object, BinaryOperator)} does, but stops consuming
+   * {@code values} as soon as the accumulated result is a {@link Failure}.
+   * Since streams are lazy, the elements after the first failure are not even
+   * computed.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default Try<T> fold(Try<T> identity, Stream<? extends Try<T>> values) {
+    return fold(identity, Spliterators.iterator(values.spliterator()));
+  }
+
+  /**
+   * Same as {@link #fold(Try, Stream)} for an {@link Iterable}.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default Try<T> fold(Try<T> identity, Iterable<? extends Try<T>> values) {
+    return fold(identity, values.iterator());
+  }
+
+  /**
+   * Same as {@link #fold(Try, Stream)} for an {@link Iterator}. The iterator
+   * is left positioned right after the element which produced the failure.
+   *
+   * @param identity the initial value of the accumulation
+   * @param values the values to fold
+   * @return the accumulated result, or the first {@link Failure} encountered
+   */
+  default Try<T> fold(Try<T> identity, Iterator<? extends Try<T>> values) {
+    Try<T> result = identity;
+    while (result.isSuccess() && values.hasNext()) {
+      result = apply(result, values.next());
+    }
+    return result;
+  }
+
+  /**
+   * Reduces the values with this operator, like
+   * {@link Stream#reduce(BinaryOperator)} does, but stops consuming
+   * {@code values} as soon as the accumulated result is a {@link Failure}.
+   *
+   * @param values the values to reduce
+   * @return the accumulated result, or the first {@link Failure} encountered,
+   *         or {@link Optional#empty()} if {@code values} is empty
+   */
+  default Optional<Try<T>> reduce(Stream<? extends Try<T>> values) {
+    Iterator<? extends Try<T>> iterator = Spliterators.iterator(values.spliterator());
+    return iterator.hasNext() ? Optional.of(fold(iterator.next(), iterator)) : Optional.empty();
+  }
+
 }
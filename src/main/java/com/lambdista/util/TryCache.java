@@ -0,0 +1,538 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * <p>A loading cache of {@link Try} results: {@link #get(Object)} returns the cached {@code Try} for a key or runs
+ * the {@link Loader} to compute it, concurrent misses for the same key sharing a single load (see
+ * {@link TrySingleFlight}).</p>
+ * <p>
+ * <p>{@link Try.Success}es and {@link Try.Failure}s have separate time-to-live values, so that a cached failure
+ * shields a struggling backend for a few seconds without pinning it as broken for as long as a good value is kept.
+ * A zero failure time-to-live disables negative caching. Successes can also be refreshed asynchronously once they
+ * are older than a given age: the stale value keeps being served until the new one is loaded, and a failed refresh
+ * leaves it in place.</p>
+ * <p>
+ * <p>The cache can be bounded by number of entries or by total weight. Entries are evicted oldest first, but a new
+ * entry is only admitted if its key has been requested more often than the key of the entry it would evict, which
+ * keeps one-off keys from flushing the hot ones (TinyLFU admission). Access frequencies are estimated by a lock-free
+ * count-min sketch of 4-bit counters which are periodically halved, so that old popularity fades.</p>
+ * <p>
+ * <p>The configuration methods return a new, empty, cache, so they are meant to be chained before use:</p>
+ * <pre>
+ * TryCache&lt;String, User&gt; users = TryCache.of(this::loadUser)
+ *         .withMaximumSize(10_000)
+ *         .withTtl(10, 1, TimeUnit.MINUTES)
+ *         .withRefreshAfter(1, TimeUnit.MINUTES, executor);
+ * </pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryCache<K, V> {
+
+    /**
+     * Computes the value of a key, possibly throwing an exception
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws Exception;
+    }
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final Loader<? super K, ? extends V> loader;
+    private final long maximum;
+    private final ToLongBiFunction<? super K, ? super Try<V>> weigher;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final long refreshNanos;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final TrySingleFlight<K, Try<V>> loads = new TrySingleFlight<>();
+    private final AtomicLong weightedSize = new AtomicLong();
+    private final Queue<Node<K, V>> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final FrequencySketch sketch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private TryCache(Loader<? super K, ? extends V> loader, long maximum,
+                     ToLongBiFunction<? super K, ? super Try<V>> weigher, long successTtlNanos, long failureTtlNanos,
+                     long refreshNanos, Executor refreshExecutor) {
+        this.loader = loader;
+        this.maximum = maximum;
+        this.weigher = weigher;
+        this.successTtlNanos = successTtlNanos;
+        this.failureTtlNanos = failureTtlNanos;
+        this.refreshNanos = refreshNanos;
+        this.refreshExecutor = refreshExecutor;
+        this.sketch = maximum == UNBOUNDED ? null : new FrequencySketch(maximum);
+    }
+
+    /**
+     * @param loader the {@link Loader} computing the missing values
+     * @param <K>    the type of the keys
+     * @param <V>    the type of the values
+     * @return an unbounded cache whose entries never expire
+     */
+    public static <K, V> TryCache<K, V> of(Loader<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader, "loader is null");
+        return new TryCache<>(loader, UNBOUNDED, null, UNBOUNDED, UNBOUNDED, 0L, null);
+    }
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @return a new, empty, cache with the same configuration as {@code this} one apart from the bound
+     */
+    public TryCache<K, V> withMaximumSize(long maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        return new TryCache<>(loader, maximumSize, null, successTtlNanos, failureTtlNanos, refreshNanos,
+                refreshExecutor);
+    }
+
+    /**
+     * @param maximumWeight the maximum total weight of the entries
+     * @param weigher       the function computing the weight of an entry when it's inserted
+     * @return a new, empty, cache with the same configuration as {@code this} one apart from the bound
+     */
+    public TryCache<K, V> withMaximumWeight(long maximumWeight, ToLongBiFunction<? super K, ? super Try<V>> weigher) {
+        if (maximumWeight < 1) throw new IllegalArgumentException("maximumWeight must be positive: " + maximumWeight);
+        Objects.requireNonNull(weigher, "weigher is null");
+        return new TryCache<>(loader, maximumWeight, weigher, successTtlNanos, failureTtlNanos, refreshNanos,
+                refreshExecutor);
+    }
+
+    /**
+     * @param successTtl how long a {@link Try.Success} is kept after being loaded
+     * @param failureTtl how long a {@link Try.Failure} is kept after being loaded, 0 not to cache failures
+     * @param unit       the unit of {@code successTtl} and {@code failureTtl}
+     * @return a new, empty, cache with the same configuration as {@code this} one apart from the time-to-live values
+     */
+    public TryCache<K, V> withTtl(long successTtl, long failureTtl, TimeUnit unit) {
+        if (successTtl < 0 || failureTtl < 0) throw new IllegalArgumentException("ttl must not be negative");
+        return new TryCache<>(loader, maximum, weigher, unit.toNanos(successTtl), unit.toNanos(failureTtl),
+                refreshNanos, refreshExecutor);
+    }
+
+    /**
+     * @param refreshAfter the age after which a {@link Try.Success} is reloaded in the background on its next hit
+     * @param unit         the unit of {@code refreshAfter}
+     * @param executor     the {@link Executor} running the reloads
+     * @return a new, empty, cache with the same configuration as {@code this} one apart from the refresh
+     */
+    public TryCache<K, V> withRefreshAfter(long refreshAfter, TimeUnit unit, Executor executor) {
+        if (refreshAfter < 1) throw new IllegalArgumentException("refreshAfter must be positive: " + refreshAfter);
+        Objects.requireNonNull(executor, "executor is null");
+        return new TryCache<>(loader, maximum, weigher, successTtlNanos, failureTtlNanos, unit.toNanos(refreshAfter),
+                executor);
+    }
+
+    /**
+     * Returns the cached {@link Try} for the key, loading it in the calling thread if it's missing or expired.
+     * Concurrent misses for the same key share a single load.
+     *
+     * @param key the key to look up
+     * @return the cached or freshly loaded {@link Try}
+     */
+    public Try<V> get(K key) {
+        Try<V> cached = lookup(key);
+        if (cached != null) return cached;
+        return Try.flatten(loads.apply(key, () -> load(key)));
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the cached {@link Try} for the key, if any, without loading it
+     */
+    public Optional<Try<V>> getIfPresent(K key) {
+        return Optional.ofNullable(lookup(key));
+    }
+
+    /**
+     * Discards the cached {@link Try} for the key, if any
+     *
+     * @param key the key to discard
+     */
+    public void invalidate(K key) {
+        Node<K, V> node = entries.remove(key);
+        if (node != null) retire(node);
+    }
+
+    /**
+     * Discards all the cached entries
+     */
+    public void invalidateAll() {
+        for (K key : entries.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * @return the number of cached entries, including the expired ones not yet discarded
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    /**
+     * @return a snapshot of the statistics gathered so far
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(), evictions.sum());
+    }
+
+    /**
+     * @return the live cached {@link Try} for the key, or {@code null} on a miss
+     */
+    private Try<V> lookup(K key) {
+        Objects.requireNonNull(key, "key is null");
+        if (sketch != null) sketch.increment(key);
+        Node<K, V> node = entries.get(key);
+        if (node != null) {
+            long now = System.nanoTime();
+            if (now - node.loadedAt < (node.value.isSuccess() ? successTtlNanos : failureTtlNanos)) {
+                hits.increment();
+                if (refreshNanos > 0 && node.value.isSuccess() && now - node.refreshAt >= 0) refresh(node);
+                return node.value;
+            }
+            if (entries.remove(key, node)) retire(node);
+        }
+        misses.increment();
+        return null;
+    }
+
+    private Try<V> load(K key) {
+        Try<V> result = Try.apply(() -> loader.load(key));
+        if (result.isSuccess()) loadSuccesses.increment();
+        else loadFailures.increment();
+        if ((result.isSuccess() ? successTtlNanos : failureTtlNanos) > 0) insert(key, result, null);
+        return result;
+    }
+
+    private void refresh(Node<K, V> node) {
+        if (!node.refreshing.compareAndSet(false, true)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Try<V> result = Try.apply(() -> loader.load(node.key));
+                    if (result.isSuccess()) {
+                        loadSuccesses.increment();
+                        insert(node.key, result, node);
+                    } else {
+                        loadFailures.increment();
+                        node.refreshAt = System.nanoTime() + refreshNanos;
+                    }
+                } finally {
+                    node.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            node.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Inserts a new entry, replacing whatever is cached for the key or, if {@code expected} is not {@code null},
+     * only {@code expected}.
+     */
+    private void insert(K key, Try<V> value, Node<K, V> expected) {
+        long weight = weigher == null ? 1L : weigher.applyAsLong(key, value);
+        if (weight < 0) throw new IllegalArgumentException("weight must not be negative: " + weight);
+        long now = System.nanoTime();
+        Node<K, V> node = new Node<>(key, value, weight, now, now + refreshNanos);
+        if (expected == null) {
+            Node<K, V> previous = entries.put(key, node);
+            if (previous != null) retire(previous);
+        } else {
+            if (!entries.replace(key, expected, node)) return;
+            retire(expected);
+        }
+        weightedSize.addAndGet(weight);
+        if (maximum == UNBOUNDED) return;
+        order.add(node);
+        queued.incrementAndGet();
+        evict(node);
+    }
+
+    /**
+     * Brings the cache back within its bound. Only one thread evicts at a time, the others leave the work to it and
+     * check again once it's done.
+     */
+    private void evict(Node<K, V> candidate) {
+        while (weightedSize.get() > maximum && evicting.compareAndSet(false, true)) {
+            try {
+                while (weightedSize.get() > maximum) {
+                    Node<K, V> victim = oldestLive();
+                    if (victim == null) break;
+                    if (victim == candidate || candidate.isRetired()
+                            || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                        order.poll();
+                        queued.decrementAndGet();
+                        evictNode(victim);
+                    } else {
+                        evictNode(candidate);
+                    }
+                }
+                if (queued.get() > 2 * entries.size() + 16) purge();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private Node<K, V> oldestLive() {
+        Node<K, V> node;
+        while ((node = order.peek()) != null && node.isRetired()) {
+            order.poll();
+            queued.decrementAndGet();
+        }
+        return node;
+    }
+
+    /**
+     * Unlinks the retired entries stuck behind a live one, so that the eviction queue stays proportional to the
+     * cache size
+     */
+    private void purge() {
+        for (Iterator<Node<K, V>> it = order.iterator(); it.hasNext(); ) {
+            if (it.next().isRetired()) {
+                it.remove();
+                queued.decrementAndGet();
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        if (entries.remove(node.key, node)) {
+            retire(node);
+            evictions.increment();
+        }
+    }
+
+    private void retire(Node<K, V> node) {
+        if (node.compareAndSet(false, true)) weightedSize.addAndGet(-node.weight);
+    }
+
+    @Override
+    public String toString() {
+        return "TryCache{" +
+                "size=" + size() +
+                ", stats=" + stats() +
+                '}';
+    }
+
+    /**
+     * A snapshot of the statistics of a {@code TryCache}
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadSuccessCount;
+        private final long loadFailureCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadSuccessCount = loadSuccessCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return the number of lookups which found a live entry, be it a success or a failure
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of lookups which found no live entry
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the number of loads, refreshes included, which succeeded
+         */
+        public long getLoadSuccessCount() {
+            return loadSuccessCount;
+        }
+
+        /**
+         * @return the number of loads, refreshes included, which failed
+         */
+        public long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * @return the number of entries evicted, or not admitted, because of the bound
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return the ratio of lookups which were hits, 1 if there were no lookups
+         */
+        public double getHitRate() {
+            long lookups = hitCount + missCount;
+            return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", loadSuccessCount=" + loadSuccessCount +
+                    ", loadFailureCount=" + loadFailureCount +
+                    ", evictionCount=" + evictionCount +
+                    '}';
+        }
+    }
+
+    /**
+     * A cached entry. Its boolean state tells whether it has left the cache, so that its weight is subtracted
+     * exactly once.
+     */
+    private static final class Node<K, V> extends AtomicBoolean {
+        final K key;
+        final Try<V> value;
+        final long weight;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+        volatile long refreshAt;
+
+        Node(K key, Try<V> value, long weight, long loadedAt, long refreshAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.loadedAt = loadedAt;
+            this.refreshAt = refreshAt;
+        }
+
+        boolean isRetired() {
+            return get();
+        }
+    }
+
+    /**
+     * A count-min sketch with four rows of 4-bit counters packed sixteen to a {@code long}, updated with
+     * compare-and-set. Once the number of increments reaches ten times the capacity all the counters are halved.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final AtomicLongArray table;
+        private final int mask;
+        private final int sampleSize;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        FrequencySketch(long capacity) {
+            int size = Integer.highestOneBit((int) Math.max(16, Math.min(capacity, 1 << 20)) - 1) << 1;
+            this.table = new AtomicLongArray(size);
+            this.mask = size - 1;
+            this.sampleSize = 10 * size;
+        }
+
+        void increment(Object key) {
+            long hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                added |= incrementAt(indexOf(hash, row), offsetOf(hash, row));
+            }
+            if (added && additions.incrementAndGet() >= sampleSize) reset();
+        }
+
+        int frequency(Object key) {
+            long hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int count = (int) ((table.get(indexOf(hash, row)) >>> offsetOf(hash, row)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private boolean incrementAt(int index, int offset) {
+            long mask = 0xfL << offset;
+            for (; ; ) {
+                long word = table.get(index);
+                if ((word & mask) == mask) return false;
+                if (table.compareAndSet(index, word, word + (1L << offset))) return true;
+            }
+        }
+
+        private void reset() {
+            additions.set(0);
+            for (int i = 0; i < table.length(); i++) {
+                long word;
+                do {
+                    word = table.get(i);
+                } while (!table.compareAndSet(i, word, (word >>> 1) & RESET_MASK));
+            }
+        }
+
+        private int indexOf(long hash, int row) {
+            long h = hash * SEEDS[row];
+            h += h >>> 32;
+            return (int) h & mask;
+        }
+
+        private static int offsetOf(long hash, int row) {
+            long h = (hash >>> (row << 3)) * SEEDS[row];
+            return (int) ((h >>> 60) << 2);
+        }
+
+        private static long spread(int hashCode) {
+            long h = hashCode * 0x9e3779b97f4a7c15L;
+            return h ^ (h >>> 29);
+        }
+    }
+}
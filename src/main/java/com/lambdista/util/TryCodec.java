@@ -0,0 +1,465 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>Encodes {@link Try} values into a compact binary form, and back, so that they can be shipped between
+ * processes. Values are encoded by a pluggable {@link ValueCodec}; exceptions are encoded as their class name,
+ * message, stack trace truncated to {@link #withStackDepth(int) a few frames} and
+ * {@link #withCauseDepth(int) cause chain}.</p>
+ * <p>
+ * <p>Each {@code Try} is encoded as a record: a tag byte, the length of the rest as a 4-byte big-endian
+ * {@code int}, and the encoded value or exception. Records are therefore self-delimiting and can be written back to
+ * back to a buffer or a stream. {@link #encodeAll(Collection)} prefixes a batch of records with their number.</p>
+ * <p>
+ * <p>Decoding does not copy the input: the {@link ValueCodec} reads each value straight from the given buffer,
+ * heap or direct. A decoded failure holds a {@link DecodedFailureException}, which keeps a copy of its own record
+ * and parses its message, stack trace and cause only when they are asked for. No class is ever loaded from the
+ * names read, so decoding untrusted input is safe. Input which does not start with a valid record header decodes
+ * into a {@link Try.Failure} holding a {@link StreamCorruptedException}, and a value the {@code ValueCodec} cannot
+ * decode into a {@code Failure} holding its exception.</p>
+ * <p>
+ * <pre>
+ * TryCodec&lt;String&gt; codec = TryCodec.of(TryCodec.ValueCodec.STRING);
+ * byte[] bytes = codec.encode(Try.apply(() -&gt; fetch(url)));
+ * Try&lt;String&gt; page = codec.decode(ByteBuffer.wrap(bytes));
+ * </pre>
+ *
+ * @param <T> the type of the encoded values
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryCodec<T> {
+
+    /**
+     * The number of stack frames encoded per exception by default
+     */
+    public static final int DEFAULT_STACK_DEPTH = 16;
+
+    /**
+     * The number of causes encoded per exception by default
+     */
+    public static final int DEFAULT_CAUSE_DEPTH = 8;
+
+    static final byte SUCCESS = 0;
+    static final byte FAILURE = 1;
+
+    private static final int HEADER_LENGTH = 5;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int READ_CHUNK = 8192;
+
+    private final ValueCodec<T> valueCodec;
+    private final int stackDepth;
+    private final int causeDepth;
+
+    private TryCodec(ValueCodec<T> valueCodec, int stackDepth, int causeDepth) {
+        this.valueCodec = valueCodec;
+        this.stackDepth = stackDepth;
+        this.causeDepth = causeDepth;
+    }
+
+    /**
+     * Encodes and decodes the values held by a {@link Try.Success}.
+     *
+     * @param <T> the type of the values
+     */
+    public interface ValueCodec<T> {
+
+        /**
+         * Strings encoded as UTF-8
+         */
+        ValueCodec<String> STRING = new ValueCodec<String>() {
+            @Override
+            public void encode(String value, ByteBuffer out) {
+                putString(value, out);
+            }
+
+            @Override
+            public String decode(ByteBuffer in) {
+                return getString(in);
+            }
+        };
+
+        /**
+         * {@code Integer}s encoded as 4 bytes, {@code null} included
+         */
+        ValueCodec<Integer> INTEGER = new ValueCodec<Integer>() {
+            @Override
+            public void encode(Integer value, ByteBuffer out) {
+                if (value != null) out.putInt(value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer in) {
+                return in.hasRemaining() ? in.getInt() : null;
+            }
+        };
+
+        /**
+         * {@code Long}s encoded as 8 bytes, {@code null} included
+         */
+        ValueCodec<Long> LONG = new ValueCodec<Long>() {
+            @Override
+            public void encode(Long value, ByteBuffer out) {
+                if (value != null) out.putLong(value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer in) {
+                return in.hasRemaining() ? in.getLong() : null;
+            }
+        };
+
+        /**
+         * Raw bytes: the remaining bytes of the value are encoded as they are, and decoded as a read-only view of the
+         * input rather than a copy
+         */
+        ValueCodec<ByteBuffer> BYTES = new ValueCodec<ByteBuffer>() {
+            @Override
+            public void encode(ByteBuffer value, ByteBuffer out) {
+                out.put(value.duplicate());
+            }
+
+            @Override
+            public ByteBuffer decode(ByteBuffer in) {
+                return in.slice().asReadOnlyBuffer();
+            }
+        };
+
+        /**
+         * Writes {@code value} at the position of {@code out}. Running out of room must surface as the
+         * {@link BufferOverflowException} thrown by the {@code put} methods of {@link ByteBuffer}: the
+         * {@link TryCodec} then retries with a larger buffer if it owns it.
+         *
+         * @param value the value to encode
+         * @param out   the buffer to write to
+         */
+        void encode(T value, ByteBuffer out);
+
+        /**
+         * Reads a value written by {@link #encode(Object, ByteBuffer)}.
+         *
+         * @param in a buffer whose remaining bytes are exactly the ones written by
+         *           {@link #encode(Object, ByteBuffer)}. It is a view of the input, which must not be retained
+         *           unless the input is not reused.
+         * @return the decoded value
+         * @throws Exception if the value cannot be decoded, which makes the decoded {@code Try} a
+         *                   {@link Try.Failure} holding it
+         */
+        T decode(ByteBuffer in) throws Exception;
+    }
+
+    /**
+     * @param valueCodec the {@link ValueCodec} encoding the values held by the {@link Try.Success}es
+     * @param <T>        the type of the values
+     * @return a codec encoding {@value #DEFAULT_STACK_DEPTH} stack frames and {@value #DEFAULT_CAUSE_DEPTH} causes
+     * per exception
+     */
+    public static <T> TryCodec<T> of(ValueCodec<T> valueCodec) {
+        return new TryCodec<>(Objects.requireNonNull(valueCodec, "valueCodec is null"), DEFAULT_STACK_DEPTH,
+                DEFAULT_CAUSE_DEPTH);
+    }
+
+    /**
+     * @param maxFrames the number of innermost stack frames to encode per exception, 0 to encode none
+     * @return a codec like {@code this} one encoding at most {@code maxFrames} stack frames per exception
+     */
+    public TryCodec<T> withStackDepth(int maxFrames) {
+        if (maxFrames < 0) throw new IllegalArgumentException("maxFrames must not be negative: " + maxFrames);
+        return new TryCodec<>(valueCodec, maxFrames, causeDepth);
+    }
+
+    /**
+     * @param maxCauses the number of causes to encode per exception, 0 to encode none
+     * @return a codec like {@code this} one encoding at most {@code maxCauses} causes per exception
+     */
+    public TryCodec<T> withCauseDepth(int maxCauses) {
+        if (maxCauses < 0) throw new IllegalArgumentException("maxCauses must not be negative: " + maxCauses);
+        return new TryCodec<>(valueCodec, stackDepth, maxCauses);
+    }
+
+    /**
+     * Writes the record of {@code t} at the position of {@code out}.
+     *
+     * @param t   the {@code Try} to encode
+     * @param out the buffer to write to
+     * @throws BufferOverflowException if {@code out} has not enough room, in which case its position is left
+     *                                 unchanged
+     */
+    public void encode(Try<? extends T> t, ByteBuffer out) {
+        int start = out.position();
+        try {
+            encodeRecord(t, out);
+        } catch (BufferOverflowException e) {
+            ((Buffer) out).position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * @param t the {@code Try} to encode
+     * @return the record of {@code t}
+     */
+    public byte[] encode(Try<? extends T> t) {
+        return encode(out -> encodeRecord(t, out));
+    }
+
+    /**
+     * Writes the records of a batch of {@code Try}s, preceded by their number, at the position of {@code out}.
+     *
+     * @param tries the {@code Try}s to encode
+     * @param out   the buffer to write to
+     * @throws BufferOverflowException if {@code out} has not enough room, in which case its position is left
+     *                                 unchanged
+     */
+    public void encodeAll(Collection<? extends Try<? extends T>> tries, ByteBuffer out) {
+        int start = out.position();
+        try {
+            encodeBatch(tries, out);
+        } catch (BufferOverflowException e) {
+            ((Buffer) out).position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * @param tries the {@code Try}s to encode
+     * @return the records of {@code tries}, preceded by their number
+     */
+    public byte[] encodeAll(Collection<? extends Try<? extends T>> tries) {
+        return encode(out -> encodeBatch(tries, out));
+    }
+
+    /**
+     * Writes the record of {@code t} to a stream.
+     *
+     * @param t   the {@code Try} to encode
+     * @param out the stream to write to
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void write(Try<? extends T> t, OutputStream out) throws IOException {
+        out.write(encode(t));
+    }
+
+    /**
+     * Reads the record at the position of {@code in} and moves past it.
+     *
+     * @param in the buffer to read
+     * @return the decoded {@code Try}
+     */
+    public Try<T> decode(ByteBuffer in) {
+        if (in.remaining() < HEADER_LENGTH) return corrupted(in, "truncated record header");
+        byte tag = in.get();
+        int length = in.getInt();
+        if ((tag != SUCCESS && tag != FAILURE) || length < 0 || length > in.remaining()) {
+            return corrupted(in, "invalid record header");
+        }
+        int end = in.position() + length;
+        try {
+            if (tag == FAILURE) {
+                byte[] record = new byte[length];
+                in.get(record);
+                return new Try.Failure<>(new DecodedFailureException(record));
+            }
+            ByteBuffer value = in.duplicate();
+            ((Buffer) value).limit(end);
+            return new Try.Success<>(valueCodec.decode(value));
+        } catch (Throwable e) {
+            return new Try.Failure<>(Try.nonFatal(e));
+        } finally {
+            ((Buffer) in).position(end);
+        }
+    }
+
+    /**
+     * Reads the batch of records at the position of {@code in} and moves past it.
+     *
+     * @param in the buffer to read
+     * @return the decoded {@code Try}s, in order
+     * @throws IllegalArgumentException if {@code in} does not start with a valid batch size
+     */
+    public List<Try<T>> decodeAll(ByteBuffer in) {
+        int size = in.remaining() < 4 ? -1 : in.getInt();
+        if (size < 0 || size > in.remaining() / HEADER_LENGTH) {
+            throw new IllegalArgumentException("invalid batch size: " + size);
+        }
+        List<Try<T>> tries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tries.add(decode(in));
+        }
+        return tries;
+    }
+
+    /**
+     * Reads the next record from a stream. A record with an invalid header decodes into a {@link Try.Failure}
+     * holding a {@link StreamCorruptedException}. The length in the header is not trusted: the record is read in
+     * chunks, so a corrupted length costs at most twice the bytes the stream actually holds.
+     *
+     * @param in the stream to read
+     * @return the decoded {@code Try}
+     * @throws java.io.EOFException if {@code in} ends before the record does
+     * @throws IOException          if reading from {@code in} fails
+     */
+    public Try<T> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte tag = data.readByte();
+        int length = data.readInt();
+        if ((tag != SUCCESS && tag != FAILURE) || length < 0 || length > Integer.MAX_VALUE - HEADER_LENGTH) {
+            return corrupted(ByteBuffer.allocate(0), "invalid record header");
+        }
+        int end = HEADER_LENGTH + length;
+        byte[] record = new byte[Math.min(end, READ_CHUNK)];
+        ByteBuffer.wrap(record).put(tag).putInt(length);
+        int filled = HEADER_LENGTH;
+        while (filled < end) {
+            if (filled == record.length) record = Arrays.copyOf(record, (int) Math.min(end, 2L * record.length));
+            int n = data.read(record, filled, record.length - filled);
+            if (n < 0) throw new EOFException();
+            filled += n;
+        }
+        return decode(ByteBuffer.wrap(record));
+    }
+
+    private void encodeBatch(Collection<? extends Try<? extends T>> tries, ByteBuffer out) {
+        out.putInt(tries.size());
+        for (Try<? extends T> t : tries) {
+            encodeRecord(t, out);
+        }
+    }
+
+    private void encodeRecord(Try<? extends T> t, ByteBuffer out) {
+        int start = out.position();
+        ((Buffer) out).position(start + HEADER_LENGTH);
+        byte tag;
+        if (t instanceof Try.Failure) {
+            tag = FAILURE;
+            encodeException(((Try.Failure<?>) t).exception(), out);
+        } else {
+            tag = SUCCESS;
+            valueCodec.encode(t.get(), out);
+        }
+        out.put(start, tag);
+        out.putInt(start + 1, out.position() - start - HEADER_LENGTH);
+    }
+
+    private void encodeException(Throwable exception, ByteBuffer out) {
+        Throwable e = exception;
+        for (int depth = 0; ; depth++) {
+            putString(e instanceof DecodedFailureException ? ((DecodedFailureException) e).getClassName()
+                    : e.getClass().getName(), out);
+            putString(e.getMessage(), out);
+            StackTraceElement[] stack = stackDepth == 0 ? new StackTraceElement[0] : e.getStackTrace();
+            int frames = Math.min(stack.length, stackDepth);
+            putVarint(frames, out);
+            for (int i = 0; i < frames; i++) {
+                putString(stack[i].getClassName(), out);
+                putString(stack[i].getMethodName(), out);
+                putString(stack[i].getFileName(), out);
+                putVarint((stack[i].getLineNumber() << 1) ^ (stack[i].getLineNumber() >> 31), out);
+            }
+            Throwable cause = e.getCause();
+            boolean more = cause != null && cause != e && depth < causeDepth;
+            out.put((byte) (more ? 1 : 0));
+            if (!more) return;
+            e = cause;
+        }
+    }
+
+    private static byte[] encode(Consumer<ByteBuffer> encoder) {
+        for (int capacity = INITIAL_CAPACITY; ; capacity *= 2) {
+            ByteBuffer out = ByteBuffer.allocate(capacity);
+            try {
+                encoder.accept(out);
+            } catch (BufferOverflowException e) {
+                if (capacity > Integer.MAX_VALUE / 2) throw e;
+                continue;
+            }
+            byte[] bytes = new byte[out.position()];
+            System.arraycopy(out.array(), 0, bytes, 0, bytes.length);
+            return bytes;
+        }
+    }
+
+    private static <T> Try<T> corrupted(ByteBuffer in, String message) {
+        ((Buffer) in).position(in.limit());
+        return new Try.Failure<>(new StreamCorruptedException(message));
+    }
+
+    static void putVarint(int value, ByteBuffer out) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    /**
+     * Strings are encoded as their UTF-8 length plus one, as a varint, followed by their UTF-8 bytes. A length of
+     * 0 stands for {@code null}.
+     */
+    static void putString(String s, ByteBuffer out) {
+        if (s == null) {
+            out.put((byte) 0);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        putVarint(bytes.length + 1, out);
+        out.put(bytes);
+    }
+
+    static String getString(ByteBuffer in) {
+        int length = getVarint(in) - 1;
+        if (length < 0) return null;
+        if (length > in.remaining()) throw new IllegalArgumentException("string longer than its record");
+        String s;
+        if (in.hasArray()) {
+            s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            ByteBuffer bytes = in.duplicate();
+            ((Buffer) bytes).limit(in.position() + length);
+            s = StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+        ((Buffer) in).position(in.position() + length);
+        return s;
+    }
+}
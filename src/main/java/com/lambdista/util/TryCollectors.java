@@ -0,0 +1,282 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * <p>{@link Collector}s for streams of {@link Try} values. Each of them goes through the stream once, reads the
+ * elements without converting them (e.g. no {@link Try#toOptional()}) and has a combiner merging partial results,
+ * so they can be used with parallel streams as well.</p>
+ * <p>
+ * <pre>
+ * TryCollectors.Partition&lt;List&lt;Integer&gt;, List&lt;Throwable&gt;&gt; p = lines.stream()
+ *         .map(line -&gt; Try.apply(() -&gt; Integer.parseInt(line)))
+ *         .collect(TryCollectors.partitioning());
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryCollectors {
+
+    private TryCollectors() {
+    }
+
+    /**
+     * @param <T> the type wrapped by {@code Try}
+     * @return a {@link Collector} splitting the elements into the list of the values of the successes and the list
+     * of the exceptions of the failures, both in encounter order
+     */
+    public static <T> Collector<Try<? extends T>, ?, Partition<List<T>, List<Throwable>>> partitioning() {
+        return partitioning(Collectors.toList(), Collectors.toList());
+    }
+
+    /**
+     * @param successes the {@link Collector} receiving the values of the successes
+     * @param failures  the {@link Collector} receiving the exceptions of the failures
+     * @param <T>       the type wrapped by {@code Try}
+     * @param <S>       the result type of {@code successes}
+     * @param <F>       the result type of {@code failures}
+     * @return a {@link Collector} feeding each success to {@code successes} and each failure to {@code failures}
+     */
+    public static <T, S, F> Collector<Try<? extends T>, ?, Partition<S, F>> partitioning(
+            Collector<? super T, ?, S> successes, Collector<? super Throwable, ?, F> failures) {
+        return partitioningImpl(successes, failures);
+    }
+
+    /**
+     * @param downstream the {@link Collector} receiving the values of the successes
+     * @param <T>        the type wrapped by {@code Try}
+     * @param <A>        the accumulation type of {@code downstream}
+     * @param <R>        the result type of {@code downstream}
+     * @return a {@link Collector} feeding the values of the successes to {@code downstream} and ignoring the
+     * failures
+     */
+    public static <T, A, R> Collector<Try<? extends T>, A, R> successesTo(Collector<? super T, A, R> downstream) {
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        return Collector.of(downstream.supplier(),
+                (a, t) -> {
+                    if (t.isSuccess()) accumulator.accept(a, t.get());
+                },
+                downstream.combiner(),
+                downstream.finisher(),
+                characteristics(downstream));
+    }
+
+    /**
+     * @param <T> the type wrapped by {@code Try}
+     * @return a {@link Collector} returning a {@link Try.Success} of the list of all the values or the first
+     * {@link Try.Failure} in encounter order
+     */
+    public static <T> Collector<Try<? extends T>, ?, Try<List<T>>> failFast() {
+        return failFast(Collectors.toList());
+    }
+
+    /**
+     * Collects the values of the successes with {@code downstream} until a {@link Try.Failure} is met. Then it stops
+     * accumulating and returns the first failure in encounter order. Note that a {@link Collector} cannot stop the
+     * stream from being consumed, so use {@link Try#sequence(java.util.stream.Stream)} if the remaining elements are
+     * expensive to produce.
+     *
+     * @param downstream the {@link Collector} receiving the values of the successes
+     * @param <T>        the type wrapped by {@code Try}
+     * @param <R>        the result type of {@code downstream}
+     * @return a {@link Collector} returning a {@link Try.Success} of the result of {@code downstream} or the first
+     * {@link Try.Failure}
+     */
+    public static <T, R> Collector<Try<? extends T>, ?, Try<R>> failFast(Collector<? super T, ?, R> downstream) {
+        return failFastImpl(downstream);
+    }
+
+    /**
+     * @return a {@link Collector} counting the successes and the failures, the latter grouped by exception class
+     */
+    public static Collector<Try<?>, ?, Summary> summarizing() {
+        return Collector.of(Summary::new, Summary::accept, Summary::combine,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    private static <T, A1, A2, S, F> Collector<Try<? extends T>, ?, Partition<S, F>> partitioningImpl(
+            Collector<? super T, A1, S> successes, Collector<? super Throwable, A2, F> failures) {
+        Supplier<A1> successSupplier = successes.supplier();
+        Supplier<A2> failureSupplier = failures.supplier();
+        BiConsumer<A1, ? super T> successAccumulator = successes.accumulator();
+        BiConsumer<A2, ? super Throwable> failureAccumulator = failures.accumulator();
+        BinaryOperator<A1> successCombiner = successes.combiner();
+        BinaryOperator<A2> failureCombiner = failures.combiner();
+        Function<A1, S> successFinisher = successes.finisher();
+        Function<A2, F> failureFinisher = failures.finisher();
+        return Collector.<Try<? extends T>, Partition<A1, A2>, Partition<S, F>>of(
+                () -> new Partition<>(successSupplier.get(), failureSupplier.get()),
+                (p, t) -> {
+                    if (t instanceof Try.Failure) failureAccumulator.accept(p.failures, ((Try.Failure<?>) t).exception());
+                    else successAccumulator.accept(p.successes, t.get());
+                },
+                (left, right) -> new Partition<>(successCombiner.apply(left.successes, right.successes),
+                        failureCombiner.apply(left.failures, right.failures)),
+                p -> new Partition<>(successFinisher.apply(p.successes), failureFinisher.apply(p.failures)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, A, R> Collector<Try<? extends T>, ?, Try<R>> failFastImpl(Collector<? super T, A, R> downstream) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, R> finisher = downstream.finisher();
+        return Collector.<Try<? extends T>, FailFast<A>, Try<R>>of(
+                () -> new FailFast<>(supplier.get()),
+                (f, t) -> {
+                    if (f.failure != null) return;
+                    if (t instanceof Try.Failure) f.failure = (Try<?>) t;
+                    else accumulator.accept(f.container, t.get());
+                },
+                (left, right) -> {
+                    if (left.failure != null) return left;
+                    if (right.failure != null) return right;
+                    left.container = combiner.apply(left.container, right.container);
+                    return left;
+                },
+                f -> f.failure != null ? (Try<R>) f.failure : new Try.Success<>(finisher.apply(f.container)));
+    }
+
+    private static Collector.Characteristics[] characteristics(Collector<?, ?, ?> downstream) {
+        Set<Collector.Characteristics> characteristics = downstream.characteristics();
+        return characteristics.toArray(new Collector.Characteristics[characteristics.size()]);
+    }
+
+    /**
+     * The container of {@link #failFast(Collector)}
+     */
+    private static final class FailFast<A> {
+        A container;
+        Try<?> failure;
+
+        FailFast(A container) {
+            this.container = container;
+        }
+    }
+
+    /**
+     * The result of {@link #partitioning(Collector, Collector)}
+     *
+     * @param <S> the type of the result of the successes
+     * @param <F> the type of the result of the failures
+     */
+    public static final class Partition<S, F> {
+        private final S successes;
+        private final F failures;
+
+        Partition(S successes, F failures) {
+            this.successes = successes;
+            this.failures = failures;
+        }
+
+        /**
+         * @return what was collected from the values of the successes
+         */
+        public S getSuccesses() {
+            return successes;
+        }
+
+        /**
+         * @return what was collected from the exceptions of the failures
+         */
+        public F getFailures() {
+            return failures;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition{" +
+                    "successes=" + successes +
+                    ", failures=" + failures +
+                    '}';
+        }
+    }
+
+    /**
+     * The result of {@link #summarizing()}: counts of successes and failures
+     */
+    public static final class Summary {
+        private long successCount;
+        private long failureCount;
+        private final Map<Class<? extends Throwable>, Long> failureCounts = new HashMap<>();
+
+        void accept(Try<?> t) {
+            if (t instanceof Try.Failure) {
+                failureCount++;
+                failureCounts.merge(((Try.Failure<?>) t).exception().getClass(), 1L, Long::sum);
+            } else {
+                successCount++;
+            }
+        }
+
+        Summary combine(Summary other) {
+            successCount += other.successCount;
+            failureCount += other.failureCount;
+            other.failureCounts.forEach((type, count) -> failureCounts.merge(type, count, Long::sum));
+            return this;
+        }
+
+        /**
+         * @return the number of successes
+         */
+        public long getSuccessCount() {
+            return successCount;
+        }
+
+        /**
+         * @return the number of failures
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * @return the number of elements
+         */
+        public long getCount() {
+            return successCount + failureCount;
+        }
+
+        /**
+         * @return the number of failures for each exception class met
+         */
+        public Map<Class<? extends Throwable>, Long> getFailureCounts() {
+            return Collections.unmodifiableMap(failureCounts);
+        }
+
+        @Override
+        public String toString() {
+            return "Summary{" +
+                    "successCount=" + successCount +
+                    ", failureCount=" + failureCount +
+                    ", failureCounts=" + failureCounts +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>File helpers yielding a {@link Try} per unit of work rather than one {@code Try} for the whole file.</p>
+ * <p>
+ * <p>{@link #lines(Path)} memory-maps the file a window at a time and decodes each line only when the stream
+ * reaches it, so a multi-GB log is read with bounded heap. A line which cannot be decoded, or which is longer than
+ * the configured limit, becomes a {@link Try.Failure} on its own while the lines around it are still returned.
+ * The stream splits at line boundaries, so it can be processed in {@link Stream#parallel() parallel}:</p>
+ * <p>
+ * <pre>
+ * try (Stream&lt;Try&lt;String&gt;&gt; lines = TryFiles.lines(log).get()) {
+ *     long errors = lines.parallel().filter(line -&gt; line.map(l -&gt; l.contains("ERROR")).getOrElse(false)).count();
+ * }
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryFiles {
+
+    /**
+     * The maximum length in bytes of a line, excluding its terminator, used by {@link #lines(Path)}: 8 MiB
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 8 << 20;
+
+    static final int DEFAULT_WINDOW = 32 << 20;
+
+    private static final int MIN_SPLIT = 64 << 10;
+    private static final int SCAN_BUFFER = 8 << 10;
+
+    private TryFiles() {
+    }
+
+    /**
+     * Same as {@link #lines(Path, Charset)} using UTF-8.
+     *
+     * @param path the file to read
+     * @return a {@link Try.Success} holding the lazily read lines, or a {@link Try.Failure} if the file could not be
+     * opened
+     */
+    public static Try<Stream<Try<String>>> lines(Path path) {
+        return lines(path, StandardCharsets.UTF_8, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Same as {@link #lines(Path, Charset, int)} with a maximum line length of {@link #DEFAULT_MAX_LINE_LENGTH}.
+     *
+     * @param path    the file to read
+     * @param charset the charset of the file
+     * @return a {@link Try.Success} holding the lazily read lines, or a {@link Try.Failure} if the file could not be
+     * opened
+     */
+    public static Try<Stream<Try<String>>> lines(Path path, Charset charset) {
+        return lines(path, charset, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * <p>Reads the lines of a file as a lazily populated {@link Stream}. Lines are terminated by {@code \n} or
+     * {@code \r\n}, and a terminator at the end of the file does not start an empty line, just like
+     * {@link java.io.BufferedReader#readLine()}.</p>
+     * <p>
+     * <p>Each element is a {@link Try.Success} holding the line, or a {@link Try.Failure} holding the
+     * {@link CharacterCodingException} raised decoding it, the {@link IOException} raised reading it, or an
+     * {@code IOException} if it is longer than {@code maxLineLength} bytes. The stream must be closed to release the
+     * file.</p>
+     *
+     * @param path          the file to read
+     * @param charset       the charset of the file, which must encode {@code \n} as the single byte {@code 0x0A}
+     *                      (e.g. UTF-8, US-ASCII or ISO-8859-1)
+     * @param maxLineLength the maximum length in bytes of a line, excluding its terminator
+     * @return a {@link Try.Success} holding the lazily read lines, or a {@link Try.Failure} if the file could not be
+     * opened
+     * @throws IllegalArgumentException if {@code charset} does not encode {@code \n} as a single byte or
+     *                                  {@code maxLineLength} is not positive
+     */
+    public static Try<Stream<Try<String>>> lines(Path path, Charset charset, int maxLineLength) {
+        return lines(path, charset, maxLineLength, DEFAULT_WINDOW);
+    }
+
+    static Try<Stream<Try<String>>> lines(Path path, Charset charset, int maxLineLength, int window) {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(charset, "charset is null");
+        if (!Arrays.equals("\n".getBytes(charset), new byte[]{'\n'})) {
+            throw new IllegalArgumentException(charset + " does not encode line feeds as a single byte");
+        }
+        if (maxLineLength < 1 || maxLineLength > Integer.MAX_VALUE - 2) {
+            throw new IllegalArgumentException("maxLineLength out of range: " + maxLineLength);
+        }
+        return Try.apply(() -> {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                LineSpliterator lines = new LineSpliterator(channel, charset, maxLineLength, window, 0, channel.size());
+                return StreamSupport.stream(lines, false).onClose(() -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Splits the byte range {@code [position, end)} of a file into lines. Splitting hands out the first half of the
+     * range, cut right after a line feed, so every spliterator starts at the beginning of a line.
+     */
+    private static final class LineSpliterator implements Spliterator<Try<String>> {
+
+        private final FileChannel channel;
+        private final Charset charset;
+        private final int maxLineLength;
+        private final int window;
+        private final long end;
+
+        private long position;
+        private MappedByteBuffer buffer;
+        private long bufferStart;
+        private CharsetDecoder decoder;
+
+        LineSpliterator(FileChannel channel, Charset charset, int maxLineLength, int window, long position, long end) {
+            this.channel = channel;
+            this.charset = charset;
+            this.maxLineLength = maxLineLength;
+            this.window = window;
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Try<String>> action) {
+            if (position >= end) return false;
+            Try<String> line;
+            try {
+                line = nextLine();
+            } catch (IOException e) {
+                // the mapping failed: the rest of the range cannot be read
+                position = end;
+                line = new Try.Failure<>(e);
+            }
+            action.accept(line);
+            return true;
+        }
+
+        private Try<String> nextLine() throws IOException {
+            if (buffer == null || position >= bufferEnd()) map(window);
+            int from = (int) (position - bufferStart);
+            int newline = indexOfNewline(buffer, from, buffer.limit());
+            while (newline < 0 && bufferEnd() < end && buffer.limit() - from <= maxLineLength) {
+                // the line crosses the window: map again starting from the line, with room for the whole of it
+                int scanned = buffer.limit() - from;
+                map(Math.max(window, Math.min(2L * scanned, maxLineLength + 2L)));
+                from = 0;
+                newline = indexOfNewline(buffer, scanned, buffer.limit());
+            }
+            int to = newline < 0 ? buffer.limit() : newline;
+            if (to > from && buffer.get(to - 1) == '\r') to--;
+            if (to - from > maxLineLength) {
+                long start = position;
+                skipLine(newline);
+                return new Try.Failure<>(new IOException("Line at byte " + start + " is longer than " +
+                        maxLineLength + " bytes"));
+            }
+            position = newline < 0 ? bufferEnd() : bufferStart + newline + 1;
+            return decode(from, to);
+        }
+
+        private Try<String> decode(int from, int to) {
+            if (decoder == null) {
+                decoder = charset.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT);
+            }
+            ByteBuffer bytes = buffer.duplicate();
+            ((Buffer) bytes).limit(to);
+            ((Buffer) bytes).position(from);
+            try {
+                return new Try.Success<>(decoder.decode(bytes).toString());
+            } catch (CharacterCodingException e) {
+                return new Try.Failure<>(e);
+            }
+        }
+
+        private void skipLine(int newline) throws IOException {
+            if (newline >= 0) {
+                position = bufferStart + newline + 1;
+                return;
+            }
+            long next = nextLineStart(bufferEnd());
+            position = next < 0 ? end : next;
+        }
+
+        private void map(long size) throws IOException {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size, end - position));
+            bufferStart = position;
+        }
+
+        private long bufferEnd() {
+            return bufferStart + buffer.limit();
+        }
+
+        /**
+         * @return the offset of the first byte following a line feed found at or after {@code from}, or -1 if
+         * there is no line feed before {@link #end}
+         */
+        private long nextLineStart(long from) throws IOException {
+            ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER);
+            long offset = from;
+            while (offset < end) {
+                ((Buffer) scan).clear();
+                if (end - offset < SCAN_BUFFER) ((Buffer) scan).limit((int) (end - offset));
+                int read = channel.read(scan, offset);
+                if (read < 0) return -1;
+                int newline = indexOfNewline(scan, 0, read);
+                if (newline >= 0) return offset + newline + 1;
+                offset += read;
+            }
+            return -1;
+        }
+
+        @Override
+        public Spliterator<Try<String>> trySplit() {
+            long remaining = end - position;
+            if (remaining < MIN_SPLIT) return null;
+            long split;
+            try {
+                // a line feed right before the middle makes the middle itself a line start
+                split = nextLineStart(position + remaining / 2 - 1);
+            } catch (IOException e) {
+                return null;
+            }
+            if (split < 0 || split >= end) return null;
+            LineSpliterator prefix = new LineSpliterator(channel, charset, maxLineLength, window, position, split);
+            position = split;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    private static int indexOfNewline(ByteBuffer bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+}
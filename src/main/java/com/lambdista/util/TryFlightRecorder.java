@@ -0,0 +1,133 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Emits Java Flight Recorder events for the {@link Try} operations: a {@code com.lambdista.util.TryFailure}
+ * event for each failure, a {@code com.lambdista.util.TryRecovery} event each time {@code recover} or
+ * {@code recoverWith} handle a failure, telling whether they succeeded, and a
+ * {@code com.lambdista.util.TrySlowOperation} event for each operation taking longer than a threshold. Every event
+ * carries the operation name, the exception class, if any, and the duration of the operation.</p>
+ * <p>
+ * <p>Once installed, a {@link TryHook} is registered with {@link TryHooks} only while at least one recording is
+ * running, so that operations pay nothing when nobody is recording. The events can be enabled and disabled
+ * individually through the usual recording settings. On JVMs without Flight Recorder, or if the library was built
+ * without the {@code jfr} Maven profile, installing does nothing.</p>
+ * <p>
+ * <pre>
+ * TryFlightRecorder.install(0, 50, TimeUnit.MILLISECONDS);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryFlightRecorder {
+
+    /**
+     * The slow operation threshold used by {@link #install()}, in milliseconds
+     */
+    public static final long DEFAULT_SLOW_THRESHOLD_MILLIS = 100L;
+
+    private static final String SUPPORT_CLASS = "com.lambdista.util.JfrSupport";
+
+    private static final boolean AVAILABLE = detect();
+
+    /**
+     * The installed {@code JfrSupport}, which is loaded by name since it's only compiled with the jdk.jfr API
+     */
+    private static Installation installed;
+
+    private TryFlightRecorder() {
+    }
+
+    /**
+     * @return {@code true} if the running JVM supports Flight Recorder
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Installs the events, reporting every failure and the operations slower than
+     * {@value #DEFAULT_SLOW_THRESHOLD_MILLIS} milliseconds.
+     *
+     * @return {@code true} if Flight Recorder is available
+     */
+    public static boolean install() {
+        return install(0L, DEFAULT_SLOW_THRESHOLD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Installs the events, replacing any previous installation.
+     *
+     * @param failureThreshold the minimum duration of a failed operation for it to be reported, 0 to report all of
+     *                         them
+     * @param slowThreshold    the minimum duration of an operation for it to be reported as slow
+     * @param unit             the unit of {@code failureThreshold} and {@code slowThreshold}
+     * @return {@code true} if Flight Recorder is available
+     */
+    public static synchronized boolean install(long failureThreshold, long slowThreshold, TimeUnit unit) {
+        if (failureThreshold < 0 || slowThreshold < 0) throw new IllegalArgumentException("negative threshold");
+        if (!AVAILABLE) return false;
+        uninstall();
+        Installation support;
+        try {
+            support = (Installation) Class.forName(SUPPORT_CLASS).getDeclaredConstructor(long.class, long.class)
+                    .newInstance(unit.toNanos(failureThreshold), unit.toNanos(slowThreshold));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot create " + SUPPORT_CLASS, e);
+        }
+        support.start();
+        installed = support;
+        return true;
+    }
+
+    /**
+     * Stops emitting the events
+     */
+    public static synchronized void uninstall() {
+        if (installed != null) {
+            installed.stop();
+            installed = null;
+        }
+    }
+
+    /**
+     * @return {@code true} if both Flight Recorder and {@code JfrSupport}, which is missing when the library is built
+     * without the jdk.jfr API, are there
+     */
+    private static boolean detect() {
+        ClassLoader loader = TryFlightRecorder.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, loader);
+            Class.forName(SUPPORT_CLASS, false, loader);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * What {@code TryFlightRecorder} needs of {@code JfrSupport}, so that it can use it without linking to it
+     */
+    interface Installation {
+        void start();
+
+        void stop();
+    }
+}
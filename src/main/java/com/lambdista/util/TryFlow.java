@@ -0,0 +1,315 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Reactive-streams stages which turn the items of a stream into {@link Try}s, so that a single failing item no
+ * longer terminates the whole chain.</p>
+ * <p>
+ * <p>The library targets Java 8, where {@code java.util.concurrent.Flow} does not exist yet, so the stages implement
+ * the {@link Publisher}, {@link Subscriber}, {@link Subscription} and {@link Processor} interfaces nested here. They
+ * mirror the {@code Flow} ones method by method and follow the same rules, so on Java 9 or later bridging them
+ * takes a one-line adapter per direction.</p>
+ * <p>
+ * <ul>
+ * <li>{@link #map(FailableFunction, int, Executor)} and {@link #mapUnordered(FailableFunction, int, Executor)} apply
+ * a failable function to each item, up to {@code concurrency} items at a time, and emit a {@code Try} per item;</li>
+ * <li>{@link #splitFailures(int)} emits the values of the {@link Try.Success}es and publishes the exceptions of the
+ * {@link Try.Failure}s on a side {@link Publisher}.</li>
+ * </ul>
+ * <p>
+ * <pre>
+ * TryFlow.Processor&lt;String, Try&lt;Event&gt;&gt; parse = TryFlow.map(Event::parse, 8, executor);
+ * TrySplitter&lt;Event&gt; split = TryFlow.splitFailures(256);
+ * lines.subscribe(parse);
+ * parse.subscribe(split);
+ * split.failures().subscribe(deadLetters);
+ * split.subscribe(sink);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryFlow {
+
+    private TryFlow() {
+    }
+
+    /**
+     * A producer of items received by {@link Subscriber}s, the same as {@code java.util.concurrent.Flow.Publisher}
+     *
+     * @param <T> the type of the published items
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+        /**
+         * Adds the given {@link Subscriber}, which is then sent {@link Subscriber#onSubscribe(Subscription)}.
+         *
+         * @param subscriber the subscriber to add
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items, the same as {@code java.util.concurrent.Flow.Subscriber}
+     *
+     * @param <T> the type of the received items
+     */
+    public interface Subscriber<T> {
+        /**
+         * Invoked before any other method of the subscriber for a given {@link Subscription}.
+         *
+         * @param subscription the subscription to request items with
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next item, never more times than requested.
+         *
+         * @param item the item
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the publisher fails, after which no other method is invoked.
+         *
+         * @param throwable the failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when the publisher has no more items, after which no other method is invoked.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a {@link Publisher} and a {@link Subscriber}, the same as
+     * {@code java.util.concurrent.Flow.Subscription}
+     */
+    public interface Subscription {
+        /**
+         * Adds {@code n} items to the demand of the subscriber.
+         *
+         * @param n the number of items, which must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops the flow of items, possibly not immediately.
+         */
+        void cancel();
+    }
+
+    /**
+     * A stage which is both a {@link Subscriber} and a {@link Publisher}, the same as
+     * {@code java.util.concurrent.Flow.Processor}
+     *
+     * @param <T> the type of the received items
+     * @param <R> the type of the published items
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+
+    /**
+     * Returns a stage applying {@code function} to each item on {@code executor}, at most {@code concurrency} items
+     * at a time, and emitting the outcomes in the order of the items. At most {@code concurrency} items are
+     * requested from upstream and not yet emitted downstream, so memory is bounded however slow the subscriber.
+     * The stage supports a single subscriber, and an upstream error is emitted after the outcomes of the items
+     * received before it.
+     *
+     * @param function    the function to apply to each item
+     * @param concurrency the maximum number of items processed, or processed and not yet emitted, at a time
+     * @param executor    the {@link Executor} applying the function. If it rejects a task, the outcome of the item
+     *                    is a {@link Try.Failure} holding the {@link java.util.concurrent.RejectedExecutionException}.
+     * @param <T>         the type of the items
+     * @param <R>         the type of the values produced by {@code function}
+     * @return a new single-subscriber stage
+     */
+    public static <T, R> Processor<T, Try<R>> map(FailableFunction<? super T, ? extends R> function,
+                                                  int concurrency, Executor executor) {
+        return new TryMapProcessor<>(function, concurrency, executor, true);
+    }
+
+    /**
+     * Same as {@link #map(FailableFunction, int, Executor)} but the outcomes are emitted as soon as they are ready,
+     * so a slow item does not hold back the ones after it.
+     *
+     * @param function    the function to apply to each item
+     * @param concurrency the maximum number of items processed, or processed and not yet emitted, at a time
+     * @param executor    the {@link Executor} applying the function
+     * @param <T>         the type of the items
+     * @param <R>         the type of the values produced by {@code function}
+     * @return a new single-subscriber stage
+     */
+    public static <T, R> Processor<T, Try<R>> mapUnordered(FailableFunction<? super T, ? extends R> function,
+                                                           int concurrency, Executor executor) {
+        return new TryMapProcessor<>(function, concurrency, executor, false);
+    }
+
+    /**
+     * Same as {@link #map(FailableFunction, int, Executor)} applying {@code function} to one item at a time in the
+     * thread delivering the items.
+     *
+     * @param function the function to apply to each item
+     * @param <T>      the type of the items
+     * @param <R>      the type of the values produced by {@code function}
+     * @return a new single-subscriber stage
+     */
+    public static <T, R> Processor<T, Try<R>> map(FailableFunction<? super T, ? extends R> function) {
+        return map(function, 1, Runnable::run);
+    }
+
+    /**
+     * @param bufferSize the maximum number of items requested from upstream and not yet emitted on either side
+     * @param <T>        the type of the values
+     * @return a new stage emitting the values of the {@link Try.Success}es and publishing the exceptions of the
+     * {@link Try.Failure}s on {@link TrySplitter#failures()}
+     */
+    public static <T> TrySplitter<T> splitFailures(int bufferSize) {
+        return new TrySplitter<>(bufferSize);
+    }
+
+    static void checkPositive(int value, String name) {
+        if (value < 1) throw new IllegalArgumentException(name + " must be positive: " + value);
+    }
+
+    /**
+     * The single-subscriber output of a stage. It keeps track of the demand of its subscriber, while the stage owns
+     * the drain loop emitting to it.
+     */
+    static final class Outlet<T> implements Subscription {
+
+        private static final Subscription REJECTED = new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+
+        private final Runnable drain;
+        private final Runnable onCancel;
+        private final AtomicBoolean taken = new AtomicBoolean();
+        private final AtomicLong demand = new AtomicLong();
+        private volatile Subscriber<? super T> subscriber;
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean terminated;
+
+        /**
+         * @param drain    runs the drain loop of the stage
+         * @param onCancel invoked once if the subscriber cancels or requests a non-positive number of items
+         */
+        Outlet(Runnable drain, Runnable onCancel) {
+            this.drain = drain;
+            this.onCancel = onCancel;
+        }
+
+        /**
+         * @return {@code true} if {@code s} became the subscriber, {@code false} if it has been rejected
+         */
+        boolean subscribe(Subscriber<? super T> s) {
+            Objects.requireNonNull(s, "subscriber is null");
+            if (!taken.compareAndSet(false, true)) {
+                s.onSubscribe(REJECTED);
+                s.onError(new IllegalStateException("only one subscriber is supported"));
+                return false;
+            }
+            s.onSubscribe(this);
+            subscriber = s;
+            drain.run();
+            return true;
+        }
+
+        /**
+         * @return the subscriber, or {@code null} if there is none yet or it cannot receive signals any more
+         */
+        Subscriber<? super T> subscriber() {
+            return terminated || cancelled ? null : subscriber;
+        }
+
+        boolean isSubscribed() {
+            return subscriber != null;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        long demand() {
+            return demand.get();
+        }
+
+        void produced(long n) {
+            if (n != 0 && demand.get() != Long.MAX_VALUE) demand.addAndGet(-n);
+        }
+
+        /**
+         * Delivers the error of an invalid request, if any. Must be called from the drain loop.
+         *
+         * @return {@code true} if the subscriber was terminated
+         */
+        boolean checkInvalidRequest() {
+            Throwable e = invalidRequest;
+            Subscriber<? super T> s = subscriber;
+            if (e == null || s == null || terminated) return false;
+            terminated = true;
+            s.onError(e);
+            return true;
+        }
+
+        /**
+         * Sends the terminal signal to the subscriber. Must be called from the drain loop.
+         */
+        void terminate(Throwable error) {
+            Subscriber<? super T> s = subscriber();
+            if (s == null) return;
+            terminated = true;
+            if (error != null) s.onError(error);
+            else s.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+                cancel();
+            } else {
+                for (long current; ; ) {
+                    current = demand.get();
+                    long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                    if (demand.compareAndSet(current, next)) break;
+                }
+            }
+            drain.run();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            onCancel.run();
+        }
+    }
+}
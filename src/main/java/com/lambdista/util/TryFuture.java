@@ -0,0 +1,583 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>The asynchronous counterpart of {@link Try}: a {@code TryFuture} holds a {@link Try} which will be available at
+ * some point in the future. It is completed exactly once, either through the {@link TryPromise} it was obtained
+ * from or by the task started with {@link #apply(FailableSupplier, Executor)}.</p>
+ * <p>
+ * <p>{@code map}, {@code flatMap}, {@code filter}, {@code recover} and {@code recoverWith} mirror the {@link Try}
+ * methods with the same name and return a new {@code TryFuture}. Each of them comes in two flavours: without an
+ * {@link Executor} the function runs in the thread which completes {@code this} future or, if it's already
+ * completed, right away in the calling thread; with an {@link Executor} the function is always submitted to it.</p>
+ * <p>
+ * <p>The pending callbacks are kept in a lock-free stack, so registering a callback and completing the future never
+ * block. As in {@link Try}, {@link java.lang.Error}s are not captured: an {@code Error} thrown by a function fails
+ * the derived future and is then rethrown in the thread running the function.</p>
+ *
+ * @param <T> the type of the value the future completes with
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryFuture<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TryFuture, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(TryFuture.class, Object.class, "state");
+
+    /**
+     * Either {@code null} (pending, no callbacks), a {@link Callback} (pending, top of the callback stack) or the
+     * {@link Try} the future completed with.
+     */
+    private volatile Object state;
+
+    TryFuture() {
+    }
+
+    private TryFuture(Try<T> result) {
+        this.state = result;
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} asynchronously on the given {@link Executor}.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param executor the {@link Executor} to run {@code supplier} on
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code TryFuture} completed with the outcome of {@code supplier}
+     */
+    public static <T> TryFuture<T> apply(FailableSupplier<T> supplier, Executor executor) {
+        Objects.requireNonNull(executor, "executor is null");
+        TryFuture<T> future = new TryFuture<>();
+        executor.execute(() -> future.settle(() -> Try.apply(supplier)));
+        return future;
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} asynchronously on the given {@link Executor}, bounding its duration. If the
+     * deadline passes first the future completes with a {@link Try.Failure} holding a {@link TryTimeoutException}
+     * and the supplier is either interrupted or abandoned, according to {@code policy}; if it had not started yet it
+     * never runs. Deadlines are tracked by a shared hashed-wheel timer, so each of them costs O(1). Callbacks
+     * registered without an {@link Executor} may run in the timer thread, so they should be short.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param executor the {@link Executor} to run {@code supplier} on
+     * @param timeout  the maximum time the supplier may take, including the time spent waiting for the executor
+     * @param unit     the unit of {@code timeout}
+     * @param policy   what to do with the supplier once the deadline passes
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code TryFuture} completed with the outcome of {@code supplier} or with a timeout
+     */
+    public static <T> TryFuture<T> apply(FailableSupplier<T> supplier, Executor executor, long timeout,
+                                         TimeUnit unit, TimeoutPolicy policy) {
+        Objects.requireNonNull(executor, "executor is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return TimeLimiter.applyAsync(supplier, executor, timeout, unit, policy);
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} asynchronously on {@code scheduler}, retrying it according to the given
+     * {@link RetryPolicy} while it fails. Retries are scheduled after the backoff delay, so no thread sleeps.
+     *
+     * @param policy    the {@link RetryPolicy} to use
+     * @param supplier  the {@link FailableSupplier} to use
+     * @param scheduler the {@link ScheduledExecutorService} running the attempts
+     * @param <T>       the type returned by the {@link FailableSupplier}
+     * @return a {@code TryFuture} completed with the first successful attempt or the failure of the last attempt
+     */
+    public static <T> TryFuture<T> retry(RetryPolicy policy, FailableSupplier<T> supplier,
+                                         ScheduledExecutorService scheduler) {
+        return policy.executeAsync(supplier, Objects.requireNonNull(scheduler, "scheduler is null"));
+    }
+
+    /**
+     * @param result the {@link Try} to wrap
+     * @param <T>    the type wrapped by {@code Try}
+     * @return an already completed {@code TryFuture}
+     */
+    public static <T> TryFuture<T> fromTry(Try<T> result) {
+        return new TryFuture<>(Objects.requireNonNull(result, "result is null"));
+    }
+
+    /**
+     * @param value the value to wrap
+     * @param <T>   the type of the value
+     * @return a {@code TryFuture} already completed with a {@link Try.Success}
+     */
+    public static <T> TryFuture<T> successful(T value) {
+        return new TryFuture<>(new Try.Success<>(value));
+    }
+
+    /**
+     * @param exception the exception to wrap
+     * @param <T>       the type of the value
+     * @return a {@code TryFuture} already completed with a {@link Try.Failure}
+     */
+    public static <T> TryFuture<T> failed(Throwable exception) {
+        return new TryFuture<>(new Try.Failure<>(exception));
+    }
+
+    /**
+     * Adapts a {@link CompletionStage} without blocking. An exceptional completion becomes a {@link Try.Failure}
+     * holding the cause of the {@link CompletionException} or {@link ExecutionException}, if any.
+     *
+     * @param stage the {@link CompletionStage} to adapt
+     * @param <T>   the type of the value
+     * @return a {@code TryFuture} completed when {@code stage} completes
+     */
+    public static <T> TryFuture<T> fromCompletionStage(CompletionStage<T> stage) {
+        TryFuture<T> future = new TryFuture<>();
+        stage.whenComplete((value, exception) -> future.tryComplete(exception == null
+                ? new Try.Success<>(value)
+                : new Try.Failure<>(unwrap(exception))));
+        return future;
+    }
+
+    /**
+     * @return {@code true} if {@code this} future is completed
+     */
+    public boolean isCompleted() {
+        return state instanceof Try;
+    }
+
+    /**
+     * @return the {@link Try} {@code this} future completed with, or {@link Optional#empty()} if it's not completed
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Try<T>> value() {
+        Object s = state;
+        return s instanceof Try ? Optional.of((Try<T>) s) : Optional.empty();
+    }
+
+    /**
+     * Registers a callback to run with the result. If {@code this} future is already completed the callback runs
+     * right away in the calling thread, otherwise it runs in the thread which completes it.
+     *
+     * @param action the callback
+     */
+    public void onComplete(Consumer<? super Try<T>> action) {
+        onComplete(action, null);
+    }
+
+    /**
+     * Registers a callback to be submitted to {@code executor} with the result.
+     *
+     * @param action   the callback
+     * @param executor the {@link Executor} to run {@code action} on, or {@code null} to run it synchronously
+     */
+    public void onComplete(Consumer<? super Try<T>> action, Executor executor) {
+        onComplete(action, executor, null);
+    }
+
+    /**
+     * Registers a callback feeding {@code dependent}, which fails with the exception thrown by {@code executor} if it
+     * rejects the callback, instead of being left pending.
+     */
+    @SuppressWarnings("unchecked")
+    private void onComplete(Consumer<? super Try<T>> action, Executor executor, TryFuture<?> dependent) {
+        Objects.requireNonNull(action, "action is null");
+        if (push(action, executor, dependent) == null) dispatch(action, executor, dependent, (Try<T>) state);
+    }
+
+    /**
+     * Pushes a callback on the stack unless {@code this} future is already completed.
+     *
+     * @return the node pushed, or {@code null} if the future is completed
+     */
+    @SuppressWarnings("unchecked")
+    private Callback<T> push(Consumer<? super Try<T>> action, Executor executor, TryFuture<?> dependent) {
+        Callback<T> node = null;
+        for (; ; ) {
+            Object s = state;
+            if (s instanceof Try) return null;
+            if (node == null) node = new Callback<>(action, executor, dependent);
+            node.next = (Callback<T>) s;
+            if (STATE.compareAndSet(this, s, node)) return node;
+        }
+    }
+
+    /**
+     * Removes a callback from the stack of a pending future, so that a waiter giving up leaves nothing behind. The
+     * nodes below the top one are never modified while the future is pending, so the stack is replaced by a copy
+     * without {@code node}; if the top changes in the meantime the copy is made again. Since a concurrent unlink may
+     * have replaced {@code node} by a copy, nodes are matched by their action, which is unique to each waiter.
+     */
+    @SuppressWarnings("unchecked")
+    private void unlink(Callback<T> node) {
+        for (; ; ) {
+            Object s = state;
+            if (!(s instanceof Callback)) return;
+            Callback<T> top = (Callback<T>) s;
+            Callback<T> copy;
+            if (top.action == node.action) {
+                copy = top.next;
+            } else {
+                Callback<T> last = null;
+                copy = null;
+                boolean found = false;
+                for (Callback<T> c = top; c != null; c = c.next) {
+                    if (c.action == node.action) {
+                        found = true;
+                        continue;
+                    }
+                    Callback<T> n = new Callback<>(c.action, c.executor, c.dependent);
+                    if (last == null) copy = n;
+                    else last.next = n;
+                    last = n;
+                }
+                if (!found) return;
+            }
+            if (STATE.compareAndSet(this, s, copy)) return;
+        }
+    }
+
+    /**
+     * @return the number of callbacks waiting for {@code this} future to complete
+     */
+    @SuppressWarnings("unchecked")
+    int pendingCallbacks() {
+        Object s = state;
+        int count = 0;
+        if (s instanceof Callback) {
+            for (Callback<T> c = (Callback<T>) s; c != null; c = c.next) count++;
+        }
+        return count;
+    }
+
+    /**
+     * @param action the {@link Consumer} to feed the value to, if {@code this} future completes successfully
+     */
+    public void forEach(Consumer<? super T> action) {
+        onComplete(t -> t.forEach(action));
+    }
+
+    /**
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return a future completed with the result of {@link Try#map(Function)}
+     */
+    public <U> TryFuture<U> map(Function<? super T, ? extends U> mapper) {
+        return map(mapper, null);
+    }
+
+    /**
+     * @param mapper   a function to apply to the value
+     * @param executor the {@link Executor} to run {@code mapper} on
+     * @param <U>      the type of the result
+     * @return a future completed with the result of {@link Try#map(Function)}
+     */
+    public <U> TryFuture<U> map(Function<? super T, ? extends U> mapper, Executor executor) {
+        TryFuture<U> next = new TryFuture<>();
+        onComplete(t -> next.settle(() -> t.map(mapper)), executor, next);
+        return next;
+    }
+
+    /**
+     * @param mapper a function to apply to the value which produces a new future
+     * @param <U>    the type of the result
+     * @return a future completed with the future returned by {@code mapper} or with the failure of {@code this}
+     */
+    public <U> TryFuture<U> flatMap(Function<? super T, ? extends TryFuture<U>> mapper) {
+        return flatMap(mapper, null);
+    }
+
+    /**
+     * @param mapper   a function to apply to the value which produces a new future
+     * @param executor the {@link Executor} to run {@code mapper} on
+     * @param <U>      the type of the result
+     * @return a future completed with the future returned by {@code mapper} or with the failure of {@code this}
+     */
+    @SuppressWarnings("unchecked")
+    public <U> TryFuture<U> flatMap(Function<? super T, ? extends TryFuture<U>> mapper, Executor executor) {
+        TryFuture<U> next = new TryFuture<>();
+        onComplete(t -> {
+            if (t instanceof Try.Failure) next.tryComplete((Try<U>) t);
+            else next.follow(() -> mapper.apply(t.get()));
+        }, executor, next);
+        return next;
+    }
+
+    /**
+     * @param predicate the {@link Predicate} to use
+     * @return a future completed with the result of {@link Try#filter(Predicate)}
+     */
+    public TryFuture<T> filter(Predicate<? super T> predicate) {
+        TryFuture<T> next = new TryFuture<>();
+        onComplete(t -> next.settle(() -> t.filter(predicate)));
+        return next;
+    }
+
+    /**
+     * @param recoverFunc the function to apply if {@code this} future fails
+     * @return a future completed with the result of {@link Try#recover(Function)}
+     */
+    public TryFuture<T> recover(Function<? super Throwable, ? extends T> recoverFunc) {
+        return recover(recoverFunc, null);
+    }
+
+    /**
+     * @param recoverFunc the function to apply if {@code this} future fails
+     * @param executor    the {@link Executor} to run {@code recoverFunc} on
+     * @return a future completed with the result of {@link Try#recover(Function)}
+     */
+    public TryFuture<T> recover(Function<? super Throwable, ? extends T> recoverFunc, Executor executor) {
+        TryFuture<T> next = new TryFuture<>();
+        onComplete(t -> next.settle(() -> t.<T>recover(recoverFunc)), executor, next);
+        return next;
+    }
+
+    /**
+     * @param recoverFunc the function to apply if {@code this} future fails, producing a new future
+     * @return a future completed either like {@code this} or like the future returned by {@code recoverFunc}
+     */
+    public TryFuture<T> recoverWith(Function<? super Throwable, ? extends TryFuture<T>> recoverFunc) {
+        return recoverWith(recoverFunc, null);
+    }
+
+    /**
+     * @param recoverFunc the function to apply if {@code this} future fails, producing a new future
+     * @param executor    the {@link Executor} to run {@code recoverFunc} on
+     * @return a future completed either like {@code this} or like the future returned by {@code recoverFunc}
+     */
+    public TryFuture<T> recoverWith(Function<? super Throwable, ? extends TryFuture<T>> recoverFunc,
+                                    Executor executor) {
+        TryFuture<T> next = new TryFuture<>();
+        onComplete(t -> {
+            if (t instanceof Try.Failure) next.follow(() -> recoverFunc.apply(((Try.Failure<T>) t).exception()));
+            else next.tryComplete(t);
+        }, executor, next);
+        return next;
+    }
+
+    /**
+     * Converts {@code this} future to a {@link CompletableFuture} without blocking. A {@link Try.Failure} completes
+     * it exceptionally with the wrapped exception.
+     *
+     * @return a {@link CompletableFuture} completed when {@code this} future completes
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        CompletableFuture<T> cf = new CompletableFuture<>();
+        onComplete(t -> {
+            if (t instanceof Try.Failure) cf.completeExceptionally(((Try.Failure<T>) t).exception());
+            else cf.complete(t.get());
+        });
+        return cf;
+    }
+
+    /**
+     * Bounds the time {@code this} future may take to complete, without blocking. The computation behind
+     * {@code this} future is abandoned, not interrupted.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return a {@code TryFuture} completed like {@code this} one or with a {@link Try.Failure} holding a
+     * {@link TryTimeoutException} if {@code this} one does not complete in time
+     */
+    public TryFuture<T> within(long timeout, TimeUnit unit) {
+        if (isCompleted()) return this;
+        TryFuture<T> future = new TryFuture<>();
+        HashedWheelTimer.Timeout deadline = HashedWheelTimer.shared().schedule(
+                () -> future.tryComplete(new Try.Failure<>(new TryTimeoutException(timeout, unit))), timeout, unit);
+        onComplete(t -> {
+            deadline.cancel();
+            future.tryComplete(t);
+        });
+        return future;
+    }
+
+    /**
+     * Waits for {@code this} future to complete.
+     *
+     * @return the {@link Try} {@code this} future completed with
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> await() throws InterruptedException {
+        Object s = state;
+        if (s instanceof Try) return (Try<T>) s;
+        Thread waiter = Thread.currentThread();
+        Callback<T> node = push(t -> LockSupport.unpark(waiter), null, null);
+        while (!((s = state) instanceof Try)) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                unlink(node);
+                throw new InterruptedException();
+            }
+        }
+        return (Try<T>) s;
+    }
+
+    /**
+     * Waits at most the given time for {@code this} future to complete.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return the {@link Try} {@code this} future completed with or a {@link Try.Failure} holding a
+     * {@link TryTimeoutException} if it did not complete in time
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> await(long timeout, TimeUnit unit) throws InterruptedException {
+        Object s = state;
+        if (s instanceof Try) return (Try<T>) s;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Thread waiter = Thread.currentThread();
+        Callback<T> node = push(t -> LockSupport.unpark(waiter), null, null);
+        while (!((s = state) instanceof Try)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                unlink(node);
+                return new Try.Failure<>(new TryTimeoutException(timeout, unit));
+            }
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                unlink(node);
+                throw new InterruptedException();
+            }
+        }
+        return (Try<T>) s;
+    }
+
+    /**
+     * Completes {@code this} future unless it's already completed, then runs the pending callbacks in registration
+     * order.
+     *
+     * @param result the {@link Try} to complete with
+     * @return {@code true} if {@code this} call completed the future
+     */
+    @SuppressWarnings("unchecked")
+    boolean tryComplete(Try<T> result) {
+        Objects.requireNonNull(result, "result is null");
+        Object s;
+        do {
+            s = state;
+            if (s instanceof Try) return false;
+        } while (!STATE.compareAndSet(this, s, result));
+        Callback<T> reversed = null;
+        for (Callback<T> c = (Callback<T>) s; c != null; ) {
+            Callback<T> next = c.next;
+            c.next = reversed;
+            reversed = c;
+            c = next;
+        }
+        for (Callback<T> c = reversed; c != null; c = c.next) {
+            dispatch(c.action, c.executor, c.dependent, result);
+        }
+        return true;
+    }
+
+    /**
+     * Completes {@code this} future with the outcome of a combinator. An {@link Error} fails the future before
+     * being rethrown, so that no future is left pending.
+     */
+    private void settle(Supplier<Try<T>> step) {
+        Try<T> result;
+        try {
+            result = step.get();
+        } catch (Error e) {
+            tryComplete(new Try.Failure<>(e));
+            throw e;
+        }
+        tryComplete(result);
+    }
+
+    /**
+     * Completes {@code this} future like the future produced by {@code step}
+     */
+    private void follow(Supplier<? extends TryFuture<T>> step) {
+        TryFuture<T> other;
+        try {
+            other = Objects.requireNonNull(step.get(), "function returned null");
+        } catch (Exception e) {
+            tryComplete(new Try.Failure<>(e));
+            return;
+        } catch (Error e) {
+            tryComplete(new Try.Failure<>(e));
+            throw e;
+        }
+        other.onComplete(this::tryComplete);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void dispatch(Consumer<? super Try<T>> action, Executor executor, TryFuture<?> dependent,
+                                     Try<T> result) {
+        if (executor == null) {
+            try {
+                action.accept(result);
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        } else {
+            try {
+                executor.execute(() -> action.accept(result));
+            } catch (RuntimeException e) {
+                if (dependent != null) {
+                    ((TryFuture<Object>) dependent).tryComplete(new Try.Failure<>(e));
+                } else {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    @Override
+    public String toString() {
+        Object s = state;
+        return "TryFuture{" + (s instanceof Try ? s : "<pending>") + '}';
+    }
+
+    /**
+     * A node of the stack of pending callbacks
+     */
+    private static final class Callback<T> {
+        final Consumer<? super Try<T>> action;
+        final Executor executor;
+        final TryFuture<?> dependent;
+        Callback<T> next;
+
+        Callback(Consumer<? super Try<T>> action, Executor executor, TryFuture<?> dependent) {
+            this.action = action;
+            this.executor = executor;
+            this.dependent = dependent;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * <p>Callback notified of the outcome of every {@link Try} operation running user code, once registered with
+ * {@link TryHooks#register(TryHook)}: {@code apply}, or the name given to
+ * {@link Try#apply(String, FailableSupplier)}, {@code join} and the {@code map}, {@code flatMap}, {@code filter},
+ * {@code transform}, {@code recover} and {@code recoverWith} combinators.</p>
+ * <p>
+ * <p>Hooks are invoked synchronously in the thread running the operation, so they must be fast and thread-safe. An
+ * exception thrown by a hook is reported to the uncaught exception handler of the thread and otherwise ignored.
+ * {@link java.lang.Error}s thrown by user code are not reported, since they're not turned into a
+ * {@link Try.Failure}.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public interface TryHook {
+
+    /**
+     * @param operation     the name of the operation
+     * @param durationNanos the time spent running the user code, in nanoseconds
+     */
+    void onSuccess(String operation, long durationNanos);
+
+    /**
+     * @param operation     the name of the operation
+     * @param exception     the exception the operation failed with
+     * @param durationNanos the time spent running the user code, in nanoseconds
+     */
+    void onFailure(String operation, Throwable exception, long durationNanos);
+
+    /**
+     * Invoked instead of {@link #onSuccess(String, long)} when {@code recover} or {@code recoverWith} turn a
+     * {@link Try.Failure} into a {@link Try.Success}. By default it does just that.
+     *
+     * @param operation     the name of the operation
+     * @param recovered     the exception the recovered failure held
+     * @param durationNanos the time spent running the user code, in nanoseconds
+     */
+    default void onRecovery(String operation, Throwable recovered, long durationNanos) {
+        onSuccess(operation, durationNanos);
+    }
+
+    /**
+     * Invoked instead of {@link #onFailure(String, Throwable, long)} when {@code recover} or {@code recoverWith} fail
+     * to turn a {@link Try.Failure} into a {@link Try.Success}. By default it does just that.
+     *
+     * @param operation     the name of the operation
+     * @param recovering    the exception the failure being recovered held
+     * @param exception     the exception the operation failed with
+     * @param durationNanos the time spent running the user code, in nanoseconds
+     */
+    default void onRecoveryFailure(String operation, Throwable recovering, Throwable exception, long durationNanos) {
+        onFailure(operation, exception, durationNanos);
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * <p>The registry of the {@link TryHook}s observing {@link Try} operations.</p>
+ * <p>
+ * <p>While no hook is registered an operation pays a single volatile read to find out it's not observed, and no
+ * clock is read. Registering and unregistering are meant to happen rarely, e.g. at startup: they replace the
+ * current hooks with a new immutable array.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryHooks {
+
+    private static final TryHook[] NONE = new TryHook[0];
+
+    /**
+     * Either {@code null}, when there's no hook, the only hook or a {@link Composite}
+     */
+    private static volatile TryHook current;
+    private static TryHook[] hooks = NONE;
+
+    private TryHooks() {
+    }
+
+    /**
+     * @param hook the {@link TryHook} to notify from now on
+     */
+    public static synchronized void register(TryHook hook) {
+        Objects.requireNonNull(hook, "hook is null");
+        TryHook[] updated = Arrays.copyOf(hooks, hooks.length + 1);
+        updated[hooks.length] = hook;
+        install(updated);
+    }
+
+    /**
+     * @param hook the {@link TryHook} not to notify anymore
+     * @return {@code true} if {@code hook} was registered
+     */
+    public static synchronized boolean unregister(TryHook hook) {
+        for (int i = 0; i < hooks.length; i++) {
+            if (hooks[i] == hook) {
+                TryHook[] updated = new TryHook[hooks.length - 1];
+                System.arraycopy(hooks, 0, updated, 0, i);
+                System.arraycopy(hooks, i + 1, updated, i, updated.length - i);
+                install(updated);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if at least one hook is registered
+     */
+    static boolean enabled() {
+        return current != null;
+    }
+
+    /**
+     * Runs an operation and reports its outcome to the registered hooks, if any.
+     *
+     * @param operation the name of the operation
+     * @param recovering the exception being recovered by the operation, {@code null} unless it's a recovery
+     * @param body      the operation
+     * @return the outcome of {@code body}
+     */
+    static <T> Try<T> observe(String operation, Throwable recovering, Supplier<Try<T>> body) {
+        TryHook hook = current;
+        if (hook == null) return body.get();
+        long start = System.nanoTime();
+        Try<T> result = body.get();
+        long duration = System.nanoTime() - start;
+        try {
+            if (result instanceof Try.Failure) {
+                Throwable exception = ((Try.Failure<T>) result).exception();
+                if (recovering != null) hook.onRecoveryFailure(operation, recovering, exception, duration);
+                else hook.onFailure(operation, exception, duration);
+            } else if (recovering != null) {
+                hook.onRecovery(operation, recovering, duration);
+            } else {
+                hook.onSuccess(operation, duration);
+            }
+        } catch (RuntimeException e) {
+            uncaught(e);
+        }
+        return result;
+    }
+
+    private static void uncaught(RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    private static void install(TryHook[] updated) {
+        hooks = updated;
+        current = updated.length == 0 ? null : updated.length == 1 ? updated[0] : new Composite(updated);
+    }
+
+    /**
+     * Notifies several hooks in registration order, so that a failing hook doesn't prevent the next ones from being
+     * notified
+     */
+    private static final class Composite implements TryHook {
+        private final TryHook[] hooks;
+
+        Composite(TryHook[] hooks) {
+            this.hooks = hooks;
+        }
+
+        @Override
+        public void onSuccess(String operation, long durationNanos) {
+            for (TryHook hook : hooks) {
+                try {
+                    hook.onSuccess(operation, durationNanos);
+                } catch (RuntimeException e) {
+                    uncaught(e);
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(String operation, Throwable exception, long durationNanos) {
+            for (TryHook hook : hooks) {
+                try {
+                    hook.onFailure(operation, exception, durationNanos);
+                } catch (RuntimeException e) {
+                    uncaught(e);
+                }
+            }
+        }
+
+        @Override
+        public void onRecoveryFailure(String operation, Throwable recovering, Throwable exception,
+                                      long durationNanos) {
+            for (TryHook hook : hooks) {
+                try {
+                    hook.onRecoveryFailure(operation, recovering, exception, durationNanos);
+                } catch (RuntimeException e) {
+                    uncaught(e);
+                }
+            }
+        }
+
+        @Override
+        public void onRecovery(String operation, Throwable recovered, long durationNanos) {
+            for (TryHook hook : hooks) {
+                try {
+                    hook.onRecovery(operation, recovered, durationNanos);
+                } catch (RuntimeException e) {
+                    uncaught(e);
+                }
+            }
+        }
+    }
+}
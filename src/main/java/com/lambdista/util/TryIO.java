@@ -0,0 +1,272 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Reads a whole {@link InputStream} or {@link ReadableByteChannel} into a {@link Try}, closing it afterwards just
+ * like {@link Try#apply(java.util.function.Function)} does.</p>
+ * <p>
+ * <p>The input is read into pooled direct buffers of {@value #CHUNK_SIZE} bytes and copied out, or decoded, only
+ * once at the end. Channels and {@link FileInputStream}s are read straight into those buffers; any other stream goes
+ * through {@link Channels#newChannel(InputStream)}. Every read takes a size limit: an input larger than that is not
+ * buffered any further and yields a {@link Try.Failure} holding a {@link SizeLimitExceededException}.</p>
+ * <p>
+ * <pre>
+ * Try&lt;String&gt; body = TryIO.readString(request.getInputStream(), StandardCharsets.UTF_8, 1 &lt;&lt; 20);
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryIO {
+
+    static final int CHUNK_SIZE = 64 << 10;
+
+    private static final int POOL_CAPACITY = 32;
+    private static final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooled = new AtomicInteger();
+
+    private TryIO() {
+    }
+
+    /**
+     * Reads all the bytes of {@code in} and closes it.
+     *
+     * @param in       the stream to read
+     * @param maxBytes the maximum number of bytes to read
+     * @return a {@link Try.Success} holding a heap {@link ByteBuffer} positioned at 0 whose limit is the number of
+     * bytes read, or a {@link Try.Failure} holding the exception raised reading or closing {@code in}, or a
+     * {@link SizeLimitExceededException} if it holds more than {@code maxBytes} bytes
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public static Try<ByteBuffer> readBytes(InputStream in, int maxBytes) {
+        Objects.requireNonNull(in, "in is null");
+        checkMaxBytes(maxBytes);
+        return Try.apply(() -> {
+            try (InputStream stream = in) {
+                return bytes(channel(stream), maxBytes);
+            }
+        });
+    }
+
+    /**
+     * Reads all the bytes of {@code channel} and closes it.
+     *
+     * @param channel  the channel to read, which must be in blocking mode
+     * @param maxBytes the maximum number of bytes to read
+     * @return a {@link Try.Success} holding a heap {@link ByteBuffer} positioned at 0 whose limit is the number of
+     * bytes read, or a {@link Try.Failure} holding the exception raised reading or closing {@code channel}, or a
+     * {@link SizeLimitExceededException} if it holds more than {@code maxBytes} bytes
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public static Try<ByteBuffer> readBytes(ReadableByteChannel channel, int maxBytes) {
+        Objects.requireNonNull(channel, "channel is null");
+        checkMaxBytes(maxBytes);
+        return Try.apply(() -> {
+            try (ReadableByteChannel in = channel) {
+                return bytes(in, maxBytes);
+            }
+        });
+    }
+
+    /**
+     * Reads all the bytes of {@code in}, decodes them and closes it.
+     *
+     * @param in       the stream to read
+     * @param charset  the charset to decode the bytes with
+     * @param maxBytes the maximum number of bytes to read
+     * @return a {@link Try.Success} holding the decoded text, or a {@link Try.Failure} holding the exception raised
+     * reading or closing {@code in}, a {@link SizeLimitExceededException} if it holds more than {@code maxBytes}
+     * bytes, or a {@link CharacterCodingException} if they are not valid in {@code charset}
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public static Try<String> readString(InputStream in, Charset charset, int maxBytes) {
+        Objects.requireNonNull(in, "in is null");
+        Objects.requireNonNull(charset, "charset is null");
+        checkMaxBytes(maxBytes);
+        return Try.apply(() -> {
+            try (InputStream stream = in) {
+                return string(channel(stream), charset, maxBytes);
+            }
+        });
+    }
+
+    /**
+     * Reads all the bytes of {@code channel}, decodes them and closes it.
+     *
+     * @param channel  the channel to read, which must be in blocking mode
+     * @param charset  the charset to decode the bytes with
+     * @param maxBytes the maximum number of bytes to read
+     * @return a {@link Try.Success} holding the decoded text, or a {@link Try.Failure} holding the exception raised
+     * reading or closing {@code channel}, a {@link SizeLimitExceededException} if it holds more than
+     * {@code maxBytes} bytes, or a {@link CharacterCodingException} if they are not valid in {@code charset}
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public static Try<String> readString(ReadableByteChannel channel, Charset charset, int maxBytes) {
+        Objects.requireNonNull(channel, "channel is null");
+        Objects.requireNonNull(charset, "charset is null");
+        checkMaxBytes(maxBytes);
+        return Try.apply(() -> {
+            try (ReadableByteChannel in = channel) {
+                return string(in, charset, maxBytes);
+            }
+        });
+    }
+
+    private static ByteBuffer bytes(ReadableByteChannel channel, int maxBytes) throws IOException {
+        Chunks chunks = read(channel, maxBytes);
+        try {
+            return chunks.copy();
+        } finally {
+            chunks.release();
+        }
+    }
+
+    private static String string(ReadableByteChannel channel, Charset charset, int maxBytes) throws IOException {
+        Chunks chunks = read(channel, maxBytes);
+        try {
+            return chunks.decode(charset);
+        } finally {
+            chunks.release();
+        }
+    }
+
+    private static ReadableByteChannel channel(InputStream in) {
+        // a file stream's channel reads straight into direct buffers, skipping the copy through a byte array
+        return in instanceof FileInputStream ? ((FileInputStream) in).getChannel() : Channels.newChannel(in);
+    }
+
+    private static Chunks read(ReadableByteChannel channel, int maxBytes) throws IOException {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        if (channel instanceof SeekableByteChannel) {
+            SeekableByteChannel seekable = (SeekableByteChannel) channel;
+            if (seekable.size() - seekable.position() > maxBytes) throw new SizeLimitExceededException(maxBytes);
+        }
+        Chunks chunks = new Chunks();
+        try {
+            ByteBuffer chunk = chunks.add();
+            while (true) {
+                if (!chunk.hasRemaining()) chunk = chunks.add();
+                // never buffer more than one byte past the limit, which is enough to tell it was exceeded
+                long allowed = maxBytes + 1L - chunks.size;
+                if (chunk.remaining() > allowed) ((Buffer) chunk).limit(chunk.position() + (int) allowed);
+                int read = channel.read(chunk);
+                if (read < 0) return chunks;
+                chunks.size += read;
+                if (chunks.size > maxBytes) throw new SizeLimitExceededException(maxBytes);
+            }
+        } catch (IOException | RuntimeException e) {
+            chunks.release();
+            throw e;
+        }
+    }
+
+    private static void checkMaxBytes(int maxBytes) {
+        if (maxBytes < 0) throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+    }
+
+    static ByteBuffer acquire() {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) return ByteBuffer.allocateDirect(CHUNK_SIZE);
+        pooled.decrementAndGet();
+        return buffer;
+    }
+
+    static void release(ByteBuffer buffer) {
+        ((Buffer) buffer).clear();
+        if (pooled.incrementAndGet() <= POOL_CAPACITY) {
+            pool.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    static int pooled() {
+        return pooled.get();
+    }
+
+    /**
+     * The pooled buffers holding the input read so far, filled one after the other.
+     */
+    private static final class Chunks {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>(4);
+        private long size;
+
+        ByteBuffer add() {
+            ByteBuffer buffer = acquire();
+            buffers.add(buffer);
+            return buffer;
+        }
+
+        ByteBuffer copy() {
+            byte[] bytes = new byte[(int) size];
+            int offset = 0;
+            for (ByteBuffer buffer : buffers) {
+                ((Buffer) buffer).flip();
+                int length = buffer.remaining();
+                buffer.get(bytes, offset, length);
+                offset += length;
+            }
+            return ByteBuffer.wrap(bytes);
+        }
+
+        String decode(Charset charset) throws CharacterCodingException {
+            ByteBuffer bytes;
+            if (buffers.size() == 1) {
+                // small inputs are decoded straight from the direct buffer
+                bytes = buffers.get(0);
+                ((Buffer) bytes).flip();
+            } else {
+                bytes = copy();
+            }
+            return charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(bytes)
+                    .toString();
+        }
+
+        void release() {
+            for (ByteBuffer buffer : buffers) {
+                TryIO.release(buffer);
+            }
+            buffers.clear();
+        }
+    }
+}
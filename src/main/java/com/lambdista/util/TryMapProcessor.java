@@ -0,0 +1,214 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The stage returned by {@link TryFlow#map(FailableFunction, int, Executor)} and
+ * {@link TryFlow#mapUnordered(FailableFunction, int, Executor)}.
+ * <p>
+ * <p>Items are requested from upstream so that at most {@code concurrency} of them are received and not yet emitted.
+ * In ordered mode the outcome of the item with sequence number {@code n} is stored in slot
+ * {@code n % concurrency} of a ring, which the window guarantees to be free, and the drain loop emits the slots in
+ * sequence; in unordered mode outcomes go through a queue. Emitted items are requested again from upstream in
+ * batches of half the window.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class TryMapProcessor<T, R> implements TryFlow.Processor<T, Try<R>> {
+
+    private final FailableFunction<? super T, ? extends R> function;
+    private final int concurrency;
+    private final Executor executor;
+    private final int batch;
+    private final AtomicReferenceArray<Try<R>> ring;
+    private final Queue<Try<R>> completed;
+    private final TryFlow.Outlet<Try<R>> outlet = new TryFlow.Outlet<>(this::drain, this::cancelUpstream);
+    private final AtomicReference<TryFlow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicInteger ready = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // written by the thread delivering the items, which the rules serialise
+    private long received;
+    // written by the drain loop only
+    private volatile long emitted;
+    private int toRequest;
+
+    private volatile boolean done;
+    private volatile Throwable error;
+
+    TryMapProcessor(FailableFunction<? super T, ? extends R> function, int concurrency, Executor executor,
+                    boolean ordered) {
+        TryFlow.checkPositive(concurrency, "concurrency");
+        this.function = Objects.requireNonNull(function, "function is null");
+        this.concurrency = concurrency;
+        this.executor = Objects.requireNonNull(executor, "executor is null");
+        this.batch = Math.max(1, concurrency / 2);
+        this.ring = ordered ? new AtomicReferenceArray<>(concurrency) : null;
+        this.completed = ordered ? null : new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public void subscribe(TryFlow.Subscriber<? super Try<R>> subscriber) {
+        if (outlet.subscribe(subscriber)) start();
+    }
+
+    @Override
+    public void onSubscribe(TryFlow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription is null");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (outlet.isCancelled()) subscription.cancel();
+        else start();
+    }
+
+    /**
+     * Requests the first window once both the upstream subscription and the subscriber are there.
+     */
+    private void start() {
+        if (ready.incrementAndGet() == 2) upstream.get().request(concurrency);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "item is null");
+        if (done) return;
+        long sequence = received++;
+        if (sequence - emitted >= concurrency) {
+            cancelUpstream();
+            onError(new IllegalStateException("more items received than requested"));
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            executor.execute(() -> run(sequence, item));
+        } catch (RuntimeException e) {
+            complete(sequence, new Try.Failure<>(e));
+        }
+    }
+
+    private void run(long sequence, T item) {
+        Try<R> outcome;
+        try {
+            outcome = new Try.Success<>(function.apply(item));
+        } catch (Throwable e) {
+            if (e instanceof Error) {
+                // the stream cannot go on without the outcome of this item: end it with the error, then rethrow
+                error = e;
+                done = true;
+                inFlight.decrementAndGet();
+                cancelUpstream();
+                throw (Error) e;
+            }
+            outcome = new Try.Failure<>((Exception) e);
+        }
+        complete(sequence, outcome);
+    }
+
+    private void complete(long sequence, Try<R> outcome) {
+        if (ring != null) ring.set((int) (sequence % concurrency), outcome);
+        else completed.offer(outcome);
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable is null");
+        if (error == null) error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void cancelUpstream() {
+        TryFlow.Subscription s = upstream.getAndSet(CancelledSubscription.INSTANCE);
+        if (s != null && s != CancelledSubscription.INSTANCE) s.cancel();
+        drain();
+    }
+
+    private Try<R> poll() {
+        if (ring == null) return completed.poll();
+        int slot = (int) (emitted % concurrency);
+        Try<R> outcome = ring.get(slot);
+        if (outcome != null) ring.set(slot, null);
+        return outcome;
+    }
+
+    private boolean isEmpty() {
+        return ring == null ? completed.isEmpty() : ring.get((int) (emitted % concurrency)) == null;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        do {
+            if (outlet.checkInvalidRequest()) return;
+            TryFlow.Subscriber<? super Try<R>> s = outlet.subscriber();
+            if (s != null) {
+                long requested = outlet.demand();
+                long sent = 0;
+                while (sent != requested && !outlet.isCancelled()) {
+                    Try<R> next = poll();
+                    if (next == null) break;
+                    s.onNext(next);
+                    emitted++;
+                    sent++;
+                    if (++toRequest == batch) {
+                        toRequest = 0;
+                        upstream.get().request(batch);
+                    }
+                }
+                outlet.produced(sent);
+                if (done && inFlight.get() == 0 && isEmpty() && !outlet.isCancelled()) {
+                    outlet.terminate(error);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Stands for the upstream subscription once it has been cancelled.
+     */
+    enum CancelledSubscription implements TryFlow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
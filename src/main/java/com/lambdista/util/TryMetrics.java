@@ -0,0 +1,457 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A {@link TryHook} gathering, for each operation name, the number of successes, the number of failures by
+ * exception class, the number of recoveries by exception class and a histogram of the durations.</p>
+ * <p>
+ * <p>Counters are {@link LongAdder}s, so that threads updating the same counter don't contend. Histograms are
+ * lock-free arrays of log-linear buckets, four per power of two, so that any duration is recorded with a relative
+ * error below 25% in constant space.</p>
+ * <p>
+ * <p>The gathered metrics can be read as a {@link Snapshot} or exported in the Prometheus text format:</p>
+ * <pre>
+ * TryMetrics metrics = new TryMetrics();
+ * TryHooks.register(metrics);
+ * ...
+ * metrics.writePrometheus(Paths.get("/var/lib/node_exporter/try.prom"));
+ * </pre>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryMetrics implements TryHook {
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSuccess(String operation, long durationNanos) {
+        Operation op = operation(operation);
+        op.successes.increment();
+        op.latency.record(durationNanos);
+    }
+
+    @Override
+    public void onFailure(String operation, Throwable exception, long durationNanos) {
+        Operation op = operation(operation);
+        op.failures.increment();
+        counter(op.failuresByException, exception.getClass().getName()).increment();
+        op.latency.record(durationNanos);
+    }
+
+    @Override
+    public void onRecovery(String operation, Throwable recovered, long durationNanos) {
+        Operation op = operation(operation);
+        op.successes.increment();
+        counter(op.recoveriesByException, recovered.getClass().getName()).increment();
+        op.latency.record(durationNanos);
+    }
+
+    /**
+     * @return the metrics gathered so far. Counters are read one at a time, so the snapshot is not atomic.
+     */
+    public Snapshot snapshot() {
+        Map<String, OperationSnapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, Operation> entry : operations.entrySet()) {
+            Operation op = entry.getValue();
+            snapshots.put(entry.getKey(), new OperationSnapshot(op.successes.sum(), op.failures.sum(),
+                    sums(op.failuresByException), sums(op.recoveriesByException), op.latency.snapshot()));
+        }
+        return new Snapshot(Collections.unmodifiableMap(snapshots));
+    }
+
+    /**
+     * Writes a snapshot of the metrics in the Prometheus text exposition format. Durations are exported in
+     * seconds, with a bucket per power of two nanoseconds from about a microsecond to about a minute.
+     *
+     * @param out where to write the metrics
+     * @throws IOException if {@code out} fails
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        Snapshot snapshot = snapshot();
+        out.append("# HELP try_operations_total Outcomes of Try operations.\n");
+        out.append("# TYPE try_operations_total counter\n");
+        for (Map.Entry<String, OperationSnapshot> entry : snapshot.getOperations().entrySet()) {
+            String op = escape(entry.getKey());
+            sample(out, "try_operations_total{operation=\"" + op + "\",outcome=\"success\"}",
+                    entry.getValue().getSuccessCount());
+            sample(out, "try_operations_total{operation=\"" + op + "\",outcome=\"failure\"}",
+                    entry.getValue().getFailureCount());
+        }
+        out.append("# HELP try_failures_total Failures of Try operations by exception class.\n");
+        out.append("# TYPE try_failures_total counter\n");
+        for (Map.Entry<String, OperationSnapshot> entry : snapshot.getOperations().entrySet()) {
+            for (Map.Entry<String, Long> failure : entry.getValue().getFailureCounts().entrySet()) {
+                sample(out, "try_failures_total{operation=\"" + escape(entry.getKey()) + "\",exception=\""
+                        + escape(failure.getKey()) + "\"}", failure.getValue());
+            }
+        }
+        out.append("# HELP try_recoveries_total Failures recovered by Try operations by exception class.\n");
+        out.append("# TYPE try_recoveries_total counter\n");
+        for (Map.Entry<String, OperationSnapshot> entry : snapshot.getOperations().entrySet()) {
+            for (Map.Entry<String, Long> recovery : entry.getValue().getRecoveryCounts().entrySet()) {
+                sample(out, "try_recoveries_total{operation=\"" + escape(entry.getKey()) + "\",exception=\""
+                        + escape(recovery.getKey()) + "\"}", recovery.getValue());
+            }
+        }
+        out.append("# HELP try_operation_duration_seconds Durations of Try operations.\n");
+        out.append("# TYPE try_operation_duration_seconds histogram\n");
+        for (Map.Entry<String, OperationSnapshot> entry : snapshot.getOperations().entrySet()) {
+            String op = escape(entry.getKey());
+            LatencySnapshot latency = entry.getValue().getLatency();
+            for (int shift = LatencySnapshot.MIN_EXPORTED_SHIFT; shift <= LatencySnapshot.MAX_EXPORTED_SHIFT; shift++) {
+                sample(out, "try_operation_duration_seconds_bucket{operation=\"" + op + "\",le=\""
+                        + (1L << shift) / 1e9 + "\"}", latency.countBelow(1L << shift));
+            }
+            sample(out, "try_operation_duration_seconds_bucket{operation=\"" + op + "\",le=\"+Inf\"}",
+                    latency.getCount());
+            out.append("try_operation_duration_seconds_sum{operation=\"").append(op).append("\"} ")
+                    .append(String.valueOf(latency.getSumNanos() / 1e9)).append('\n');
+            sample(out, "try_operation_duration_seconds_count{operation=\"" + op + "\"}", latency.getCount());
+        }
+    }
+
+    /**
+     * Writes a snapshot of the metrics in the Prometheus text exposition format to a file. The file is replaced
+     * atomically, through a temporary file in the same directory, so that a collector never reads it half-written.
+     *
+     * @param file the file to write
+     * @throws IOException if the file can't be written
+     */
+    public void writePrometheus(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writePrometheus(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Operation operation(String name) {
+        Operation op = operations.get(name);
+        return op != null ? op : operations.computeIfAbsent(name, k -> new Operation());
+    }
+
+    private static LongAdder counter(ConcurrentMap<String, LongAdder> counters, String key) {
+        LongAdder counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            sums.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(sums);
+    }
+
+    private static void sample(Appendable out, String name, long value) throws IOException {
+        out.append(name).append(' ').append(String.valueOf(value)).append('\n');
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    @Override
+    public String toString() {
+        return "TryMetrics{" +
+                "operations=" + operations.keySet() +
+                '}';
+    }
+
+    /**
+     * The live metrics of an operation
+     */
+    private static final class Operation {
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final ConcurrentMap<String, LongAdder> failuresByException = new ConcurrentHashMap<>();
+        final ConcurrentMap<String, LongAdder> recoveriesByException = new ConcurrentHashMap<>();
+        final Histogram latency = new Histogram();
+    }
+
+    /**
+     * A lock-free histogram of non-negative {@code long} values. Values below 4 have their own bucket, any other
+     * value goes in one of the four equal-width buckets splitting the power of two range it belongs to.
+     */
+    static final class Histogram {
+        static final int BUCKETS = 248;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder sum = new LongAdder();
+
+        void record(long value) {
+            if (value < 0) value = 0;
+            counts.getAndIncrement(indexOf(value));
+            sum.add(value);
+        }
+
+        LatencySnapshot snapshot() {
+            long[] copy = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) copy[i] = counts.get(i);
+            return new LatencySnapshot(copy, sum.sum());
+        }
+
+        /**
+         * Halves the counts and the sum, so that the values recorded so far weigh half as much as the ones recorded
+         * from now on. Values recorded concurrently may or may not be halved.
+         */
+        void decay() {
+            for (int i = 0; i < BUCKETS; i++) {
+                long count = counts.get(i);
+                if (count > 1) counts.addAndGet(i, -count / 2);
+            }
+            sum.add(-sum.sum() / 2);
+        }
+
+        /**
+         * Like {@link LatencySnapshot#getPercentileNanos(double)}, without copying the counts.
+         *
+         * @param quantile the quantile, between 0 and 1
+         * @return an upper bound of the given quantile of the recorded values, or -1 if there's none
+         */
+        long valueAt(double quantile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) total += counts.get(i);
+            if (total == 0) return -1L;
+            long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= rank) return upperBound(i);
+            }
+            return Long.MAX_VALUE;
+        }
+
+        static int indexOf(long value) {
+            if (value < 4) return (int) value;
+            int octave = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (octave - 2)) & 3;
+            return ((octave - 1) << 2) + sub;
+        }
+
+        static long lowerBound(int index) {
+            if (index < 4) return index;
+            int octave = (index >>> 2) + 1;
+            return (4L + (index & 3)) << (octave - 2);
+        }
+
+        static long upperBound(int index) {
+            return index + 1 < BUCKETS ? lowerBound(index + 1) - 1 : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The metrics gathered by a {@code TryMetrics}
+     */
+    public static final class Snapshot {
+        private final Map<String, OperationSnapshot> operations;
+
+        Snapshot(Map<String, OperationSnapshot> operations) {
+            this.operations = operations;
+        }
+
+        /**
+         * @return the metrics of each operation, sorted by operation name
+         */
+        public Map<String, OperationSnapshot> getOperations() {
+            return operations;
+        }
+
+        /**
+         * @param operation the name of the operation
+         * @return the metrics of the given operation, all zero if it never ran
+         */
+        public OperationSnapshot getOperation(String operation) {
+            OperationSnapshot snapshot = operations.get(operation);
+            return snapshot != null ? snapshot : new OperationSnapshot(0, 0, Collections.emptyMap(),
+                    Collections.emptyMap(), new LatencySnapshot(new long[Histogram.BUCKETS], 0));
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "operations=" + operations +
+                    '}';
+        }
+    }
+
+    /**
+     * The metrics of an operation
+     */
+    public static final class OperationSnapshot {
+        private final long successCount;
+        private final long failureCount;
+        private final Map<String, Long> failureCounts;
+        private final Map<String, Long> recoveryCounts;
+        private final LatencySnapshot latency;
+
+        OperationSnapshot(long successCount, long failureCount, Map<String, Long> failureCounts,
+                          Map<String, Long> recoveryCounts, LatencySnapshot latency) {
+            this.successCount = successCount;
+            this.failureCount = failureCount;
+            this.failureCounts = failureCounts;
+            this.recoveryCounts = recoveryCounts;
+            this.latency = latency;
+        }
+
+        /**
+         * @return the number of successes, recoveries included
+         */
+        public long getSuccessCount() {
+            return successCount;
+        }
+
+        /**
+         * @return the number of failures
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * @return the number of failures by exception class name
+         */
+        public Map<String, Long> getFailureCounts() {
+            return failureCounts;
+        }
+
+        /**
+         * @return the number of recovered failures by exception class name
+         */
+        public Map<String, Long> getRecoveryCounts() {
+            return recoveryCounts;
+        }
+
+        /**
+         * @return the durations of the operation
+         */
+        public LatencySnapshot getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return "OperationSnapshot{" +
+                    "successCount=" + successCount +
+                    ", failureCount=" + failureCount +
+                    ", failureCounts=" + failureCounts +
+                    ", recoveryCounts=" + recoveryCounts +
+                    ", latency=" + latency +
+                    '}';
+        }
+    }
+
+    /**
+     * A histogram of durations, in nanoseconds
+     */
+    public static final class LatencySnapshot {
+        static final int MIN_EXPORTED_SHIFT = 10;
+        static final int MAX_EXPORTED_SHIFT = 36;
+
+        private final long[] counts;
+        private final long sumNanos;
+        private final long count;
+
+        LatencySnapshot(long[] counts, long sumNanos) {
+            this.counts = counts;
+            this.sumNanos = sumNanos;
+            long total = 0;
+            for (long c : counts) total += c;
+            this.count = total;
+        }
+
+        /**
+         * @return the number of recorded durations
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the sum of the recorded durations
+         */
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        /**
+         * @return the mean of the recorded durations, 0 if there's none
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0.0 : (double) sumNanos / count;
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         * @return an upper bound of the given percentile of the recorded durations, accurate to 25%, 0 if there's
+         * none
+         */
+        public long getPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]: " + percentile);
+            }
+            if (count == 0) return 0L;
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Histogram.upperBound(i);
+            }
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * @return the number of recorded durations strictly below {@code bound}, which must be a power of two
+         */
+        long countBelow(long bound) {
+            int limit = Histogram.indexOf(bound);
+            long below = 0;
+            for (int i = 0; i < limit; i++) below += counts[i];
+            return below;
+        }
+
+        @Override
+        public String toString() {
+            return "LatencySnapshot{" +
+                    "count=" + count +
+                    ", meanNanos=" + getMeanNanos() +
+                    ", p50Nanos=" + getPercentileNanos(50) +
+                    ", p99Nanos=" + getPercentileNanos(99) +
+                    '}';
+        }
+    }
+}
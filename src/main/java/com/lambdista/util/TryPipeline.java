@@ -0,0 +1,255 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>A deferred chain of {@link Try} operations. A {@code TryPipeline} records the {@link FailableSupplier} it was
+ * created from and every {@code map}, {@code flatMap}, {@code filter}, {@code recover}, {@code recoverWith} and
+ * {@code transform} called on it, without running anything. Calling {@link #run()} executes the whole chain within a
+ * single guarded loop and allocates one {@link Try} for the final result only, instead of one {@link Try} (plus the
+ * intermediate {@code Try<Try<U>>} of {@code flatMap} and {@code filter}) per step.</p>
+ * <p>
+ * <p>The result of {@link #run()} is the same as the one obtained by applying the same operations eagerly to
+ * {@link Try#apply(FailableSupplier)}: {@link java.lang.Exception}s are captured into a {@link Try.Failure} and
+ * {@link java.lang.Error}s are rethrown. The only difference is that a {@code flatMap}, {@code recoverWith} or
+ * {@code transform} function returning {@code null} produces a {@link Try.Failure} holding a
+ * {@link NullPointerException}.</p>
+ * <p>
+ * <p>Pipelines are immutable: every operation returns a new pipeline, so a pipeline can be built once, shared and
+ * run any number of times, each run invoking the supplier again.</p>
+ * <p>
+ * <pre>
+ * TryPipeline&lt;Integer&gt; parse = TryPipeline.of(() -&gt; readLine())
+ *         .map(String::trim)
+ *         .map(Integer::parseInt)
+ *         .filter(i -&gt; i &gt; 0);
+ * Try&lt;Integer&gt; result = parse.run();
+ * </pre>
+ *
+ * @param <T> the type returned by the pipeline
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryPipeline<T> {
+
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int FILTER = 2;
+    private static final int RECOVER = 3;
+    private static final int RECOVER_WITH = 4;
+    private static final int TRANSFORM = 5;
+
+    private static final Stage[] NO_STAGES = new Stage[0];
+
+    private final FailableSupplier<?> supplier;
+    private final Stage[] stages;
+
+    private TryPipeline(FailableSupplier<?> supplier, Stage[] stages) {
+        this.supplier = supplier;
+        this.stages = stages;
+    }
+
+    /**
+     * Creates a pipeline whose source is the given {@link FailableSupplier}. Nothing is run until {@link #run()}
+     * is invoked.
+     *
+     * @param supplier the {@link FailableSupplier} to use
+     * @param <T>      the type returned by the {@link FailableSupplier}
+     * @return a {@code TryPipeline} with no operations
+     */
+    public static <T> TryPipeline<T> of(FailableSupplier<T> supplier) {
+        return new TryPipeline<>(supplier, NO_STAGES);
+    }
+
+    /**
+     * @param mapper a function to apply to the value
+     * @param <U>    the type of the result
+     * @return a pipeline which also applies {@code mapper} as {@link Try#map(Function)} does
+     */
+    public <U> TryPipeline<U> map(Function<? super T, ? extends U> mapper) {
+        return then(MAP, mapper, null);
+    }
+
+    /**
+     * @param mapper a function to apply to the value which produces a {@code Try} of a new value
+     * @param <U>    the type of the result
+     * @return a pipeline which also applies {@code mapper} as {@link Try#flatMap(Function)} does
+     */
+    public <U> TryPipeline<U> flatMap(Function<? super T, ? extends Try<U>> mapper) {
+        return then(FLAT_MAP, mapper, null);
+    }
+
+    /**
+     * @param predicate the {@link Predicate} to use
+     * @return a pipeline which also applies {@code predicate} as {@link Try#filter(Predicate)} does
+     */
+    public TryPipeline<T> filter(Predicate<? super T> predicate) {
+        return then(FILTER, predicate, null);
+    }
+
+    /**
+     * @param recoverFunc the function to apply if the pipeline failed so far
+     * @param <U>         the type of the result
+     * @return a pipeline which also applies {@code recoverFunc} as {@link Try#recover(Function)} does
+     */
+    public <U> TryPipeline<U> recover(Function<? super Throwable, ? extends U> recoverFunc) {
+        return then(RECOVER, recoverFunc, null);
+    }
+
+    /**
+     * @param recoverFunc the function to apply if the pipeline failed so far
+     * @param <U>         the type of the result
+     * @return a pipeline which also applies {@code recoverFunc} as {@link Try#recoverWith(Function)} does
+     */
+    public <U> TryPipeline<U> recoverWith(Function<? super Throwable, ? extends Try<U>> recoverFunc) {
+        return then(RECOVER_WITH, recoverFunc, null);
+    }
+
+    /**
+     * @param successFunc the function to apply if the pipeline succeeded so far
+     * @param failureFunc the function to apply if the pipeline failed so far
+     * @param <U>         the type of the result
+     * @return a pipeline which also applies either function as {@link Try#transform(Function, Function)} does
+     */
+    public <U> TryPipeline<U> transform(Function<? super T, ? extends Try<U>> successFunc,
+                                        Function<Throwable, ? extends Try<U>> failureFunc) {
+        return then(TRANSFORM, successFunc, failureFunc);
+    }
+
+    /**
+     * Runs the supplier and every recorded operation, in order.
+     *
+     * @return a {@code Try} object (an instance of either {@link Try.Success} or {@link Try.Failure})
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> run() {
+        Stage[] stages = this.stages;
+        Object value = null;
+        Throwable failure = null;
+        int i = -1;
+        while (true) {
+            try {
+                if (i < 0) {
+                    value = supplier.get();
+                    i = 0;
+                }
+                for (; i < stages.length; i++) {
+                    Stage stage = stages[i];
+                    Object next;
+                    if (failure == null) {
+                        switch (stage.kind) {
+                            case MAP:
+                                value = ((Function<Object, Object>) stage.first).apply(value);
+                                continue;
+                            case FILTER:
+                                if (!((Predicate<Object>) stage.first).test(value)) {
+                                    failure = new Try.PredicateNotSatisfiedException(value);
+                                }
+                                continue;
+                            case FLAT_MAP:
+                            case TRANSFORM:
+                                next = ((Function<Object, Object>) stage.first).apply(value);
+                                break;
+                            default:
+                                continue;
+                        }
+                    } else {
+                        switch (stage.kind) {
+                            case RECOVER:
+                                value = ((Function<Object, Object>) stage.first).apply(failure);
+                                failure = null;
+                                continue;
+                            case RECOVER_WITH:
+                                next = ((Function<Object, Object>) stage.first).apply(failure);
+                                break;
+                            case TRANSFORM:
+                                next = ((Function<Object, Object>) stage.second).apply(failure);
+                                break;
+                            default:
+                                continue;
+                        }
+                    }
+                    if (next == null) {
+                        failure = new NullPointerException(stage.describe() + " returned null");
+                    } else if (next instanceof Try.Failure) {
+                        failure = ((Try.Failure<?>) next).exception();
+                    } else {
+                        value = ((Try<?>) next).get();
+                        failure = null;
+                    }
+                }
+                break;
+            } catch (Throwable e) {
+                failure = Try.nonFatal(e);
+                i++;
+            }
+        }
+        return failure == null ? new Try.Success<>((T) value) : new Try.Failure<>(failure);
+    }
+
+    private <U> TryPipeline<U> then(int kind, Object first, Object second) {
+        Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = new Stage(kind, first, second);
+        return new TryPipeline<>(supplier, next);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TryPipeline{");
+        for (int i = 0; i < stages.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(stages[i].describe());
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * A recorded operation. {@code first} is the {@link Function} or {@link Predicate} to apply, {@code second} the
+     * failure function of {@code transform}.
+     */
+    private static final class Stage {
+        final int kind;
+        final Object first;
+        final Object second;
+
+        Stage(int kind, Object first, Object second) {
+            this.kind = kind;
+            this.first = first;
+            this.second = second;
+        }
+
+        String describe() {
+            switch (kind) {
+                case MAP:
+                    return "map";
+                case FLAT_MAP:
+                    return "flatMap";
+                case FILTER:
+                    return "filter";
+                case RECOVER:
+                    return "recover";
+                case RECOVER_WITH:
+                    return "recoverWith";
+                default:
+                    return "transform";
+            }
+        }
+    }
+}
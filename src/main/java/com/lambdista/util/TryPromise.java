@@ -0,0 +1,74 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+/**
+ * The writable side of a {@link TryFuture}. A promise can be completed only once: every further attempt is ignored
+ * and reported by a {@code false} return value.
+ *
+ * <pre>
+ * TryPromise&lt;String&gt; promise = new TryPromise&lt;&gt;();
+ * client.get(url, response -&gt; promise.success(response.body()), error -&gt; promise.failure(error));
+ * return promise.future();
+ * </pre>
+ *
+ * @param <T> the type of the value the future completes with
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TryPromise<T> {
+
+    private final TryFuture<T> future = new TryFuture<>();
+
+    /**
+     * @return the {@link TryFuture} completed by {@code this} promise
+     */
+    public TryFuture<T> future() {
+        return future;
+    }
+
+    /**
+     * @param result the {@link Try} to complete the future with
+     * @return {@code true} if the future was completed by this call, {@code false} if it was already completed
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public boolean complete(Try<T> result) {
+        return future.tryComplete(result);
+    }
+
+    /**
+     * @param value the value to complete the future with
+     * @return {@code true} if the future was completed by this call, {@code false} if it was already completed
+     */
+    public boolean success(T value) {
+        return !future.isCompleted() && future.tryComplete(new Try.Success<>(value));
+    }
+
+    /**
+     * @param exception the exception to fail the future with
+     * @return {@code true} if the future was completed by this call, {@code false} if it was already completed
+     */
+    public boolean failure(Throwable exception) {
+        return !future.isCompleted() && future.tryComplete(new Try.Failure<>(exception));
+    }
+
+    /**
+     * @return {@code true} if the future is completed
+     */
+    public boolean isCompleted() {
+        return future.isCompleted();
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Races {@link FailableSupplier}s on an {@link Executor}, backing {@link Try#firstSuccessOf} and
+ * {@link Try#hedge}: the first {@link Try.Success} completes the race and the attempts still running are
+ * interrupted. If every attempt fails the race completes with a {@link Try.Failure} holding a
+ * {@link MultipleFailuresException} with the exception of each attempt, in input order, as suppressed.</p>
+ * <p>
+ * <p>In a hedged race only the first attempt starts right away; the second one starts once the delay of the
+ * {@link HedgePolicy} has passed, launched by the calling thread which waits for the race anyway, or as soon as the
+ * first one fails. The latency recorded by the policy is the duration of the whole race, measured from the start of
+ * the first attempt: when the backup wins, it is a lower bound of the latency the primary would have had, which keeps
+ * the percentile from drifting down as the slow calls get hedged.</p>
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+final class TryRace<T> {
+
+    private final Executor executor;
+    private final HedgePolicy policy;
+    private final List<Attempt> attempts;
+    private final Throwable[] failures;
+    private final AtomicInteger remaining;
+    private final TryFuture<T> future = new TryFuture<>();
+    private final long started = System.nanoTime();
+
+    private TryRace(List<? extends FailableSupplier<? extends T>> suppliers, Executor executor, HedgePolicy policy) {
+        this.executor = Objects.requireNonNull(executor, "executor is null");
+        this.policy = policy;
+        this.attempts = new ArrayList<>(suppliers.size());
+        for (int i = 0; i < suppliers.size(); i++) {
+            attempts.add(new Attempt(i, Objects.requireNonNull(suppliers.get(i), "supplier is null")));
+        }
+        this.failures = new Throwable[suppliers.size()];
+        this.remaining = new AtomicInteger(suppliers.size());
+    }
+
+    static <T> Try<T> firstSuccessOf(List<? extends FailableSupplier<? extends T>> suppliers, Executor executor) {
+        if (suppliers.isEmpty()) throw new IllegalArgumentException("suppliers is empty");
+        TryRace<T> race = new TryRace<>(suppliers, executor, null);
+        for (TryRace<T>.Attempt attempt : race.attempts) attempt.launch();
+        return race.await();
+    }
+
+    static <T> Try<T> hedge(HedgePolicy policy, FailableSupplier<? extends T> primary,
+                            FailableSupplier<? extends T> backup, Executor executor) {
+        Objects.requireNonNull(policy, "policy is null");
+        List<FailableSupplier<? extends T>> suppliers = new ArrayList<>(2);
+        suppliers.add(primary);
+        suppliers.add(backup);
+        TryRace<T> race = new TryRace<>(suppliers, executor, policy);
+        long delay = policy.delayNanos();
+        race.attempts.get(0).launch();
+        if (delay > 0) race.await(delay);
+        if (!race.future.isCompleted()) race.attempts.get(1).launch();
+        return race.await();
+    }
+
+    /**
+     * Waits for the race. If the calling thread is interrupted the race is cancelled, the interrupt status is
+     * restored and the result is a {@link Try.Failure} holding the {@link InterruptedException}.
+     */
+    private Try<T> await() {
+        try {
+            return future.await();
+        } catch (InterruptedException e) {
+            return interrupted(e);
+        }
+    }
+
+    /**
+     * Same as {@link #await()}, giving up after {@code timeoutNanos}.
+     */
+    private void await(long timeoutNanos) {
+        try {
+            future.await(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            interrupted(e);
+        }
+    }
+
+    private Try<T> interrupted(InterruptedException e) {
+        complete(new Try.Failure<>(e), -1);
+        Thread.currentThread().interrupt();
+        return future.value().get();
+    }
+
+    private void succeeded(int index, Try<T> result) {
+        if (complete(result, index) && policy != null) policy.record(System.nanoTime() - started);
+    }
+
+    private void failed(int index, Throwable failure) {
+        failures[index] = failure;
+        if (policy != null && index == 0) attempts.get(1).launch();
+        if (remaining.decrementAndGet() != 0) return;
+        List<Throwable> list = new ArrayList<>(failures.length);
+        for (Throwable f : failures) {
+            if (f != null) list.add(f);
+        }
+        complete(new Try.Failure<>(new MultipleFailuresException(list)), -1);
+    }
+
+    /**
+     * Completes the race, unless it's already completed, and cancels every attempt but the winner.
+     */
+    private boolean complete(Try<T> result, int winner) {
+        if (!future.tryComplete(result)) return false;
+        for (Attempt attempt : attempts) {
+            if (attempt.index != winner) attempt.cancel();
+        }
+        return true;
+    }
+
+    /**
+     * An attempt of the race. Its state arbitrates between the attempt and a canceller, like the workers of
+     * {@link TryBatch} do, so that the thread is only interrupted while running the supplier and clears the interrupt
+     * before going back to the executor.
+     */
+    private final class Attempt extends AtomicInteger implements Runnable {
+        private static final int NEW = 0;
+        private static final int LAUNCHED = 1;
+        private static final int RUNNING = 2;
+        private static final int INTERRUPTING = 3;
+        private static final int INTERRUPTED = 4;
+        private static final int DONE = 5;
+
+        final int index;
+        private final FailableSupplier<? extends T> supplier;
+        private volatile Thread thread;
+
+        Attempt(int index, FailableSupplier<? extends T> supplier) {
+            this.index = index;
+            this.supplier = supplier;
+        }
+
+        void launch() {
+            if (!compareAndSet(NEW, LAUNCHED)) return;
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) {
+                set(DONE);
+                failed(index, e);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            thread = Thread.currentThread();
+            if (!compareAndSet(LAUNCHED, RUNNING)) return;
+            Try<T> result;
+            try {
+                result = (Try<T>) Try.guard(supplier);
+            } catch (Error e) {
+                finish();
+                complete(new Try.Failure<>(e), -1);
+                throw e;
+            }
+            finish();
+            if (result instanceof Try.Failure) failed(index, ((Try.Failure<T>) result).exception());
+            else succeeded(index, result);
+        }
+
+        private void finish() {
+            if (compareAndSet(RUNNING, DONE)) return;
+            while (get() != INTERRUPTED) Thread.yield();
+            Thread.interrupted();
+            set(DONE);
+        }
+
+        void cancel() {
+            for (; ; ) {
+                int state = get();
+                if (state == RUNNING) {
+                    if (!compareAndSet(RUNNING, INTERRUPTING)) continue;
+                    thread.interrupt();
+                    set(INTERRUPTED);
+                    return;
+                }
+                if (state != NEW && state != LAUNCHED) return;
+                if (compareAndSet(state, DONE)) return;
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A scope of structured, fail-fast concurrency: {@link FailableSupplier}s are {@link #fork(FailableSupplier)
+ * forked} into it, each on a thread of its own, and {@link #join() joined} into a {@link Try} holding all their
+ * results or the first failure.</p>
+ * <p>
+ * <p>As soon as a subtask fails, or the deadline of the scope passes, the scope is cancelled: the subtasks still
+ * running are interrupted and the ones forked afterwards never start, completing with a {@link Try.Failure} holding a
+ * {@link CancellationException}. Neither {@link #join()} nor {@link #close()} returns before every thread started
+ * by the scope has finished, so no subtask outlives it:</p>
+ * <p>
+ * <pre>
+ * try (TryScope&lt;Object&gt; scope = TryScope.open(2, TimeUnit.SECONDS)) {
+ *     TryFuture&lt;Object&gt; user = scope.fork(() -&gt; findUser(id));
+ *     TryFuture&lt;Object&gt; orders = scope.fork(() -&gt; fetchOrders(id));
+ *     Try&lt;List&lt;Object&gt;&gt; both = scope.join();
+ * }
+ * </pre>
+ * <p>
+ * <p>Threads come from a {@link ThreadFactory}, so on Java 21 or later subtasks can run on virtual threads by
+ * passing {@code Thread.ofVirtual().factory()}. Scopes nest: a scope opened by a subtask uses the thread factory of
+ * the enclosing scope unless given one, and when the enclosing scope is cancelled the interrupt of the subtask
+ * cancels the nested scope it is joining.</p>
+ *
+ * @param <T> the type of the results of the subtasks
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TryScope<T> implements AutoCloseable {
+
+    private static final ThreadLocal<TryScope<?>> current = new ThreadLocal<>();
+    private static final ThreadFactory defaultThreadFactory = new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "try-scope-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+
+    private final ThreadFactory threadFactory;
+    private final HashedWheelTimer.Timeout deadline;
+    private final List<Subtask> subtasks = new ArrayList<>();
+    private int running;
+    private volatile Throwable failure;
+    private boolean closed;
+
+    private TryScope(ThreadFactory threadFactory, long timeout, TimeUnit unit) {
+        TryScope<?> enclosing = current.get();
+        if (threadFactory != null) {
+            this.threadFactory = threadFactory;
+        } else {
+            this.threadFactory = enclosing != null ? enclosing.threadFactory : defaultThreadFactory;
+        }
+        if (unit == null) {
+            this.deadline = null;
+        } else {
+            this.deadline = HashedWheelTimer.shared().schedule(() -> cancel(new TryTimeoutException(timeout, unit)),
+                    timeout, unit);
+        }
+    }
+
+    /**
+     * @param <T> the type of the results of the subtasks
+     * @return a new scope without a deadline, running its subtasks on daemon threads or, if opened by a subtask, on
+     * the threads of the enclosing scope
+     */
+    public static <T> TryScope<T> open() {
+        return new TryScope<>(null, 0, null);
+    }
+
+    /**
+     * @param threadFactory the {@link ThreadFactory} creating a thread per subtask
+     * @param <T>           the type of the results of the subtasks
+     * @return a new scope without a deadline
+     */
+    public static <T> TryScope<T> open(ThreadFactory threadFactory) {
+        return new TryScope<>(Objects.requireNonNull(threadFactory, "threadFactory is null"), 0, null);
+    }
+
+    /**
+     * @param timeout the time after which the scope is cancelled, measured from now
+     * @param unit    the unit of {@code timeout}
+     * @param <T>     the type of the results of the subtasks
+     * @return a new scope whose {@link #join()} fails with a {@link TryTimeoutException} if the deadline passes first
+     */
+    public static <T> TryScope<T> open(long timeout, TimeUnit unit) {
+        return new TryScope<>(null, timeout, Objects.requireNonNull(unit, "unit is null"));
+    }
+
+    /**
+     * @param threadFactory the {@link ThreadFactory} creating a thread per subtask
+     * @param timeout       the time after which the scope is cancelled, measured from now
+     * @param unit          the unit of {@code timeout}
+     * @param <T>           the type of the results of the subtasks
+     * @return a new scope whose {@link #join()} fails with a {@link TryTimeoutException} if the deadline passes first
+     */
+    public static <T> TryScope<T> open(ThreadFactory threadFactory, long timeout, TimeUnit unit) {
+        return new TryScope<>(Objects.requireNonNull(threadFactory, "threadFactory is null"), timeout,
+                Objects.requireNonNull(unit, "unit is null"));
+    }
+
+    /**
+     * Starts {@code supplier} on a new thread, unless the scope is already cancelled.
+     *
+     * @param supplier the {@link FailableSupplier} to run
+     * @return the future outcome of {@code supplier}, or a {@link Try.Failure} holding a
+     * {@link CancellationException} if the scope is cancelled before it starts
+     * @throws IllegalStateException if the scope is closed
+     */
+    public TryFuture<T> fork(FailableSupplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        TryFuture<T> result = new TryFuture<>();
+        synchronized (this) {
+            if (closed) throw new IllegalStateException("scope is closed");
+            Subtask subtask = new Subtask(supplier, result);
+            if (failure == null) {
+                Thread thread = threadFactory.newThread(subtask);
+                if (thread == null) throw new IllegalStateException("the thread factory did not create a thread");
+                thread.start();
+                subtask.thread = thread;
+                subtasks.add(subtask);
+                running++;
+                return result;
+            }
+            subtasks.add(subtask);
+        }
+        result.tryComplete(cancelled());
+        return result;
+    }
+
+    /**
+     * Waits for all the subtasks forked so far. If the calling thread is interrupted while waiting, the scope is
+     * cancelled and, once the subtasks have finished, the interrupt status is restored.
+     *
+     * @return a {@link Try.Success} holding the results of the subtasks in the order they were forked, or a
+     * {@link Try.Failure} holding the exception of the first subtask which failed, a {@link TryTimeoutException} if
+     * the deadline passed, or an {@link InterruptedException} if the calling thread was interrupted
+     * @throws IllegalStateException if the scope is closed
+     */
+    public Try<List<T>> join() {
+        List<Subtask> joined;
+        synchronized (this) {
+            if (closed) throw new IllegalStateException("scope is closed");
+            try {
+                while (running > 0) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                cancel(e);
+                awaitSubtasks();
+                Thread.currentThread().interrupt();
+            }
+            awaitThreads();
+            if (failure != null) return new Try.Failure<>(failure);
+            joined = new ArrayList<>(subtasks);
+        }
+        List<T> values = new ArrayList<>(joined.size());
+        for (Subtask subtask : joined) {
+            values.add(subtask.result.value().get().get());
+        }
+        return new Try.Success<>(values);
+    }
+
+    /**
+     * Cancels the subtasks still running, if any, and waits for all of them to finish. Nothing can be forked
+     * afterwards.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            if (running > 0) {
+                cancel(new CancellationException("scope closed"));
+                awaitSubtasks();
+            }
+            awaitThreads();
+        }
+        if (deadline != null) deadline.cancel();
+    }
+
+    /**
+     * @return {@code true} if a subtask failed, the deadline passed or the scope was closed while subtasks were
+     * running
+     */
+    public boolean isCancelled() {
+        return failure != null;
+    }
+
+    /**
+     * Records the reason of the cancellation, unless there is one already, and interrupts the subtasks still
+     * running. A subtask which already completed is not interrupted: its thread is about to terminate anyway.
+     */
+    private synchronized void cancel(Throwable reason) {
+        if (failure != null) return;
+        failure = reason;
+        for (Subtask subtask : subtasks) {
+            if (subtask.thread != null && !subtask.done) subtask.thread.interrupt();
+        }
+        notifyAll();
+    }
+
+    private void awaitSubtasks() {
+        boolean interrupted = false;
+        while (running > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Waits for the threads of the completed subtasks to terminate, which takes no longer than returning from
+     * {@link Subtask#run()}, so that none of them is alive once {@link #join()} or {@link #close()} returns.
+     */
+    private void awaitThreads() {
+        boolean interrupted = false;
+        for (Subtask subtask : subtasks) {
+            Thread thread = subtask.thread;
+            while (thread != null && thread != Thread.currentThread()) {
+                try {
+                    thread.join();
+                    thread = null;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void finish(Subtask subtask, Try<T> outcome) {
+        subtask.result.tryComplete(outcome);
+        synchronized (this) {
+            subtask.done = true;
+            running--;
+            if (outcome instanceof Try.Failure) cancel(((Try.Failure<?>) outcome).exception());
+            notifyAll();
+        }
+    }
+
+    private static <T> Try<T> cancelled() {
+        return new Try.Failure<>(new CancellationException("scope cancelled"));
+    }
+
+    private final class Subtask implements Runnable {
+        private final FailableSupplier<? extends T> supplier;
+        private final TryFuture<T> result;
+        private Thread thread;
+        private boolean done;
+
+        Subtask(FailableSupplier<? extends T> supplier, TryFuture<T> result) {
+            this.supplier = supplier;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            Try<T> outcome;
+            if (failure != null) {
+                outcome = cancelled();
+            } else {
+                current.set(TryScope.this);
+                try {
+                    outcome = Try.apply(supplier::get);
+                } catch (Throwable e) {
+                    // an Error: the scope is not left waiting for this subtask
+                    finish(this, new Try.Failure<>(e));
+                    throw e;
+                } finally {
+                    current.remove();
+                }
+            }
+            finish(this, outcome);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Collapses concurrent computations of the same key into a single execution: while a {@link FailableSupplier}
+ * is running for a key, any other call for that key waits for it instead of running its own supplier, and all of
+ * them get the very same {@link Try}. Once the computation completes the key is forgotten, so the next call runs
+ * the supplier again. Nothing is cached.</p>
+ * <p>
+ * <p>The in-flight computations are kept in a {@link ConcurrentHashMap}, so calls for different keys never contend
+ * with each other and a call joining a computation already in flight doesn't allocate anything but its waiting
+ * callback.</p>
+ * <p>
+ * <pre>
+ * TrySingleFlight&lt;String, User&gt; flight = new TrySingleFlight&lt;&gt;();
+ * Try&lt;User&gt; user = flight.apply(id, () -&gt; loadUser(id));
+ * </pre>
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the computed values
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public final class TrySingleFlight<K, T> {
+
+    private final ConcurrentMap<K, TryFuture<T>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the {@link FailableSupplier} in the calling thread unless a computation for the same key is already in
+     * flight, in which case it waits for that computation. If the calling thread is interrupted while waiting the
+     * result is a {@link Try.Failure} holding an {@link InterruptedException} and the interrupt status is restored.
+     *
+     * @param key      the key identifying the computation
+     * @param supplier the {@link FailableSupplier} to use
+     * @return the outcome of the single execution of the computation for {@code key}
+     */
+    public Try<T> apply(K key, FailableSupplier<T> supplier) {
+        Objects.requireNonNull(key, "key is null");
+        TryFuture<T> flight = flights.get(key);
+        if (flight == null) {
+            TryFuture<T> mine = new TryFuture<>();
+            flight = flights.putIfAbsent(key, mine);
+            if (flight == null) return run(key, mine, supplier);
+        }
+        try {
+            return flight.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Try.Failure<>(e);
+        }
+    }
+
+    /**
+     * Runs the {@link FailableSupplier} asynchronously on the given {@link Executor} unless a computation for the
+     * same key is already in flight, in which case the future of that computation is returned.
+     *
+     * @param key      the key identifying the computation
+     * @param supplier the {@link FailableSupplier} to use
+     * @param executor the {@link Executor} to run {@code supplier} on
+     * @return a {@code TryFuture} completed with the outcome of the single execution of the computation for
+     * {@code key}
+     */
+    public TryFuture<T> applyAsync(K key, FailableSupplier<T> supplier, Executor executor) {
+        Objects.requireNonNull(key, "key is null");
+        Objects.requireNonNull(executor, "executor is null");
+        TryFuture<T> flight = flights.get(key);
+        if (flight != null) return flight;
+        TryFuture<T> mine = new TryFuture<>();
+        flight = flights.putIfAbsent(key, mine);
+        if (flight != null) return flight;
+        try {
+            executor.execute(() -> run(key, mine, supplier));
+        } catch (RuntimeException e) {
+            flights.remove(key, mine);
+            mine.tryComplete(new Try.Failure<>(e));
+        }
+        return mine;
+    }
+
+    /**
+     * @return the number of keys whose computation is in flight
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    /**
+     * Runs the computation for {@code key}, completes the waiters and forgets the key. An {@link Error} is handed to
+     * the waiters as a {@link Try.Failure} and then rethrown.
+     */
+    private Try<T> run(K key, TryFuture<T> flight, FailableSupplier<T> supplier) {
+        Try<T> result;
+        try {
+            result = Try.apply(supplier);
+        } catch (Error e) {
+            flights.remove(key, flight);
+            flight.tryComplete(new Try.Failure<>(e));
+            throw e;
+        }
+        flights.remove(key, flight);
+        flight.tryComplete(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TrySingleFlight{" +
+                "inFlight=" + inFlight() +
+                '}';
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>A stage receiving {@link Try}s, emitting the values of the {@link Try.Success}es to its subscriber and
+ * publishing the exceptions of the {@link Try.Failure}s on {@link #failures()}, so that downstream only sees
+ * successes. It is returned by {@link TryFlow#splitFailures(int)}.</p>
+ * <p>
+ * <p>Both outputs support a single subscriber and share a buffer: at most {@code bufferSize} items are requested
+ * from upstream and not yet emitted on either side, so a subscriber of the failures which requests none holds back
+ * the successes too. Failures received while no one is subscribed to {@link #failures()}, or after its subscriber
+ * cancelled, are dropped. Items are requested from upstream once the main subscriber subscribes; the main subscriber
+ * cancelling cancels upstream and completes the failures.</p>
+ *
+ * @param <T> the type of the values
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public final class TrySplitter<T> implements TryFlow.Processor<Try<T>, T> {
+
+    private final int bufferSize;
+    private final int batch;
+    private final Queue<T> successes = new ConcurrentLinkedQueue<>();
+    private final Queue<Throwable> failureQueue = new ConcurrentLinkedQueue<>();
+    private final TryFlow.Outlet<T> main = new TryFlow.Outlet<>(this::drain, this::cancelUpstream);
+    private final TryFlow.Outlet<Throwable> side = new TryFlow.Outlet<>(this::drain, this::drain);
+    private final TryFlow.Publisher<Throwable> failures = side::subscribe;
+    private final AtomicReference<TryFlow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicInteger ready = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // written by the drain loop only
+    private int toRequest;
+
+    private volatile boolean done;
+    private volatile Throwable error;
+
+    TrySplitter(int bufferSize) {
+        TryFlow.checkPositive(bufferSize, "bufferSize");
+        this.bufferSize = bufferSize;
+        this.batch = Math.max(1, bufferSize / 2);
+    }
+
+    /**
+     * @return the single-subscriber {@link TryFlow.Publisher} of the exceptions of the {@link Try.Failure}s
+     */
+    public TryFlow.Publisher<Throwable> failures() {
+        return failures;
+    }
+
+    @Override
+    public void subscribe(TryFlow.Subscriber<? super T> subscriber) {
+        if (main.subscribe(subscriber)) start();
+    }
+
+    @Override
+    public void onSubscribe(TryFlow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription is null");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (main.isCancelled()) subscription.cancel();
+        else start();
+    }
+
+    private void start() {
+        if (ready.incrementAndGet() == 2) upstream.get().request(bufferSize);
+    }
+
+    @Override
+    public void onNext(Try<T> item) {
+        Objects.requireNonNull(item, "item is null");
+        if (done) return;
+        if (item instanceof Try.Failure) failureQueue.offer(((Try.Failure<T>) item).exception());
+        else successes.offer(item.get());
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable is null");
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void cancelUpstream() {
+        TryFlow.Subscription s = upstream.getAndSet(TryMapProcessor.CancelledSubscription.INSTANCE);
+        if (s != null && s != TryMapProcessor.CancelledSubscription.INSTANCE) s.cancel();
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        do {
+            if (main.checkInvalidRequest()) cancelUpstream();
+            side.checkInvalidRequest();
+            int consumed = emit(main, successes) + emit(side, failureQueue);
+            if (!side.isSubscribed() || side.isCancelled()) {
+                // nobody is listening to the failures: drop them
+                while (failureQueue.poll() != null) {
+                    consumed++;
+                }
+            }
+            toRequest += consumed;
+            if (toRequest >= batch) {
+                upstream.get().request(toRequest);
+                toRequest = 0;
+            }
+            boolean cancelled = main.isCancelled();
+            if (done || cancelled) {
+                Throwable e = cancelled ? null : error;
+                if (successes.isEmpty()) main.terminate(e);
+                if (failureQueue.isEmpty() || cancelled) side.terminate(e);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private static <E> int emit(TryFlow.Outlet<E> outlet, Queue<E> queue) {
+        TryFlow.Subscriber<? super E> s = outlet.subscriber();
+        if (s == null) return 0;
+        long requested = outlet.demand();
+        int sent = 0;
+        while (sent != requested && !outlet.isCancelled()) {
+            E next = queue.poll();
+            if (next == null) break;
+            s.onNext(next);
+            sent++;
+        }
+        outlet.produced(sent);
+        return sent;
+    }
+}
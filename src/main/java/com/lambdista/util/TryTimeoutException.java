@@ -0,0 +1,55 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The {@link TimeoutException} held by the {@link Try.Failure} of a computation which did not complete within its
+ * deadline. It is cheap to create: its message is built lazily and its stack trace is captured according to the
+ * {@link StackTracePolicy}.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TryTimeoutException extends TimeoutException {
+
+    private final long timeout;
+    private final TimeUnit unit;
+    private String message;
+
+    /**
+     * @param timeout the time allowed to the computation
+     * @param unit    the unit of {@code timeout}
+     */
+    public TryTimeoutException(long timeout, TimeUnit unit) {
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) message = "not completed within " + timeout + " " + unit;
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
+    }
+
+}
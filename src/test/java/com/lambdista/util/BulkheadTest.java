@@ -0,0 +1,191 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Bulkhead}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class BulkheadTest {
+
+    private static final FailableSupplier<Integer> ok = () -> 42;
+    private static final FailableSupplier<Integer> ko = () -> {
+        throw new IOException("down");
+    };
+    private static final FailableSupplier<Integer> slow = () -> {
+        Thread.sleep(20);
+        return 42;
+    };
+
+    @Test
+    public void testFixedRejectsWhenFull() throws Exception {
+        Bulkhead bulkhead = Bulkhead.fixed(2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Try<Integer>> first = executor.submit(() -> bulkhead.apply(() -> block(started, release)));
+            Future<Try<Integer>> second = executor.submit(() -> bulkhead.apply(() -> block(started, release)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, bulkhead.getInFlight());
+
+            AtomicInteger calls = new AtomicInteger();
+            Try<Integer> rejected = bulkhead.apply(calls::incrementAndGet);
+            assertEquals(0, calls.get());
+            assertTrue(rejected.failed().get() instanceof BulkheadFullException);
+
+            release.countDown();
+            assertEquals(new Try.Success<>(1), first.get(5, TimeUnit.SECONDS));
+            assertEquals(new Try.Success<>(1), second.get(5, TimeUnit.SECONDS));
+            assertEquals(0, bulkhead.getInFlight());
+            assertEquals(new Try.Success<>(1), bulkhead.apply(calls::incrementAndGet));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int block(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+        started.countDown();
+        release.await();
+        return 1;
+    }
+
+    @Test
+    public void testRejectionsArePreallocated() throws Exception {
+        Bulkhead bulkhead = Bulkhead.fixed(1);
+        Try<Try<Integer>> nested = bulkhead.apply(() -> {
+            Try<Integer> first = bulkhead.apply(ok);
+            assertSame(first, bulkhead.apply(ok));
+            return first;
+        });
+        Throwable e = nested.get().failed().get();
+        assertTrue(e instanceof BulkheadFullException);
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    public void testFailuresAndErrorsReleaseThePermit() {
+        Bulkhead bulkhead = Bulkhead.fixed(1);
+        assertTrue(bulkhead.apply(ko).failed().get() instanceof IOException);
+        try {
+            bulkhead.apply(() -> {
+                throw new AssertionError("fatal");
+            });
+            fail("errors must be rethrown");
+        } catch (AssertionError e) {
+            assertEquals("fatal", e.getMessage());
+        }
+        assertEquals(0, bulkhead.getInFlight());
+        assertEquals(new Try.Success<>(42), bulkhead.apply(ok));
+    }
+
+    @Test
+    public void testAimdGrowsWhileFastAndUsed() {
+        Bulkhead bulkhead = Bulkhead.aimd(1, TimeUnit.MINUTES).withLimits(1, 1, 3);
+        bulkhead.apply(ok);
+        assertEquals(2, bulkhead.getLimit());
+        bulkhead.apply(ok);
+        assertEquals(3, bulkhead.getLimit());
+        bulkhead.apply(ok);
+        assertEquals("never above the maximum", 3, bulkhead.getLimit());
+    }
+
+    @Test
+    public void testAimdDoesNotGrowWhenUnused() {
+        Bulkhead bulkhead = Bulkhead.aimd(1, TimeUnit.MINUTES).withLimits(1, 10, 20);
+        for (int i = 0; i < 10; i++) bulkhead.apply(ok);
+        assertEquals(10, bulkhead.getLimit());
+    }
+
+    @Test
+    public void testAimdBacksOffWhenSlow() {
+        Bulkhead bulkhead = Bulkhead.aimd(1, TimeUnit.MILLISECONDS).withLimits(2, 10, 20).withBackoffRatio(0.5);
+        bulkhead.apply(slow);
+        assertEquals(5, bulkhead.getLimit());
+        bulkhead.apply(slow);
+        assertEquals(2, bulkhead.getLimit());
+        bulkhead.apply(slow);
+        assertEquals("never below the minimum", 2, bulkhead.getLimit());
+    }
+
+    @Test
+    public void testGradientShrinksWhenLatencyGrows() {
+        Bulkhead bulkhead = Bulkhead.gradient().withLimits(1, 20, 50);
+        for (int i = 0; i < 30; i++) bulkhead.record(TimeUnit.MILLISECONDS.toNanos(2), 1);
+        assertEquals("steady latency and unused limit", 20, bulkhead.getLimit());
+        for (int i = 0; i < 10; i++) bulkhead.record(TimeUnit.MILLISECONDS.toNanos(40), 1);
+        assertTrue("limit " + bulkhead.getLimit(), bulkhead.getLimit() < 15);
+    }
+
+    @Test
+    public void testGradientGrowsWhileLatencyIsSteady() throws Exception {
+        Bulkhead bulkhead = Bulkhead.gradient().withLimits(1, 4, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                CountDownLatch started = new CountDownLatch(4);
+                CountDownLatch release = new CountDownLatch(1);
+                for (int i = 0; i < 4; i++) executor.submit(() -> bulkhead.apply(() -> block(started, release)));
+                started.await(5, TimeUnit.SECONDS);
+                release.countDown();
+                while (bulkhead.getInFlight() > 0) Thread.sleep(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue("limit " + bulkhead.getLimit(), bulkhead.getLimit() > 4);
+    }
+
+    @Test
+    public void testConfiguration() {
+        try {
+            Bulkhead.fixed(4).withLimits(1, 2, 3);
+            fail("a fixed limit has no bounds");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            Bulkhead.gradient().withBackoffRatio(0.5);
+            fail("the gradient limit has no backoff ratio");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            Bulkhead.gradient().withLimits(5, 4, 10);
+            fail("initial limit below the minimum");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(20, Bulkhead.gradient().getLimit());
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CircuitBreaker}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class CircuitBreakerTest {
+
+    private static final FailableSupplier<Integer> ok = () -> 42;
+    private static final FailableSupplier<Integer> ko = () -> {
+        throw new IOException("down");
+    };
+
+    @Test
+    public void testStaysClosedBelowThreshold() {
+        CircuitBreaker breaker = CircuitBreaker.countBased(4, 1, TimeUnit.MINUTES, 0.5);
+        breaker.apply(ko);
+        breaker.apply(ok);
+        breaker.apply(ok);
+        breaker.apply(ok);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(new Try.Success<>(42), breaker.apply(ok));
+    }
+
+    @Test
+    public void testOpensWhenThresholdReached() {
+        CircuitBreaker breaker = CircuitBreaker.countBased(4, 1, TimeUnit.MINUTES, 0.5);
+        breaker.apply(ok);
+        breaker.apply(ko);
+        breaker.apply(ok);
+        Try<Integer> last = breaker.apply(ko);
+        assertTrue("the call opening the breaker must report its own failure",
+                last.failed().get() instanceof IOException);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testOpenRejectsWithoutCalling() {
+        CircuitBreaker breaker = CircuitBreaker.countBased(1, 1, TimeUnit.MINUTES, 1.0);
+        breaker.apply(ko);
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> first = breaker.apply(() -> calls.incrementAndGet());
+        Try<Integer> second = breaker.apply(() -> calls.incrementAndGet());
+        assertEquals(0, calls.get());
+        assertTrue("result must be a failure", first.isFailure());
+        assertTrue(first.failed().get() instanceof CircuitBreakerOpenException);
+        assertSame("rejections must be preallocated", first, second);
+        assertEquals(0, first.failed().get().getStackTrace().length);
+    }
+
+    @Test
+    public void testWindowSlides() {
+        CircuitBreaker breaker = CircuitBreaker.countBased(3, 1, TimeUnit.MINUTES, 1.0);
+        breaker.apply(ko);
+        breaker.apply(ko);
+        breaker.apply(ok);
+        breaker.apply(ko);
+        breaker.apply(ko);
+        assertEquals("the success is still in the window", CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.apply(ko);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testMinimumCalls() {
+        CircuitBreaker breaker = CircuitBreaker.countBased(10, 1, TimeUnit.MINUTES, 0.5).withMinimumCalls(3);
+        breaker.apply(ko);
+        breaker.apply(ko);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.apply(ko);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenProbeSuccessCloses() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.countBased(1, 20, TimeUnit.MILLISECONDS, 1.0)
+                .withPermittedHalfOpenCalls(2);
+        breaker.apply(ko);
+        Thread.sleep(40);
+        assertEquals(new Try.Success<>(42), breaker.apply(ok));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(new Try.Success<>(42), breaker.apply(ok));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenProbeFailureReopens() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.countBased(1, 20, TimeUnit.MILLISECONDS, 1.0);
+        breaker.apply(ko);
+        Thread.sleep(40);
+        assertTrue(breaker.apply(ko).failed().get() instanceof IOException);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.apply(ok).failed().get() instanceof CircuitBreakerOpenException);
+    }
+
+    @Test
+    public void testHalfOpenLimitsProbes() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.countBased(1, 20, TimeUnit.MILLISECONDS, 1.0);
+        breaker.apply(ko);
+        Thread.sleep(40);
+        Try<Integer> nested = breaker.apply(() -> breaker.apply(ok).get());
+        assertTrue("a second concurrent probe must be rejected", nested.isFailure());
+    }
+
+    @Test
+    public void testTimeBased() {
+        CircuitBreaker breaker = CircuitBreaker.timeBased(1, 1, TimeUnit.MINUTES, 0.5).withMinimumCalls(2);
+        breaker.apply(ok);
+        breaker.apply(ko);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testTransitionsAreReported() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.countBased(1, 20, TimeUnit.MILLISECONDS, 1.0);
+        List<CircuitBreaker.State> states = new ArrayList<>();
+        breaker.addListener(t -> states.add(t.getTo()));
+        breaker.apply(ko);
+        Thread.sleep(40);
+        breaker.apply(ok);
+        assertEquals(Arrays.asList(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN,
+                CircuitBreaker.State.CLOSED), states);
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void testErrorsAreRethrown() {
+        CircuitBreaker.countBased(1, 1, TimeUnit.MINUTES, 1.0).apply(() -> {
+            throw new StackOverflowError();
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        CircuitBreaker.countBased(1, 1, TimeUnit.MINUTES, 0);
+    }
+}
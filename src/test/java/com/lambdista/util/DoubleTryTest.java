@@ -0,0 +1,172 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the {@link DoubleTry} API, in case of both success and failure
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class DoubleTryTest {
+
+    @Test
+    public void testIsSuccess() {
+        DoubleTry result = DoubleTry.apply(this::success);
+        assertTrue("result must be a success", result.isSuccess());
+    }
+
+    @Test
+    public void testIsFailure() {
+        DoubleTry result = DoubleTry.apply(this::failure);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testGetAsDoubleAgainstASuccess() {
+        assertEquals(4.2, DoubleTry.apply(this::success).getAsDouble(), 0.0);
+    }
+
+    @Test(expected = GetOfFailureException.class)
+    public void testGetAsDoubleAgainstAFailure() {
+        DoubleTry.apply(this::failure).getAsDouble();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCheckedGetAsDoubleAgainstAFailure() throws Throwable {
+        DoubleTry.apply(this::failure).checkedGetAsDouble();
+    }
+
+    @Test(expected = OutOfMemoryError.class)
+    public void testErrorMustNotBeCaught() {
+        DoubleTry.apply(() -> {throw new OutOfMemoryError();});
+    }
+
+    @Test
+    public void testSuppliedFailableSupplierIsNullShouldBeAFailure() {
+        FailableDoubleSupplier s = null;
+        assertTrue("out must be a Failure", DoubleTry.apply(s).isFailure());
+    }
+
+    @Test
+    public void testMapAgainstASuccess() {
+        assertEquals(new DoubleTry.Success(8.4), DoubleTry.apply(this::success).map(d -> d * 2));
+    }
+
+    @Test
+    public void testMapThrowingProducesAFailure() {
+        DoubleTry result = DoubleTry.apply(this::success).map(d -> {throw new ArithmeticException();});
+        assertTrue("result must fail with an ArithmeticException",
+                result.failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testMapToObjAndBoxed() {
+        assertEquals(new Try.Success<>("4.2"), DoubleTry.apply(this::success).mapToObj(Double::toString));
+        assertEquals(new Try.Success<>(4.2), DoubleTry.apply(this::success).boxed());
+        assertTrue("boxed failure must be a failure", DoubleTry.apply(this::failure).boxed().isFailure());
+    }
+
+    @Test
+    public void testMapToIntAndLong() {
+        assertEquals(new IntTry.Success(4), DoubleTry.apply(this::success).mapToInt(d -> (int) d));
+        assertEquals(new LongTry.Success(4L), DoubleTry.apply(this::success).mapToLong(d -> (long) d));
+        assertTrue("mapped failure must be a failure",
+                DoubleTry.apply(this::failure).mapToInt(d -> (int) d).isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstASuccess() {
+        assertEquals(new DoubleTry.Success(5.2),
+                DoubleTry.apply(this::success).flatMap(d -> DoubleTry.apply(() -> d + 1)));
+    }
+
+    @Test
+    public void testFlatMapReturningNullProducesAFailure() {
+        assertTrue("result must be a failure", DoubleTry.apply(this::success).flatMap(d -> null).isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstAFailure() {
+        DoubleTry result = DoubleTry.apply(this::failure);
+        assertEquals(result, result.flatMap(d -> DoubleTry.apply(this::success)));
+    }
+
+    @Test
+    public void testFilter() {
+        assertEquals(new DoubleTry.Success(4.2), DoubleTry.apply(this::success).filter(d -> d == 4.2));
+        DoubleTry filtered = DoubleTry.apply(this::success).filter(d -> d != 4.2);
+        assertTrue("filtered must fail with a NoSuchElementException",
+                filtered.failed().get() instanceof NoSuchElementException);
+        assertEquals("Predicate does not hold for 4.2", filtered.failed().get().getMessage());
+    }
+
+    @Test
+    public void testRecover() {
+        assertEquals(new DoubleTry.Success(4.2), DoubleTry.apply(this::success).recover(e -> -1.0));
+        assertEquals(new DoubleTry.Success(-1.0), DoubleTry.apply(this::failure).recover(e -> -1.0));
+        assertEquals(new DoubleTry.Success(-1.0),
+                DoubleTry.apply(this::failure).recoverWith(e -> new DoubleTry.Success(-1.0)));
+    }
+
+    @Test
+    public void testFailed() {
+        assertTrue("failed on a Success must be a Failure", DoubleTry.apply(this::success).failed().isFailure());
+        assertTrue("failed on a Failure must be a Success", DoubleTry.apply(this::failure).failed().isSuccess());
+    }
+
+    @Test
+    public void testToOptional() {
+        assertEquals(OptionalDouble.of(4.2), DoubleTry.apply(this::success).toOptional());
+        assertEquals(OptionalDouble.empty(), DoubleTry.apply(this::failure).toOptional());
+    }
+
+    @Test
+    public void testGetOrElseAndOrElse() {
+        assertEquals(4.2, DoubleTry.apply(this::success).getOrElse(-1.0), 0.0);
+        assertEquals(-1.0, DoubleTry.apply(this::failure).getOrElse(-1.0), 0.0);
+        assertEquals(new DoubleTry.Success(-1.0), DoubleTry.apply(this::failure).orElse(new DoubleTry.Success(-1.0)));
+    }
+
+    @Test
+    public void testForEach() {
+        double[] seen = new double[1];
+        DoubleTry.apply(this::success).forEach(d -> seen[0] = d);
+        DoubleTry.apply(this::failure).forEach(d -> seen[0] = -1.0);
+        assertEquals(4.2, seen[0], 0.0);
+    }
+
+    @Test
+    public void testNaNSuccessesAreEqual() {
+        assertEquals(new DoubleTry.Success(Double.NaN), new DoubleTry.Success(Double.NaN));
+    }
+
+    private double success() {
+        return Double.parseDouble("4.2");
+    }
+
+    private double failure() throws NumberFormatException {
+        return Double.parseDouble("n/a");
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the {@link IntTry} API, in case of both success and failure
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class IntTryTest {
+
+    @Test
+    public void testIsSuccess() {
+        IntTry result = IntTry.apply(this::success);
+        assertTrue("result must be a success", result.isSuccess());
+    }
+
+    @Test
+    public void testIsFailure() {
+        IntTry result = IntTry.apply(this::failure);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testGetAsIntAgainstASuccess() {
+        assertEquals(42, IntTry.apply(this::success).getAsInt());
+    }
+
+    @Test(expected = GetOfFailureException.class)
+    public void testGetAsIntAgainstAFailure() {
+        IntTry.apply(this::failure).getAsInt();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCheckedGetAsIntAgainstAFailure() throws Throwable {
+        IntTry.apply(this::failure).checkedGetAsInt();
+    }
+
+    @Test(expected = OutOfMemoryError.class)
+    public void testErrorMustNotBeCaught() {
+        IntTry.apply(() -> {throw new OutOfMemoryError();});
+    }
+
+    @Test
+    public void testSuppliedFailableSupplierIsNullShouldBeAFailure() {
+        FailableIntSupplier s = null;
+        assertTrue("out must be a Failure", IntTry.apply(s).isFailure());
+    }
+
+    @Test
+    public void testMapAgainstASuccess() {
+        assertEquals(new IntTry.Success(84), IntTry.apply(this::success).map(i -> i * 2));
+    }
+
+    @Test
+    public void testMapThrowingProducesAFailure() {
+        IntTry result = IntTry.apply(this::success).map(i -> i / 0);
+        assertTrue("result must fail with an ArithmeticException",
+                result.failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testMapToObjAndBoxed() {
+        assertEquals(new Try.Success<>("42"), IntTry.apply(this::success).mapToObj(Integer::toString));
+        assertEquals(new Try.Success<>(42), IntTry.apply(this::success).boxed());
+        assertTrue("boxed failure must be a failure", IntTry.apply(this::failure).boxed().isFailure());
+    }
+
+    @Test
+    public void testMapToLongAndDouble() {
+        assertEquals(new LongTry.Success(42L), IntTry.apply(this::success).mapToLong(i -> i));
+        assertEquals(new DoubleTry.Success(21.0), IntTry.apply(this::success).mapToDouble(i -> i / 2.0));
+        assertTrue("mapped failure must be a failure", IntTry.apply(this::failure).mapToLong(i -> i).isFailure());
+    }
+
+    @Test
+    public void testTryMapToInt() {
+        assertEquals(new IntTry.Success(12), Try.apply(() -> "Hello World!").mapToInt(String::length));
+        IntTry failure = Try.apply(() -> Integer.parseInt("n/a")).mapToInt(Integer::intValue);
+        assertTrue("failure must keep the original exception",
+                failure.failed().get() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testFlatMapAgainstASuccess() {
+        assertEquals(new IntTry.Success(43), IntTry.apply(this::success).flatMap(i -> IntTry.apply(() -> i + 1)));
+    }
+
+    @Test
+    public void testFlatMapReturningNullProducesAFailure() {
+        assertTrue("result must be a failure", IntTry.apply(this::success).flatMap(i -> null).isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstAFailure() {
+        IntTry result = IntTry.apply(this::failure);
+        assertEquals(result, result.flatMap(i -> IntTry.apply(this::success)));
+    }
+
+    @Test
+    public void testFilter() {
+        assertEquals(new IntTry.Success(42), IntTry.apply(this::success).filter(i -> i == 42));
+        IntTry filtered = IntTry.apply(this::success).filter(i -> i != 42);
+        assertTrue("filtered must fail with a NoSuchElementException",
+                filtered.failed().get() instanceof NoSuchElementException);
+        assertEquals("Predicate does not hold for 42", filtered.failed().get().getMessage());
+    }
+
+    @Test
+    public void testRecover() {
+        assertEquals(new IntTry.Success(42), IntTry.apply(this::success).recover(e -> 84));
+        assertEquals(new IntTry.Success(84), IntTry.apply(this::failure).recover(e -> 84));
+        assertEquals(new IntTry.Success(84), IntTry.apply(this::failure).recoverWith(e -> new IntTry.Success(84)));
+    }
+
+    @Test
+    public void testFailed() {
+        assertTrue("failed on a Success must be a Failure", IntTry.apply(this::success).failed().isFailure());
+        assertTrue("failed on a Failure must be a Success", IntTry.apply(this::failure).failed().isSuccess());
+    }
+
+    @Test
+    public void testToOptional() {
+        assertEquals(OptionalInt.of(42), IntTry.apply(this::success).toOptional());
+        assertEquals(OptionalInt.empty(), IntTry.apply(this::failure).toOptional());
+    }
+
+    @Test
+    public void testGetOrElseAndOrElse() {
+        assertEquals(42, IntTry.apply(this::success).getOrElse(84));
+        assertEquals(84, IntTry.apply(this::failure).getOrElse(84));
+        assertEquals(new IntTry.Success(84), IntTry.apply(this::failure).orElse(new IntTry.Success(84)));
+    }
+
+    @Test
+    public void testForEach() {
+        int[] seen = new int[1];
+        IntTry.apply(this::success).forEach(i -> seen[0] = i);
+        IntTry.apply(this::failure).forEach(i -> seen[0] = -1);
+        assertEquals(42, seen[0]);
+    }
+
+    private int success() {
+        return 42;
+    }
+
+    private int failure() throws NumberFormatException {
+        throw new NumberFormatException("Number not valid");
+    }
+}
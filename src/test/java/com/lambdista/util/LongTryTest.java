@@ -0,0 +1,166 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the {@link LongTry} API, in case of both success and failure
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class LongTryTest {
+
+    @Test
+    public void testIsSuccess() {
+        LongTry result = LongTry.apply(this::success);
+        assertTrue("result must be a success", result.isSuccess());
+    }
+
+    @Test
+    public void testIsFailure() {
+        LongTry result = LongTry.apply(this::failure);
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testGetAsLongAgainstASuccess() {
+        assertEquals(4200000000L, LongTry.apply(this::success).getAsLong());
+    }
+
+    @Test(expected = GetOfFailureException.class)
+    public void testGetAsLongAgainstAFailure() {
+        LongTry.apply(this::failure).getAsLong();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testCheckedGetAsLongAgainstAFailure() throws Throwable {
+        LongTry.apply(this::failure).checkedGetAsLong();
+    }
+
+    @Test(expected = OutOfMemoryError.class)
+    public void testErrorMustNotBeCaught() {
+        LongTry.apply(() -> {throw new OutOfMemoryError();});
+    }
+
+    @Test
+    public void testSuppliedFailableSupplierIsNullShouldBeAFailure() {
+        FailableLongSupplier s = null;
+        assertTrue("out must be a Failure", LongTry.apply(s).isFailure());
+    }
+
+    @Test
+    public void testMapAgainstASuccess() {
+        assertEquals(new LongTry.Success(8400000000L), LongTry.apply(this::success).map(l -> l * 2));
+    }
+
+    @Test
+    public void testMapThrowingProducesAFailure() {
+        LongTry result = LongTry.apply(this::success).map(l -> {throw new ArithmeticException();});
+        assertTrue("result must fail with an ArithmeticException",
+                result.failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testMapToObjAndBoxed() {
+        assertEquals(new Try.Success<>("4200000000"), LongTry.apply(this::success).mapToObj(Long::toString));
+        assertEquals(new Try.Success<>(4200000000L), LongTry.apply(this::success).boxed());
+        assertTrue("boxed failure must be a failure", LongTry.apply(this::failure).boxed().isFailure());
+    }
+
+    @Test
+    public void testMapToIntAndDouble() {
+        assertEquals(new IntTry.Success(42), LongTry.apply(this::success).mapToInt(l -> (int) (l / 100000000L)));
+        assertEquals(new DoubleTry.Success(4.2E9), LongTry.apply(this::success).mapToDouble(l -> l));
+        assertTrue("mapped failure must be a failure",
+                LongTry.apply(this::failure).mapToInt(l -> (int) (l / 100000000L)).isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstASuccess() {
+        assertEquals(new LongTry.Success(4200000001L),
+                LongTry.apply(this::success).flatMap(l -> LongTry.apply(() -> l + 1)));
+    }
+
+    @Test
+    public void testFlatMapReturningNullProducesAFailure() {
+        assertTrue("result must be a failure", LongTry.apply(this::success).flatMap(l -> null).isFailure());
+    }
+
+    @Test
+    public void testFlatMapAgainstAFailure() {
+        LongTry result = LongTry.apply(this::failure);
+        assertEquals(result, result.flatMap(l -> LongTry.apply(this::success)));
+    }
+
+    @Test
+    public void testFilter() {
+        assertEquals(new LongTry.Success(4200000000L), LongTry.apply(this::success).filter(l -> l == 4200000000L));
+        LongTry filtered = LongTry.apply(this::success).filter(l -> l != 4200000000L);
+        assertTrue("filtered must fail with a NoSuchElementException",
+                filtered.failed().get() instanceof NoSuchElementException);
+        assertEquals("Predicate does not hold for 4200000000", filtered.failed().get().getMessage());
+    }
+
+    @Test
+    public void testRecover() {
+        assertEquals(new LongTry.Success(4200000000L), LongTry.apply(this::success).recover(e -> -1L));
+        assertEquals(new LongTry.Success(-1L), LongTry.apply(this::failure).recover(e -> -1L));
+        assertEquals(new LongTry.Success(-1L), LongTry.apply(this::failure).recoverWith(e -> new LongTry.Success(-1L)));
+    }
+
+    @Test
+    public void testFailed() {
+        assertTrue("failed on a Success must be a Failure", LongTry.apply(this::success).failed().isFailure());
+        assertTrue("failed on a Failure must be a Success", LongTry.apply(this::failure).failed().isSuccess());
+    }
+
+    @Test
+    public void testToOptional() {
+        assertEquals(OptionalLong.of(4200000000L), LongTry.apply(this::success).toOptional());
+        assertEquals(OptionalLong.empty(), LongTry.apply(this::failure).toOptional());
+    }
+
+    @Test
+    public void testGetOrElseAndOrElse() {
+        assertEquals(4200000000L, LongTry.apply(this::success).getOrElse(-1L));
+        assertEquals(-1L, LongTry.apply(this::failure).getOrElse(-1L));
+        assertEquals(new LongTry.Success(-1L), LongTry.apply(this::failure).orElse(new LongTry.Success(-1L)));
+    }
+
+    @Test
+    public void testForEach() {
+        long[] seen = new long[1];
+        LongTry.apply(this::success).forEach(l -> seen[0] = l);
+        LongTry.apply(this::failure).forEach(l -> seen[0] = -1L);
+        assertEquals(4200000000L, seen[0]);
+    }
+
+    private long success() {
+        return Long.parseLong("4200000000");
+    }
+
+    private long failure() throws NumberFormatException {
+        return Long.parseLong("n/a");
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link IntTryBinaryOperator}, {@link LongTryBinaryOperator} and {@link DoubleTryBinaryOperator}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class PrimitiveTryBinaryOperatorTest {
+
+    @Test
+    public void testIntSumSuccess() {
+        IntTry result = ints("42", "195", "7").reduce(new IntTry.Success(0), IntTryBinaryOperator.of(Integer::sum));
+        assertEquals(new IntTry.Success(244), result);
+    }
+
+    @Test
+    public void testIntSumFailure() {
+        IntTry result = ints("42", "n/a", "7").reduce(new IntTry.Success(0), IntTryBinaryOperator.of(Integer::sum));
+        assertTrue("result must be a failure", result.isFailure());
+    }
+
+    @Test
+    public void testIntMinMax() {
+        assertEquals(new IntTry.Success(7), ints("42", "195", "7").reduce(IntTryBinaryOperator.min()).get());
+        assertEquals(new IntTry.Success(195), ints("42", "195", "7").reduce(IntTryBinaryOperator.max()).get());
+    }
+
+    @Test
+    public void testOperatorExceptionProducesAFailure() {
+        IntTry result = IntTryBinaryOperator.of((a, b) -> a / b).apply(new IntTry.Success(1), new IntTry.Success(0));
+        assertTrue("result must fail with an ArithmeticException",
+                result.failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testLongAndDouble() {
+        assertEquals(new LongTry.Success(3L),
+                LongTryBinaryOperator.of(Long::sum).apply(new LongTry.Success(1L), new LongTry.Success(2L)));
+        assertEquals(new DoubleTry.Success(2.5),
+                DoubleTryBinaryOperator.max().apply(new DoubleTry.Success(1.5), new DoubleTry.Success(2.5)));
+    }
+
+    @Test
+    public void testIntFoldStopsAtTheFirstFailure() {
+        Iterator<IntTry> values = Arrays.asList(new IntTry.Success(1), new IntTry.Failure(new IllegalStateException()),
+                new IntTry.Success(2)).iterator();
+        IntTry result = IntTryBinaryOperator.of(Integer::sum).fold(new IntTry.Success(0), values);
+        assertTrue("result must be a failure", result.isFailure());
+        assertTrue("the element after the failure must not be consumed", values.hasNext());
+        assertEquals(new IntTry.Success(244),
+                IntTryBinaryOperator.of(Integer::sum).fold(new IntTry.Success(0), ints("42", "195", "7")));
+    }
+
+    @Test
+    public void testLongSumFailureMinMax() {
+        assertEquals(new LongTry.Success(4200000007L),
+                longs("4200000000", "7").reduce(new LongTry.Success(0L), LongTryBinaryOperator.of(Long::sum)));
+        assertTrue("result must be a failure",
+                longs("42", "n/a").reduce(new LongTry.Success(0L), LongTryBinaryOperator.of(Long::sum)).isFailure());
+        assertEquals(new LongTry.Success(7L), longs("4200000000", "7").reduce(LongTryBinaryOperator.min()).get());
+        assertEquals(new LongTry.Success(4200000000L),
+                longs("4200000000", "7").reduce(LongTryBinaryOperator.max()).get());
+    }
+
+    @Test
+    public void testDoubleSumFailureMinMax() {
+        assertEquals(new DoubleTry.Success(5.0),
+                doubles("1.5", "3.5").reduce(new DoubleTry.Success(0.0), DoubleTryBinaryOperator.of(Double::sum)));
+        assertTrue("result must be a failure", doubles("1.5", "n/a")
+                .reduce(new DoubleTry.Success(0.0), DoubleTryBinaryOperator.of(Double::sum)).isFailure());
+        assertEquals(new DoubleTry.Success(1.5), doubles("1.5", "3.5").reduce(DoubleTryBinaryOperator.min()).get());
+        assertEquals(new DoubleTry.Success(3.5), doubles("1.5", "3.5").reduce(DoubleTryBinaryOperator.max()).get());
+    }
+
+    @Test
+    public void testLongAndDoubleOperatorExceptionProducesAFailure() {
+        LongTry longResult = LongTryBinaryOperator.of((a, b) -> a / b)
+                .apply(new LongTry.Success(1L), new LongTry.Success(0L));
+        assertTrue("result must fail with an ArithmeticException",
+                longResult.failed().get() instanceof ArithmeticException);
+        DoubleTry doubleResult = DoubleTryBinaryOperator.of((a, b) -> {throw new ArithmeticException();})
+                .apply(new DoubleTry.Success(1.0), new DoubleTry.Success(0.0));
+        assertTrue("result must fail with an ArithmeticException",
+                doubleResult.failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testLongAndDoubleFoldStopAtTheFirstFailure() {
+        Iterator<LongTry> longValues = Arrays.asList(new LongTry.Success(1L),
+                new LongTry.Failure(new IllegalStateException()), new LongTry.Success(2L)).iterator();
+        assertTrue("result must be a failure",
+                LongTryBinaryOperator.of(Long::sum).fold(new LongTry.Success(0L), longValues).isFailure());
+        assertTrue("the element after the failure must not be consumed", longValues.hasNext());
+        Iterator<DoubleTry> doubleValues = Arrays.asList(new DoubleTry.Success(1.0),
+                new DoubleTry.Failure(new IllegalStateException()), new DoubleTry.Success(2.0)).iterator();
+        assertTrue("result must be a failure",
+                DoubleTryBinaryOperator.of(Double::sum).fold(new DoubleTry.Success(0.0), doubleValues).isFailure());
+        assertTrue("the element after the failure must not be consumed", doubleValues.hasNext());
+        assertEquals(new DoubleTry.Success(5.0),
+                DoubleTryBinaryOperator.of(Double::sum).fold(new DoubleTry.Success(0.0), doubles("1.5", "3.5")));
+    }
+
+    private static Stream<IntTry> ints(String... values) {
+        return Arrays.stream(values).map(s -> IntTry.apply(() -> Integer.parseInt(s)));
+    }
+
+    private static Stream<LongTry> longs(String... values) {
+        return Arrays.stream(values).map(s -> LongTry.apply(() -> Long.parseLong(s)));
+    }
+
+    private static Stream<DoubleTry> doubles(String... values) {
+        return Arrays.stream(values).map(s -> DoubleTry.apply(() -> Double.parseDouble(s)));
+    }
+}
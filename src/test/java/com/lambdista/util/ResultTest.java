@@ -0,0 +1,144 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Result}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class ResultTest {
+
+    private enum Error {NEGATIVE, ODD, TOO_LARGE}
+
+    private static Result<Integer, Error> parse(int n) {
+        return n < 0 ? new Result.Failure<>(Error.NEGATIVE) : new Result.Success<>(n);
+    }
+
+    @Test
+    public void testMap() {
+        assertEquals(new Result.Success<>(4), parse(2).map(n -> n * 2));
+        Result<Integer, Error> failure = parse(-1);
+        assertSame(failure, failure.map(n -> n * 2));
+        assertEquals(new Result.Failure<>("NEGATIVE"), failure.mapError(Enum::name));
+    }
+
+    @Test
+    public void testFlatMap() {
+        assertEquals(new Result.Success<>(3), parse(1).flatMap(a -> parse(2).map(b -> a + b)));
+        assertEquals(new Result.Failure<>(Error.NEGATIVE), parse(1).flatMap(a -> parse(-2)));
+    }
+
+    @Test
+    public void testFilter() {
+        assertEquals(new Result.Success<>(2), parse(2).filter(n -> n % 2 == 0, n -> Error.ODD));
+        assertEquals(new Result.Failure<>(Error.ODD), parse(3).filter(n -> n % 2 == 0, n -> Error.ODD));
+        assertEquals(new Result.Failure<>(Error.NEGATIVE), parse(-3).filter(n -> n % 2 == 0, n -> Error.ODD));
+    }
+
+    @Test
+    public void testRecover() {
+        assertEquals(new Result.Success<>(0), parse(-1).recover(e -> 0));
+        assertEquals(new Result.Success<>(5), parse(5).recover(e -> 0));
+        assertEquals(new Result.Failure<>("NEGATIVE"),
+                parse(-1).recoverWith(e -> new Result.Failure<Integer, String>(e.name())));
+    }
+
+    @Test
+    public void testFold() {
+        assertEquals("5", parse(5).fold(String::valueOf, Enum::name));
+        assertEquals("NEGATIVE", parse(-5).fold(String::valueOf, Enum::name));
+    }
+
+    @Test
+    public void testAccessors() {
+        Result<Integer, Error> success = parse(1);
+        Result<Integer, Error> failure = parse(-1);
+        assertTrue(success.isSuccess());
+        assertFalse(success.isFailure());
+        assertTrue(failure.isFailure());
+        assertEquals(Error.NEGATIVE, failure.getError());
+        assertEquals(Optional.of(1), success.toOptional());
+        assertEquals(Optional.empty(), failure.toOptional());
+        assertEquals(Integer.valueOf(7), failure.getOrElse(7));
+        assertEquals(success, failure.orElse(success));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetOfFailure() {
+        parse(-1).get();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetErrorOfSuccess() {
+        parse(1).getError();
+    }
+
+    @Test
+    public void testTryConversions() {
+        IOException e = new IOException("boom");
+        Result<String, Throwable> failure = Result.fromTry(new Try.Failure<>(e));
+        assertSame(e, failure.getError());
+        assertEquals(new Try.Success<>("a"), Result.toTry(Result.fromTry(new Try.Success<>("a"))));
+        assertEquals(new Try.Failure<>(e), Result.toTry(failure));
+
+        Try<Integer> t = parse(-1).toTry(error -> new IllegalArgumentException(error.name()));
+        assertEquals("NEGATIVE", t.failed().get().getMessage());
+        assertEquals(new Try.Success<>(1), parse(1).toTry(error -> new IllegalArgumentException()));
+    }
+
+    @Test
+    public void testValidateGathersAllErrors() {
+        Result<Integer, List<Error>> result = Result.validate(-3,
+                n -> parse(n),
+                n -> n % 2 == 0 ? new Result.Success<>(n) : new Result.Failure<>(Error.ODD),
+                n -> n < 10 ? new Result.Success<>(n) : new Result.Failure<>(Error.TOO_LARGE));
+        assertEquals(Arrays.asList(Error.NEGATIVE, Error.ODD), result.getError());
+
+        assertEquals(new Result.Success<>(4), Result.validate(4, ResultTest::parse));
+    }
+
+    @Test
+    public void testCombine() {
+        assertEquals(new Result.Success<>(3), Result.combine(parse(1), parse(2), Integer::sum));
+        assertEquals(Arrays.asList(Error.NEGATIVE, Error.NEGATIVE),
+                Result.combine(parse(-1), parse(-2), Integer::sum).getError());
+        assertEquals(Collections.singletonList(Error.NEGATIVE),
+                Result.combine(parse(1), parse(-2), Integer::sum).getError());
+    }
+
+    @Test
+    public void testSequenceAllAndTraverseAll() {
+        assertEquals(Arrays.asList(1, 2), Result.sequenceAll(Arrays.asList(parse(1), parse(2))).get());
+        assertEquals(Arrays.asList(Error.NEGATIVE, Error.NEGATIVE),
+                Result.traverseAll(Arrays.asList(-1, 2, -3), ResultTest::parse).getError());
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Try#retry(RetryPolicy, FailableSupplier)}, its asynchronous counterpart, {@link Backoff}
+ * and {@link RetryBudget}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class RetryPolicyTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setup() {
+        scheduler = Executors.newScheduledThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testRetriesUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> result = Try.retry(RetryPolicy.attempts(5), failingTimes(2, calls));
+        assertEquals(new Try.Success<>(42), result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testStopsAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> result = Try.retry(RetryPolicy.attempts(3), failingTimes(10, calls));
+        assertTrue("result must fail with an IOException", result.failed().get() instanceof IOException);
+        assertEquals("attempt 3", result.failed().get().getMessage());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testOnlyRetriesMatchingExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> result = Try.retry(RetryPolicy.attempts(5).retryOn(e -> e instanceof IllegalStateException),
+                failingTimes(2, calls));
+        assertTrue("result must be a failure", result.isFailure());
+        assertEquals(1, calls.get());
+    }
+
+    @Test(expected = OutOfMemoryError.class)
+    public void testErrorsAreNotRetried() {
+        Try.retry(RetryPolicy.attempts(5), () -> {
+            throw new OutOfMemoryError();
+        });
+    }
+
+    @Test
+    public void testMaxDuration() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.attempts(100)
+                .withBackoff(Backoff.fixed(20, TimeUnit.MILLISECONDS))
+                .withMaxDuration(50, TimeUnit.MILLISECONDS);
+        Try<Integer> result = Try.retry(policy, failingTimes(100, calls));
+        assertTrue("result must be a failure", result.isFailure());
+        assertTrue("attempts must be bounded by the max duration", calls.get() <= 3);
+    }
+
+    @Test
+    public void testBudgetLimitsRetries() {
+        RetryBudget budget = RetryBudget.of(0.0, 2);
+        RetryPolicy policy = RetryPolicy.attempts(10).withBudget(budget);
+        AtomicInteger calls = new AtomicInteger();
+        Try.retry(policy, failingTimes(100, calls));
+        assertEquals("only the budgeted retries must be performed", 3, calls.get());
+        calls.set(0);
+        Try.retry(policy, failingTimes(100, calls));
+        assertEquals("an exhausted budget must allow no retries", 1, calls.get());
+    }
+
+    @Test
+    public void testBudgetIsReplenishedByCalls() {
+        RetryBudget budget = RetryBudget.of(0.5, 1);
+        assertTrue(budget.tryWithdraw());
+        assertTrue("budget must be empty", !budget.tryWithdraw());
+        budget.deposit();
+        budget.deposit();
+        assertTrue("two calls must pay for one retry", budget.tryWithdraw());
+        for (int i = 0; i < 10; i++) budget.deposit();
+        assertEquals("balance must be capped", 1.0, budget.getBalance(), 0.0);
+    }
+
+    @Test
+    public void testBackoffs() {
+        assertEquals(0L, Backoff.none().nextDelayNanos(3, 0L));
+        assertEquals(5_000_000L, Backoff.fixed(5, TimeUnit.MILLISECONDS).nextDelayNanos(3, 0L));
+
+        Backoff exponential = Backoff.exponential(10, 50, TimeUnit.NANOSECONDS, 2.0);
+        assertEquals(10L, exponential.nextDelayNanos(1, 0L));
+        assertEquals(20L, exponential.nextDelayNanos(2, 10L));
+        assertEquals(40L, exponential.nextDelayNanos(3, 20L));
+        assertEquals(50L, exponential.nextDelayNanos(4, 40L));
+
+        Backoff jitter = Backoff.decorrelatedJitter(10, 100, TimeUnit.NANOSECONDS);
+        long previous = 0L;
+        for (int i = 1; i < 100; i++) {
+            long delay = jitter.nextDelayNanos(i, previous);
+            assertTrue("delay must be within bounds: " + delay,
+                    delay >= 10 && delay <= Math.min(100, Math.max(10, previous) * 3));
+            previous = delay;
+        }
+    }
+
+    @Test
+    public void testAsyncRetry() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.attempts(5).withBackoff(Backoff.fixed(1, TimeUnit.MILLISECONDS));
+        assertEquals(new Try.Success<>(42), TryFuture.retry(policy, failingTimes(3, calls), scheduler).await());
+        assertEquals(4, calls.get());
+
+        calls.set(0);
+        Try<Integer> result = TryFuture.retry(RetryPolicy.attempts(2), failingTimes(10, calls), scheduler).await();
+        assertTrue("result must be a failure", result.isFailure());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testInterruptedBackoffKeepsTheLastFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.attempts(5).withBackoff(Backoff.fixed(1, TimeUnit.MINUTES));
+        Thread.currentThread().interrupt();
+        Try<Integer> result;
+        try {
+            result = Try.retry(policy, failingTimes(10, calls));
+            assertTrue("the interrupt status must be restored", Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        Throwable e = result.failed().get();
+        assertTrue(e instanceof InterruptedException);
+        assertEquals(1, calls.get());
+        assertEquals("attempt 1", e.getSuppressed()[0].getMessage());
+    }
+
+    private static FailableSupplier<Integer> failingTimes(int failures, AtomicInteger calls) {
+        return () -> {
+            int call = calls.incrementAndGet();
+            if (call <= failures) throw new IOException("attempt " + call);
+            return 42;
+        };
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for the {@link StackTracePolicy} and the cheap failure path of {@link Try}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class StackTracePolicyTest {
+
+    @After
+    public void tearDown() {
+        StackTracePolicy.setMode(StackTracePolicy.Mode.FULL);
+        StackTracePolicy.setSampleRate(StackTracePolicy.DEFAULT_SAMPLE_RATE);
+    }
+
+    @Test
+    public void testFullModeCapturesStackTraces() {
+        StackTracePolicy.setMode(StackTracePolicy.Mode.FULL);
+        Try<Throwable> failed = new Try.Success<>(42).failed();
+        assertTrue("stack trace must be captured", failed.failed().get().getStackTrace().length > 0);
+        assertTrue("stack trace must be captured", getOfFailure(failed).getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testNoneModeDoesNotCaptureStackTraces() {
+        StackTracePolicy.setMode(StackTracePolicy.Mode.NONE);
+        Try<Integer> filtered = new Try.Success<>(42).filter(i -> i != 42);
+        Throwable e = filtered.failed().get();
+        assertTrue("e must be a NoSuchElementException", e instanceof NoSuchElementException);
+        assertEquals("stack trace must be empty", 0, e.getStackTrace().length);
+        assertEquals("stack trace must be empty", 0, getOfFailure(filtered).getStackTrace().length);
+    }
+
+    @Test
+    public void testSampledModeWithRateOneCapturesEveryStackTrace() {
+        StackTracePolicy.setMode(StackTracePolicy.Mode.SAMPLED);
+        StackTracePolicy.setSampleRate(1);
+        for (int i = 0; i < 10; i++) {
+            assertTrue("stack trace must be captured", StackTracePolicy.captureStackTrace());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveSampleRateIsRejected() {
+        StackTracePolicy.setSampleRate(0);
+    }
+
+    @Test
+    public void testFilterMessageIsRenderedLazily() {
+        CountingToString value = new CountingToString();
+        Try<CountingToString> filtered = new Try.Success<>(value).filter(v -> false);
+        assertEquals("toString must not be called before the message is needed", 0, value.calls);
+        assertEquals("Predicate does not hold for value", filtered.failed().get().getMessage());
+        filtered.failed().get().getMessage();
+        assertEquals("the message must be rendered once", 1, value.calls);
+    }
+
+    @Test
+    public void testGetOfFailureExceptionIsReused() {
+        Try<Integer> failure = new Try.Failure<>(new IllegalStateException());
+        assertSame("the same GetOfFailureException must be thrown", getOfFailure(failure), getOfFailure(failure));
+    }
+
+    @Test
+    public void testJoinOfNullIsANullPointerFailure() {
+        Try<Integer> joined = Try.join(null);
+        assertTrue("joined must fail with a NullPointerException",
+                joined.failed().get() instanceof NullPointerException);
+        assertEquals("t is null", joined.failed().get().getMessage());
+    }
+
+    private static GetOfFailureException getOfFailure(Try<?> failure) {
+        try {
+            failure.get();
+        } catch (GetOfFailureException e) {
+            return e;
+        }
+        fail("get must throw a GetOfFailureException");
+        return null;
+    }
+
+    private static final class CountingToString {
+        private int calls;
+
+        @Override
+        public String toString() {
+            calls++;
+            return "value";
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for the timeout-bounded variants of {@link Try#apply(FailableSupplier)} and
+ * {@link TryFuture#apply(FailableSupplier, java.util.concurrent.Executor)}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TimeoutTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCompletesInTime() {
+        assertEquals(new Try.Success<>(42), Try.apply(() -> 42, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailureInTime() {
+        Try<Integer> result = Try.apply(() -> Integer.parseInt("x"), 1, TimeUnit.SECONDS);
+        assertTrue(result.failed().get() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testSyncTimeoutInterrupts() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Try<Integer> result = Try.apply(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return 42;
+        }, 20, TimeUnit.MILLISECONDS);
+        assertTrue("result must fail with a TryTimeoutException",
+                result.failed().get() instanceof TryTimeoutException);
+        assertTrue(interrupted.get());
+        assertFalse("the interrupt must not leak", Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void testNoInterruptAfterCompletion() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Try.apply(() -> 42, 1, TimeUnit.MILLISECONDS);
+        }
+        Thread.sleep(20);
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    public void testAsyncInterrupt() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        TryFuture<Integer> future = TryFuture.apply(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 42;
+        }, executor, 20, TimeUnit.MILLISECONDS, TimeoutPolicy.INTERRUPT);
+        assertTrue(future.await().failed().get() instanceof TryTimeoutException);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAsyncAbandon() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+        TryFuture<Integer> future = TryFuture.apply(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return 42;
+        }, executor, 20, TimeUnit.MILLISECONDS, TimeoutPolicy.ABANDON);
+        assertTrue(future.await().failed().get() instanceof TryTimeoutException);
+        release.countDown();
+        assertTrue(finished.await(1, TimeUnit.SECONDS));
+        assertFalse(interrupted.get());
+        assertTrue(future.value().get().failed().get() instanceof TryTimeoutException);
+    }
+
+    @Test
+    public void testExpiredBeforeStartNeverRuns() throws InterruptedException {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            single.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+            AtomicInteger calls = new AtomicInteger();
+            TryFuture<Integer> future = TryFuture.apply(calls::incrementAndGet, single, 10, TimeUnit.MILLISECONDS,
+                    TimeoutPolicy.INTERRUPT);
+            assertTrue(future.await().isFailure());
+            release.countDown();
+            single.shutdown();
+            single.awaitTermination(1, TimeUnit.SECONDS);
+            assertEquals(0, calls.get());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTimerSurvivesErrors() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, "test-timer");
+        Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        CountDownLatch reported = new CountDownLatch(1);
+        Thread.setDefaultUncaughtExceptionHandler((t, e) -> {
+            if (e instanceof AssertionError) reported.countDown();
+        });
+        try {
+            timer.schedule(() -> {
+                throw new AssertionError("boom");
+            }, 1, TimeUnit.MILLISECONDS);
+            assertTrue(reported.await(5, TimeUnit.SECONDS));
+            CountDownLatch ran = new CountDownLatch(1);
+            timer.schedule(ran::countDown, 1, TimeUnit.MILLISECONDS);
+            assertTrue("the worker must survive the error", ran.await(5, TimeUnit.SECONDS));
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+    }
+
+    @Test
+    public void testWithin() throws InterruptedException {
+        TryPromise<Integer> never = new TryPromise<>();
+        Try<Integer> result = never.future().within(20, TimeUnit.MILLISECONDS).await();
+        assertTrue(result.failed().get() instanceof TryTimeoutException);
+
+        TryPromise<Integer> promise = new TryPromise<>();
+        TryFuture<Integer> bounded = promise.future().within(1, TimeUnit.SECONDS);
+        promise.success(42);
+        assertEquals(new Try.Success<>(42), bounded.await());
+    }
+
+    @Test
+    public void testManyDeadlines() throws InterruptedException {
+        int n = 100_000;
+        List<TryFuture<Integer>> futures = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            futures.add(new TryPromise<Integer>().future().within(10 + i % 50, TimeUnit.MILLISECONDS));
+        }
+        for (TryFuture<Integer> future : futures) {
+            assertTrue(future.await(5, TimeUnit.SECONDS).failed().get() instanceof TryTimeoutException);
+        }
+    }
+}
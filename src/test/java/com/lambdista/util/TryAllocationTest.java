@@ -0,0 +1,158 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Allocation regression tests for the eager combinators of {@link Try}. Each operation is run many times and the
+ * bytes allocated by the current thread, as reported by {@link com.sun.management.ThreadMXBean}, are divided by the
+ * number of runs. The results are stored in a field so that the JIT cannot eliminate them, which makes the figures
+ * the same whether or not the code is compiled: a single small object, such as the resulting {@code Try}, takes
+ * 16 to 24 bytes depending on whether oops are compressed.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int RUNS = 100_000;
+
+    /**
+     * The allocation allowed to an operation which only creates its resulting {@code Try}
+     */
+    private static final long ONE_OBJECT = 24;
+
+    /**
+     * The allocation allowed to an operation which should create nothing, leaving room for measurement noise
+     */
+    private static final long NOTHING = 2;
+
+    private static final Function<Integer, Integer> INCREMENT = n -> n + 1;
+    private static final Function<Integer, Try<Integer>> TO_TRY = n -> new Try.Success<>(n);
+    private static final Function<Throwable, Integer> ZERO = e -> 0;
+
+    private static Object sink;
+
+    private com.sun.management.ThreadMXBean threads;
+
+    private final Try<Integer> success = new Try.Success<>(1);
+    private final Try<Integer> failure = new Try.Failure<>(new IllegalStateException());
+    private final Try<Integer> other = new Try.Success<>(2);
+
+    // created once: a lambda capturing a field would otherwise be allocated on every run
+    private final Function<Integer, Try<Integer>> toOther = n -> other;
+    private final Function<Throwable, Try<Integer>> recoverToOther = e -> other;
+
+    @Before
+    public void setup() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        Assume.assumeTrue(!TryHooks.enabled());
+    }
+
+    @Test
+    public void testApply() {
+        assertAllocates(ONE_OBJECT, () -> Try.apply(() -> 1));
+    }
+
+    @Test
+    public void testSuccessMap() {
+        assertAllocates(ONE_OBJECT, () -> success.map(INCREMENT));
+    }
+
+    @Test
+    public void testSuccessFlatMap() {
+        assertAllocates(NOTHING, () -> success.flatMap(toOther));
+        assertAllocates(ONE_OBJECT, () -> success.flatMap(TO_TRY));
+    }
+
+    @Test
+    public void testSuccessFilter() {
+        assertAllocates(NOTHING, () -> success.filter(n -> n > 0));
+    }
+
+    @Test
+    public void testSuccessTransform() {
+        assertAllocates(NOTHING, () -> success.transform(toOther, recoverToOther));
+    }
+
+    @Test
+    public void testSuccessMapToPrimitive() {
+        assertAllocates(ONE_OBJECT, () -> success.mapToInt(n -> n));
+        assertAllocates(ONE_OBJECT, () -> success.mapToLong(n -> n));
+        assertAllocates(ONE_OBJECT, () -> success.mapToDouble(n -> n));
+    }
+
+    @Test
+    public void testSuccessAccessors() {
+        assertAllocates(NOTHING, success::get);
+        assertAllocates(NOTHING, () -> success.getOrElse(0));
+        assertAllocates(NOTHING, () -> success.recover(ZERO));
+        assertAllocates(NOTHING, () -> success.recoverWith(recoverToOther));
+        assertAllocates(NOTHING, () -> success.orElse(other));
+    }
+
+    @Test
+    public void testFailureCombinators() {
+        assertAllocates(NOTHING, () -> failure.map(INCREMENT));
+        assertAllocates(NOTHING, () -> failure.flatMap(TO_TRY));
+        assertAllocates(NOTHING, () -> failure.filter(n -> n > 0));
+        assertAllocates(NOTHING, () -> failure.getOrElse(0));
+        assertAllocates(NOTHING, () -> failure.orElse(other));
+    }
+
+    @Test
+    public void testFailureRecover() {
+        assertAllocates(ONE_OBJECT, () -> failure.recover(ZERO));
+        assertAllocates(NOTHING, () -> failure.recoverWith(recoverToOther));
+        assertAllocates(NOTHING, () -> failure.transform(toOther, recoverToOther));
+        assertAllocates(ONE_OBJECT, failure::failed);
+    }
+
+    @Test
+    public void testJoin() {
+        Try<Try<Integer>> nested = new Try.Success<>(success);
+        assertAllocates(NOTHING, () -> Try.join(nested));
+    }
+
+    private void assertAllocates(long maxBytesPerRun, Supplier<?> operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+        long id = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < RUNS; i++) {
+            sink = operation.get();
+        }
+        long perRun = (threads.getThreadAllocatedBytes(id) - before) / RUNS;
+        assertTrue(perRun + " bytes allocated per run, expected at most " + maxBytesPerRun,
+                perRun <= maxBytesPerRun);
+    }
+}
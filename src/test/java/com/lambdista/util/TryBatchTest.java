@@ -0,0 +1,170 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryBatch} and {@link Try#applyAll(java.util.Collection, int, java.util.concurrent.Executor)}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryBatchTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testResultsInInputOrder() {
+        List<FailableSupplier<Integer>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int n = i;
+            suppliers.add(() -> {
+                Thread.sleep(n % 3);
+                return n;
+            });
+        }
+        List<Try<Integer>> results = Try.applyAll(suppliers, 4, executor);
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(new Try.Success<>(i), results.get(i));
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        FailableSupplier<Integer> supplier = () -> {
+            int now = running.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            Thread.sleep(2);
+            running.decrementAndGet();
+            return now;
+        };
+        TryBatch.of(2, executor).run(Collections.nCopies(50, supplier));
+        assertTrue("at most 2 suppliers must run at a time", peak.get() <= 2);
+    }
+
+    @Test
+    public void testFailuresAreIsolated() {
+        List<FailableSupplier<Integer>> suppliers = Arrays.asList(() -> 1, () -> {
+            throw new IOException("down");
+        }, () -> 3);
+        List<Try<Integer>> results = TryBatch.of(1, executor).run(suppliers);
+        assertEquals(new Try.Success<>(1), results.get(0));
+        assertTrue("result must be a failure", results.get(1).failed().get() instanceof IOException);
+        assertEquals(new Try.Success<>(3), results.get(2));
+    }
+
+    @Test
+    public void testFailFastSkipsTheRest() {
+        AtomicInteger calls = new AtomicInteger();
+        List<FailableSupplier<Integer>> suppliers = new ArrayList<>();
+        suppliers.add(calls::incrementAndGet);
+        suppliers.add(() -> {
+            calls.incrementAndGet();
+            throw new IOException("down");
+        });
+        for (int i = 0; i < 10; i++) suppliers.add(calls::incrementAndGet);
+        List<Try<Integer>> results = TryBatch.of(1, executor).withFailFast().run(suppliers);
+        assertEquals(2, calls.get());
+        assertTrue(results.get(1).failed().get() instanceof IOException);
+        for (int i = 2; i < 12; i++) {
+            assertTrue(results.get(i).failed().get() instanceof CancellationException);
+        }
+    }
+
+    @Test
+    public void testFailFastInterruptsRunning() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        List<FailableSupplier<Integer>> suppliers = Arrays.asList(() -> {
+            started.countDown();
+            Thread.sleep(10_000);
+            return 1;
+        }, () -> {
+            started.await();
+            throw new IOException("down");
+        });
+        long start = System.nanoTime();
+        List<Try<Integer>> results = TryBatch.of(2, executor).withFailFast().run(suppliers);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(results.get(0).failed().get() instanceof InterruptedException);
+
+        FailableSupplier<Boolean> isInterrupted = () -> Thread.currentThread().isInterrupted();
+        List<Boolean> interrupted = Try.applyAll(Collections.nCopies(8, isInterrupted), 4, executor)
+                .stream().map(Try::get).collect(Collectors.toList());
+        assertFalse("interrupts must not leak into the executor", interrupted.contains(true));
+    }
+
+    @Test
+    public void testStreamInCompletionOrder() {
+        List<FailableSupplier<Integer>> suppliers = Arrays.asList(() -> {
+            Thread.sleep(200);
+            return 0;
+        }, () -> 1);
+        List<Try<Integer>> results = TryBatch.of(2, executor).<Integer>stream(suppliers).collect(Collectors.toList());
+        assertEquals(Arrays.asList(new Try.Success<>(1), new Try.Success<>(0)), results);
+    }
+
+    @Test
+    public void testRunAsync() throws InterruptedException {
+        TryFuture<List<Try<Integer>>> future = TryBatch.of(2, executor).runAsync(Arrays.asList(() -> 1, () -> 2));
+        assertEquals(Arrays.asList(new Try.Success<>(1), new Try.Success<>(2)), future.await().get());
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertTrue(Try.applyAll(Collections.<FailableSupplier<Integer>>emptyList(), 4, executor).isEmpty());
+    }
+
+    @Test
+    public void testRejectedExecution() {
+        executor.shutdown();
+        List<Try<Integer>> results = Try.applyAll(Arrays.asList(() -> 1, () -> 2), 2, executor);
+        assertTrue(results.get(0).isFailure());
+        assertTrue(results.get(1).isFailure());
+    }
+}
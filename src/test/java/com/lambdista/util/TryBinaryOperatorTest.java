@@ -20,7 +20,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.Test;
@@ -88,6 +90,41 @@ public class TryBinaryOperatorTest {
                 result.failed().get() instanceof StringIndexOutOfBoundsException);
     }
 
+    @Test
+    public void testFoldSuccess() {
+        Try<Integer> result = TryBinaryOperator.of(Integer::sum).fold(success(0), successNumbers());
+        assertEquals(Integer.valueOf(283), result.get());
+    }
+
+    @Test
+    public void testFoldStopsConsumingAtTheFirstFailure() {
+        AtomicInteger parsed = new AtomicInteger();
+        Stream<Try<Integer>> numbers = Stream.of("1", "2", "n/a", "3", "4").map(s -> Try.apply(() -> {
+            parsed.incrementAndGet();
+            return Integer.parseInt(s);
+        }));
+        Try<Integer> result = TryBinaryOperator.of(Integer::sum).fold(success(0), numbers);
+        assertTrue("result must be a failure", result.isFailure());
+        assertEquals("elements after the failure must not be parsed", 3, parsed.get());
+    }
+
+    @Test
+    public void testFoldOfAFailedIdentityConsumesNothing() {
+        Iterator<Try<Integer>> numbers = successNumbers().iterator();
+        Try<Integer> result = TryBinaryOperator.maxBy(Comparator.<Integer>naturalOrder()).fold(failure(), numbers);
+        assertTrue("result must be a failure", result.isFailure());
+        assertTrue("no element must be consumed", numbers.hasNext());
+    }
+
+    @Test
+    public void testReduce() {
+        Optional<Try<Integer>> min = TryBinaryOperator.minBy(Comparator.<Integer>naturalOrder()).reduce(successNumbers());
+        assertEquals(Integer.valueOf(2), min.get().get());
+        assertTrue("result must be a failure",
+                TryBinaryOperator.of(Integer::sum).reduce(mixedSuccessFailure()).get().isFailure());
+        assertTrue("result must be empty", !TryBinaryOperator.of(Integer::sum).reduce(Stream.empty()).isPresent());
+    }
+
     /* helper methods */
 
     private Stream<Try<String>> strings() {
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryCache}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TryCacheTest {
+
+    private static final Executor direct = Runnable::run;
+
+    @Test
+    public void testLoadsOnceThenHits() {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.of(key -> {
+            loads.incrementAndGet();
+            return key.length();
+        });
+        Try<Integer> first = cache.get("abc");
+        assertEquals(new Try.Success<>(3), first);
+        assertSame(first, cache.get("abc"));
+        assertEquals(1, loads.get());
+        TryCache.Stats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(0.5, stats.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void testFailuresExpireFasterThanSuccesses() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.<String, Integer>of(key -> {
+            if (loads.incrementAndGet() == 1) throw new IOException("down");
+            return 42;
+        }).withTtl(60_000, 20, TimeUnit.MILLISECONDS);
+        assertTrue("result must be a failure", cache.get("k").failed().get() instanceof IOException);
+        assertTrue("the failure must be cached", cache.get("k").isFailure());
+        assertEquals(1, loads.get());
+        Thread.sleep(40);
+        assertEquals(new Try.Success<>(42), cache.get("k"));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().getLoadFailureCount());
+    }
+
+    @Test
+    public void testZeroFailureTtlDisablesNegativeCaching() {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.<String, Integer>of(key -> {
+            loads.incrementAndGet();
+            throw new IOException("down");
+        }).withTtl(1, 0, TimeUnit.MINUTES);
+        cache.get("k");
+        cache.get("k");
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSuccessesExpire() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.<String, Integer>of(key -> loads.incrementAndGet())
+                .withTtl(20, 20, TimeUnit.MILLISECONDS);
+        assertEquals(new Try.Success<>(1), cache.get("k"));
+        Thread.sleep(40);
+        assertFalse(cache.getIfPresent("k").isPresent());
+        assertEquals(new Try.Success<>(2), cache.get("k"));
+    }
+
+    @Test
+    public void testMaximumSize() {
+        TryCache<Integer, Integer> cache = TryCache.<Integer, Integer>of(key -> key).withMaximumSize(10);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i);
+        }
+        assertTrue(cache.size() <= 10);
+        assertEquals(990, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    public void testFrequencyAwareAdmission() {
+        TryCache<String, String> cache = TryCache.<String, String>of(key -> key).withMaximumSize(2);
+        for (int i = 0; i < 5; i++) {
+            cache.get("a");
+            cache.get("b");
+        }
+        cache.get("c");
+        assertFalse("a one-off key must not be admitted", cache.getIfPresent("c").isPresent());
+        assertTrue(cache.getIfPresent("a").isPresent());
+        assertTrue(cache.getIfPresent("b").isPresent());
+        for (int i = 0; i < 10; i++) {
+            cache.get("c");
+        }
+        assertTrue("a popular key must be admitted", cache.getIfPresent("c").isPresent());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testMaximumWeight() {
+        TryCache<String, String> cache = TryCache.<String, String>of(key -> key)
+                .withMaximumWeight(10, (key, value) -> key.length());
+        cache.get("aaaaaa");
+        cache.get("aaaaaa");
+        cache.get("bbbb");
+        assertEquals(2, cache.size());
+        cache.get("cc");
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    public void testRefreshServesStaleValue() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.<String, Integer>of(key -> loads.incrementAndGet())
+                .withRefreshAfter(20, TimeUnit.MILLISECONDS, direct);
+        assertEquals(new Try.Success<>(1), cache.get("k"));
+        Thread.sleep(40);
+        assertEquals("the stale value must be served", new Try.Success<>(1), cache.get("k"));
+        assertEquals(new Try.Success<>(2), cache.get("k"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testFailedRefreshKeepsValue() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.<String, Integer>of(key -> {
+            if (loads.incrementAndGet() > 1) throw new IOException("down");
+            return 42;
+        }).withRefreshAfter(20, TimeUnit.MILLISECONDS, direct);
+        cache.get("k");
+        Thread.sleep(40);
+        cache.get("k");
+        assertEquals(new Try.Success<>(42), cache.get("k"));
+        assertEquals("a failed refresh must wait for the next interval", 2, loads.get());
+        assertEquals(1, cache.stats().getLoadFailureCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        AtomicInteger loads = new AtomicInteger();
+        TryCache<String, Integer> cache = TryCache.of(key -> loads.incrementAndGet());
+        cache.get("a");
+        cache.get("b");
+        cache.invalidate("a");
+        assertFalse(cache.getIfPresent("a").isPresent());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+}
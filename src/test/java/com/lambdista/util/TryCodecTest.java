@@ -0,0 +1,211 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StreamCorruptedException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryCodec}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryCodecTest {
+
+    private final TryCodec<String> codec = TryCodec.of(TryCodec.ValueCodec.STRING);
+
+    @Test
+    public void testSuccessRoundTrip() {
+        Try<String> success = new Try.Success<>("città");
+        assertEquals(success, codec.decode(ByteBuffer.wrap(codec.encode(success))));
+        assertNull(codec.decode(ByteBuffer.wrap(codec.encode(new Try.Success<>(null)))).get());
+
+        TryCodec<Long> longs = TryCodec.of(TryCodec.ValueCodec.LONG);
+        assertEquals(new Try.Success<>(Long.MIN_VALUE),
+                longs.decode(ByteBuffer.wrap(longs.encode(new Try.Success<>(Long.MIN_VALUE)))));
+        TryCodec<Integer> ints = TryCodec.of(TryCodec.ValueCodec.INTEGER);
+        assertEquals(new Try.Success<>(42), ints.decode(ByteBuffer.wrap(ints.encode(new Try.Success<>(42)))));
+    }
+
+    @Test
+    public void testFailureRoundTrip() {
+        IOException cause = new FileNotFoundException("missing.txt");
+        IllegalStateException exception = new IllegalStateException("cannot load", cause);
+
+        Try<String> decoded = codec.decode(ByteBuffer.wrap(codec.encode(new Try.Failure<>(exception))));
+        DecodedFailureException e = (DecodedFailureException) decoded.failed().get();
+        assertEquals(IllegalStateException.class.getName(), e.getClassName());
+        assertEquals("cannot load", e.getMessage());
+        assertEquals(IllegalStateException.class.getName() + ": cannot load", e.toString());
+        assertEquals(exception.getStackTrace()[0].toString(), e.getStackTrace()[0].toString());
+        assertEquals(TryCodec.DEFAULT_STACK_DEPTH, e.getStackTrace().length);
+
+        DecodedFailureException decodedCause = (DecodedFailureException) e.getCause();
+        assertEquals(FileNotFoundException.class.getName(), decodedCause.getClassName());
+        assertEquals("missing.txt", decodedCause.getMessage());
+        assertNull(decodedCause.getCause());
+
+        StringWriter trace = new StringWriter();
+        e.printStackTrace(new PrintWriter(trace));
+        assertTrue(trace.toString().contains("Caused by: java.io.FileNotFoundException: missing.txt"));
+    }
+
+    @Test
+    public void testTruncation() {
+        Exception exception = new Exception("a", new Exception("b", new Exception("c")));
+        TryCodec<String> compact = codec.withStackDepth(0).withCauseDepth(1);
+
+        DecodedFailureException e = (DecodedFailureException) compact
+                .decode(ByteBuffer.wrap(compact.encode(new Try.Failure<>(exception)))).failed().get();
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("b", e.getCause().getMessage());
+        assertNull(e.getCause().getCause());
+        assertTrue(compact.encode(new Try.Failure<>(exception)).length < codec.encode(new Try.Failure<>(exception))
+                .length);
+    }
+
+    @Test
+    public void testDecodedFailureCanBeEncodedAgain() {
+        Try<String> failure = new Try.Failure<>(new IllegalArgumentException("bad"));
+        Try<String> once = codec.decode(ByteBuffer.wrap(codec.encode(failure)));
+        Try<String> twice = codec.decode(ByteBuffer.wrap(codec.encode(once)));
+
+        DecodedFailureException e = (DecodedFailureException) twice.failed().get();
+        assertEquals(IllegalArgumentException.class.getName(), e.getClassName());
+        assertEquals("bad", e.getMessage());
+    }
+
+    @Test
+    public void testZeroCopyFromDirectBuffer() {
+        TryCodec<ByteBuffer> bytes = TryCodec.of(TryCodec.ValueCodec.BYTES);
+        ByteBuffer in = ByteBuffer.allocateDirect(64);
+        bytes.encode(new Try.Success<>(ByteBuffer.wrap(new byte[]{1, 2, 3})), in);
+        in.flip();
+
+        ByteBuffer value = bytes.decode(in).get();
+        assertTrue(value.isDirect());
+        assertTrue(value.isReadOnly());
+        assertEquals(3, value.remaining());
+        assertEquals(3, value.get(2));
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    public void testBufferOverflowLeavesPositionUnchanged() {
+        ByteBuffer out = ByteBuffer.allocate(8);
+        out.put((byte) 7);
+        try {
+            codec.encode(new Try.Success<>("too long for the buffer"), out);
+            fail("BufferOverflowException expected");
+        } catch (BufferOverflowException e) {
+            assertEquals(1, out.position());
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        List<Try<String>> tries = Arrays.asList(new Try.Success<>("a"), new Try.Failure<>(new Exception("b")),
+                new Try.Success<>("c"));
+        ByteBuffer in = ByteBuffer.wrap(codec.encodeAll(tries));
+
+        List<Try<String>> decoded = codec.decodeAll(in);
+        assertEquals(3, decoded.size());
+        assertEquals("a", decoded.get(0).get());
+        assertEquals("b", decoded.get(1).failed().get().getMessage());
+        assertEquals("c", decoded.get(2).get());
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    public void testStreams() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(new Try.Success<>("first"), out);
+        codec.write(new Try.Failure<>(new Exception("second")), out);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        assertEquals("first", codec.read(in).get());
+        assertEquals("second", codec.read(in).failed().get().getMessage());
+        try {
+            codec.read(in);
+            fail("EOFException expected");
+        } catch (EOFException e) {
+            // the stream is over
+        }
+    }
+
+    @Test
+    public void testCorruptedInput() {
+        ByteBuffer in = ByteBuffer.wrap(new byte[]{9, 0, 0, 0, 1, 0});
+        assertTrue(codec.decode(in).failed().get() instanceof StreamCorruptedException);
+        assertEquals(0, in.remaining());
+
+        TryCodec<Integer> ints = TryCodec.of(TryCodec.ValueCodec.INTEGER);
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[]{TryCodec.SUCCESS, 0, 0, 0, 2, 0, 0});
+        assertTrue(ints.decode(truncated).isFailure());
+        assertEquals(0, truncated.remaining());
+    }
+
+    @Test
+    public void testCorruptedFrameCount() {
+        ByteBuffer record = ByteBuffer.allocate(64);
+        record.put(TryCodec.FAILURE).putInt(0);
+        TryCodec.putString("java.io.IOException", record);
+        TryCodec.putString("boom", record);
+        TryCodec.putVarint(0x7FFFFFF0, record);
+        record.putInt(1, record.position() - 5);
+        record.flip();
+
+        DecodedFailureException e = (DecodedFailureException) codec.decode(record).failed().get();
+        assertEquals("java.io.IOException", e.getClassName());
+        assertEquals("boom", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    public void testCorruptedStreamHeader() throws IOException {
+        byte[] huge = {TryCodec.FAILURE, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff};
+        assertTrue(codec.read(new ByteArrayInputStream(huge)).failed().get() instanceof StreamCorruptedException);
+        byte[] badTag = {9, 0, 0, 0, 1, 0};
+        assertTrue(codec.read(new ByteArrayInputStream(badTag)).failed().get() instanceof StreamCorruptedException);
+
+        byte[] lying = new byte[15];
+        ByteBuffer.wrap(lying).put(TryCodec.FAILURE).putInt(Integer.MAX_VALUE - 5);
+        try {
+            codec.read(new ByteArrayInputStream(lying));
+            fail("the stream ends before the record");
+        } catch (EOFException e) {
+            // expected, without allocating the length in the header
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryCollectors}, on both sequential and parallel streams
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TryCollectorsTest {
+
+    @Test
+    public void testPartitioning() {
+        TryCollectors.Partition<List<Integer>, List<Throwable>> p = parse("1", "n/a", "3", "x")
+                .collect(TryCollectors.partitioning());
+        assertEquals(Arrays.asList(1, 3), p.getSuccesses());
+        assertEquals(2, p.getFailures().size());
+        assertTrue("failures must be NumberFormatExceptions", p.getFailures().get(0) instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testPartitioningWithDownstreamCollectors() {
+        TryCollectors.Partition<Integer, Long> p = parse("1", "n/a", "3")
+                .collect(TryCollectors.partitioning(Collectors.summingInt(i -> i), Collectors.counting()));
+        assertEquals(Integer.valueOf(4), p.getSuccesses());
+        assertEquals(Long.valueOf(1), p.getFailures());
+    }
+
+    @Test
+    public void testPartitioningInParallelKeepsEncounterOrder() {
+        TryCollectors.Partition<List<Integer>, List<Throwable>> p = numbers(10000).parallel()
+                .collect(TryCollectors.partitioning());
+        assertEquals(9000, p.getSuccesses().size());
+        assertEquals(1000, p.getFailures().size());
+        for (int i = 1; i < p.getSuccesses().size(); i++) {
+            assertTrue("successes must be in encounter order", p.getSuccesses().get(i - 1) < p.getSuccesses().get(i));
+        }
+    }
+
+    @Test
+    public void testSuccessesTo() {
+        assertEquals(Integer.valueOf(4), parse("1", "n/a", "3").collect(TryCollectors.successesTo(Collectors.summingInt(i -> i))));
+        assertEquals(Arrays.asList(1, 3), parse("1", "n/a", "3").collect(TryCollectors.successesTo(Collectors.toList())));
+    }
+
+    @Test
+    public void testFailFast() {
+        assertEquals(new Try.Success<>(Arrays.asList(1, 2)), parse("1", "2").collect(TryCollectors.failFast()));
+        Try<List<Integer>> out = parse("1", "a", "b").collect(TryCollectors.failFast());
+        assertEquals("For input string: \"a\"", out.failed().get().getMessage());
+    }
+
+    @Test
+    public void testFailFastInParallelReturnsTheFirstFailureInEncounterOrder() {
+        for (int round = 0; round < 20; round++) {
+            Try<Long> out = IntStream.range(0, 10000).parallel()
+                    .mapToObj(i -> Try.apply(() -> Integer.parseInt(i >= 5000 ? "f" + i : Integer.toString(i))))
+                    .collect(TryCollectors.failFast(Collectors.counting()));
+            assertEquals("For input string: \"f5000\"", out.failed().get().getMessage());
+        }
+        assertEquals(new Try.Success<>(9000L), numbers(10000).filter(Try::isSuccess).parallel()
+                .collect(TryCollectors.failFast(Collectors.counting())));
+    }
+
+    @Test
+    public void testSummarizing() {
+        TryCollectors.Summary summary = Stream.<Try<?>>of(new Try.Success<>(1), new Try.Failure<>(new IllegalStateException()),
+                new Try.Failure<>(new IllegalStateException()), new Try.Failure<>(new NumberFormatException()))
+                .collect(TryCollectors.summarizing());
+        assertEquals(1, summary.getSuccessCount());
+        assertEquals(3, summary.getFailureCount());
+        assertEquals(4, summary.getCount());
+        assertEquals(Long.valueOf(2), summary.getFailureCounts().get(IllegalStateException.class));
+    }
+
+    @Test
+    public void testSummarizingInParallel() {
+        TryCollectors.Summary summary = numbers(10000).parallel().collect(TryCollectors.summarizing());
+        assertEquals(9000, summary.getSuccessCount());
+        assertEquals(Long.valueOf(1000), summary.getFailureCounts().get(NumberFormatException.class));
+    }
+
+    private static Stream<Try<Integer>> parse(String... values) {
+        return Arrays.stream(values).map(s -> Try.apply(() -> Integer.parseInt(s)));
+    }
+
+    private static Stream<Try<Integer>> numbers(int n) {
+        return IntStream.range(0, n).mapToObj(i -> Try.apply(() -> Integer.parseInt(i % 10 == 0 ? "n/a" : Integer.toString(i))));
+    }
+}
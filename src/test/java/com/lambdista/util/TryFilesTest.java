@@ -0,0 +1,146 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TryFiles}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryFilesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLines() throws IOException {
+        Path file = write("first\nsecond\r\n\nlast");
+        assertEquals(Arrays.asList("first", "second", "", "last"), values(TryFiles.lines(file)));
+    }
+
+    @Test
+    public void testTrailingLineFeedDoesNotStartALine() throws IOException {
+        assertEquals(Arrays.asList("a", "b"), values(TryFiles.lines(write("a\nb\n"))));
+        assertEquals(Collections.emptyList(), values(TryFiles.lines(write(""))));
+    }
+
+    @Test
+    public void testMalformedLineIsIsolated() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write("good\n".getBytes(StandardCharsets.UTF_8));
+        bytes.write(new byte[]{'b', (byte) 0xC3, 'd', '\n'});
+        bytes.write("also good".getBytes(StandardCharsets.UTF_8));
+        Path file = folder.newFile().toPath();
+        Files.write(file, bytes.toByteArray());
+
+        List<Try<String>> lines = read(TryFiles.lines(file));
+        assertEquals(3, lines.size());
+        assertEquals("good", lines.get(0).get());
+        assertTrue(lines.get(1).failed().get() instanceof CharacterCodingException);
+        assertEquals("also good", lines.get(2).get());
+    }
+
+    @Test
+    public void testLineLongerThanLimitIsIsolated() throws IOException {
+        Path file = write("short\n" + repeat('x', 100) + "\nafter\n" + repeat('y', 100));
+
+        List<Try<String>> lines = read(TryFiles.lines(file, StandardCharsets.UTF_8, 50, 16));
+        assertEquals(4, lines.size());
+        assertEquals("short", lines.get(0).get());
+        assertTrue(lines.get(1).failed().get() instanceof IOException);
+        assertEquals("after", lines.get(2).get());
+        assertTrue(lines.get(3).failed().get() instanceof IOException);
+    }
+
+    @Test
+    public void testLinesCrossingWindows() throws IOException {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add(repeat((char) ('a' + i % 26), i % 37));
+        }
+        Path file = write(String.join("\r\n", expected));
+
+        assertEquals(expected, values(TryFiles.lines(file, StandardCharsets.UTF_8, 64, 16)));
+    }
+
+    @Test
+    public void testParallelKeepsOrder() throws IOException {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            expected.add("line " + i + " è");
+        }
+        Path file = write(String.join("\n", expected) + "\n");
+
+        try (Stream<Try<String>> lines = TryFiles.lines(file).get()) {
+            assertEquals(expected, lines.parallel().map(Try::get).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testMissingFileIsFailure() {
+        Try<Stream<Try<String>>> lines = TryFiles.lines(folder.getRoot().toPath().resolve("missing"));
+        assertTrue(lines.failed().get() instanceof NoSuchFileException);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultiByteLineFeedIsRejected() throws IOException {
+        TryFiles.lines(write("a"), StandardCharsets.UTF_16);
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<Try<String>> read(Try<Stream<Try<String>>> lines) {
+        try (Stream<Try<String>> stream = lines.get()) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> values(Try<Stream<Try<String>>> lines) {
+        return read(lines).stream().map(Try::get).collect(Collectors.toList());
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
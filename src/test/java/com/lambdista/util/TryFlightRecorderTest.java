@@ -0,0 +1,110 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TryFlightRecorder}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryFlightRecorderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setup() {
+        Assume.assumeTrue(TryFlightRecorder.isAvailable());
+        assertTrue(TryFlightRecorder.install(0, 20, TimeUnit.MILLISECONDS));
+    }
+
+    @After
+    public void tearDown() {
+        TryFlightRecorder.uninstall();
+    }
+
+    @Test
+    public void testNoHookWithoutRecording() {
+        assertFalse("nothing must be observed while not recording", TryHooks.enabled());
+    }
+
+    @Test
+    public void testEventsAreRecorded() throws IOException, InterruptedException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.start();
+            assertTrue(TryHooks.enabled());
+            Try.apply("parse", () -> Integer.parseInt("x")).recover(e -> 0);
+            new Try.Failure<Integer>(new IOException("down")).recoverWith(e -> new Try.Failure<>(e));
+            Try.join(new Try.Success<>(new Try.Failure<Integer>(new IllegalStateException())));
+            Try.apply("sleep", () -> {
+                Thread.sleep(30);
+                return 1;
+            });
+            recording.stop();
+            assertFalse(TryHooks.enabled());
+            Path file = folder.newFile("try.jfr").toPath();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> failures = ofType(events, "com.lambdista.util.TryFailure");
+        assertEquals(3, failures.size());
+        assertEquals("parse", failures.get(0).getString("operation"));
+        assertEquals(NumberFormatException.class.getName(), failures.get(0).getClass("exceptionClass").getName());
+        assertEquals("recoverWith", failures.get(1).getString("operation"));
+        assertEquals("join", failures.get(2).getString("operation"));
+
+        List<RecordedEvent> recoveries = ofType(events, "com.lambdista.util.TryRecovery");
+        assertEquals(2, recoveries.size());
+        assertTrue(recoveries.get(0).getBoolean("recovered"));
+        assertEquals(NumberFormatException.class.getName(), recoveries.get(0).getClass("exceptionClass").getName());
+        assertFalse(recoveries.get(1).getBoolean("recovered"));
+
+        List<RecordedEvent> slow = ofType(events, "com.lambdista.util.TrySlowOperation").stream()
+                .filter(e -> e.getString("operation").equals("sleep"))
+                .collect(Collectors.toList());
+        assertEquals(1, slow.size());
+        assertTrue(slow.get(0).getLong("operationDuration") >= TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,360 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryFlow}, {@link TryMapProcessor} and {@link TrySplitter}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryFlowTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Integer parse(Integer n) throws Exception {
+        Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        if (n % 5 == 0) throw new Exception("bad " + n);
+        return n * 10;
+    }
+
+    @Test
+    public void testOrderedMap() throws InterruptedException {
+        Range range = new Range(100);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(TryFlowTest::parse, 8, executor);
+        Recorder<Try<Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        recorder.await();
+        assertEquals(100, recorder.items.size());
+        for (int i = 0; i < 100; i++) {
+            Try<Integer> t = recorder.items.get(i);
+            if (i % 5 == 0) assertEquals("bad " + i, t.failed().get().getMessage());
+            else assertEquals(Integer.valueOf(i * 10), t.get());
+        }
+        assertTrue(range.maxOutstanding.get() <= 8);
+    }
+
+    @Test
+    public void testUnorderedMap() throws InterruptedException {
+        Range range = new Range(100);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.mapUnordered(TryFlowTest::parse, 8, executor);
+        Recorder<Try<Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        recorder.await();
+        Set<Integer> values = new HashSet<>();
+        int failures = 0;
+        for (Try<Integer> t : recorder.items) {
+            if (t.isSuccess()) values.add(t.get());
+            else failures++;
+        }
+        assertEquals(80, values.size());
+        assertEquals(20, failures);
+        assertTrue(range.maxOutstanding.get() <= 8);
+    }
+
+    @Test
+    public void testBackpressure() throws InterruptedException {
+        Range range = new Range(50);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> n, 4, executor);
+        Recorder<Try<Integer>> recorder = new Recorder<>(3);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        Thread.sleep(100);
+        assertEquals(3, recorder.items.size());
+        // the window is full: 3 emitted plus 4 received and waiting for demand
+        assertTrue(range.emitted.get() <= 7);
+
+        recorder.request(10);
+        Thread.sleep(100);
+        assertEquals(13, recorder.items.size());
+
+        recorder.request(Long.MAX_VALUE);
+        recorder.await();
+        assertEquals(50, recorder.items.size());
+        assertNull(recorder.error);
+    }
+
+    @Test
+    public void testSynchronousMap() throws InterruptedException {
+        Range range = new Range(10);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> 100 / (n - 5));
+        Recorder<Try<Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        recorder.await();
+        assertEquals(10, recorder.items.size());
+        assertTrue(recorder.items.get(5).failed().get() instanceof ArithmeticException);
+        assertEquals(Integer.valueOf(-20), recorder.items.get(0).get());
+    }
+
+    @Test
+    public void testUpstreamErrorAfterOutcomes() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException("upstream");
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> n, 4, executor);
+        Recorder<Try<Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+        map.subscribe(recorder);
+        map.onSubscribe(new Noop());
+        map.onNext(1);
+        map.onNext(2);
+        map.onError(failure);
+
+        recorder.await();
+        assertEquals(2, recorder.items.size());
+        assertEquals(failure, recorder.error);
+    }
+
+    @Test
+    public void testErrorEndsTheStream() throws InterruptedException {
+        Range range = new Range(10);
+        AtomicReference<Throwable> rethrown = new AtomicReference<>();
+        CountDownLatch caught = new CountDownLatch(1);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> {
+            if (n == 2) throw new AssertionError("fatal");
+            return n;
+        }, 4, task -> executor.execute(() -> {
+            try {
+                task.run();
+            } catch (AssertionError e) {
+                rethrown.set(e);
+                caught.countDown();
+            }
+        }));
+        Recorder<Try<Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        recorder.await();
+        assertTrue(recorder.error instanceof AssertionError);
+        assertTrue(caught.await(5, TimeUnit.SECONDS));
+        assertSame("the error must be rethrown too", recorder.error, rethrown.get());
+        assertEquals(Arrays.asList(new Try.Success<>(0), new Try.Success<>(1)), recorder.items);
+        assertTrue(range.cancelled);
+    }
+
+    @Test
+    public void testSingleSubscriber() throws InterruptedException {
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> n);
+        map.subscribe(new Recorder<>(1));
+        Recorder<Try<Integer>> second = new Recorder<>(1);
+        map.subscribe(second);
+
+        second.await();
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testInvalidRequestCancelsUpstream() throws InterruptedException {
+        Range range = new Range(10);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> n, 2, executor);
+        Recorder<Try<Integer>> recorder = new Recorder<>(0);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        recorder.request(-1);
+        recorder.await();
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        assertTrue(range.cancelled);
+    }
+
+    @Test
+    public void testCancelCancelsUpstream() {
+        Range range = new Range(10);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> n);
+        Recorder<Try<Integer>> recorder = new Recorder<>(1);
+        range.subscribe(map);
+        map.subscribe(recorder);
+
+        recorder.subscription.cancel();
+        assertTrue(range.cancelled);
+    }
+
+    @Test
+    public void testSplitFailures() throws InterruptedException {
+        Range range = new Range(100);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(TryFlowTest::parse, 4, executor);
+        TrySplitter<Integer> split = TryFlow.splitFailures(16);
+        Recorder<Throwable> failures = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> successes = new Recorder<>(Long.MAX_VALUE);
+        range.subscribe(map);
+        map.subscribe(split);
+        split.failures().subscribe(failures);
+        split.subscribe(successes);
+
+        successes.await();
+        failures.await();
+        assertEquals(80, successes.items.size());
+        assertEquals(Integer.valueOf(10), successes.items.get(0));
+        assertEquals(20, failures.items.size());
+        assertEquals("bad 0", failures.items.get(0).getMessage());
+    }
+
+    @Test
+    public void testSplitterSideDemandHoldsBackMain() throws InterruptedException {
+        Range range = new Range(20);
+        TryFlow.Processor<Integer, Try<Integer>> map = TryFlow.map(n -> {
+            if (n % 2 == 0) throw new Exception("even");
+            return n;
+        });
+        TrySplitter<Integer> split = TryFlow.splitFailures(4);
+        Recorder<Throwable> failures = new Recorder<>(0);
+        Recorder<Integer> successes = new Recorder<>(Long.MAX_VALUE);
+        range.subscribe(map);
+        map.subscribe(split);
+        split.failures().subscribe(failures);
+        split.subscribe(successes);
+
+        assertTrue(successes.items.size() < 10);
+        failures.request(Long.MAX_VALUE);
+        successes.await();
+        failures.await();
+        assertEquals(10, successes.items.size());
+        assertEquals(10, failures.items.size());
+    }
+
+    /**
+     * Publishes the integers from 0 to {@code count - 1} honouring the demand of its subscriber
+     */
+    private static final class Range implements TryFlow.Publisher<Integer> {
+        private final int count;
+        final AtomicInteger emitted = new AtomicInteger();
+        final AtomicLong maxOutstanding = new AtomicLong();
+        volatile boolean cancelled;
+
+        Range(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(TryFlow.Subscriber<? super Integer> subscriber) {
+            AtomicLong demand = new AtomicLong();
+            AtomicInteger wip = new AtomicInteger();
+            subscriber.onSubscribe(new TryFlow.Subscription() {
+                @Override
+                public void request(long n) {
+                    demand.addAndGet(n);
+                    maxOutstanding.accumulateAndGet(demand.get(), Math::max);
+                    if (wip.getAndIncrement() != 0) return;
+                    do {
+                        while (demand.get() > 0 && !cancelled && emitted.get() < count) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(emitted.getAndIncrement());
+                        }
+                        if (emitted.get() == count && !cancelled) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                        }
+                    } while (wip.decrementAndGet() != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class Noop implements TryFlow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static final class Recorder<T> implements TryFlow.Subscriber<T> {
+        private final long initialRequest;
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        final List<T> items = new CopyOnWriteArrayList<>();
+        volatile TryFlow.Subscription subscription;
+        volatile Throwable error;
+
+        Recorder(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        void await() throws InterruptedException {
+            assertTrue("not terminated", terminated.await(10, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public void onSubscribe(TryFlow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryFuture} and {@link TryPromise}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TryFutureTest {
+
+    private static final IllegalStateException ISE = new IllegalStateException("Boom");
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testApply() throws InterruptedException {
+        assertEquals(new Try.Success<>(42), TryFuture.apply(() -> 42, executor).await());
+        assertEquals(new Try.Failure<>(ISE), TryFuture.apply(() -> {
+            throw ISE;
+        }, executor).await());
+    }
+
+    @Test
+    public void testPromiseIsCompletedOnce() throws InterruptedException {
+        TryPromise<Integer> promise = new TryPromise<>();
+        assertFalse("promise must not be completed", promise.isCompleted());
+        assertTrue("first completion must win", promise.success(42));
+        assertFalse("second completion must be ignored", promise.failure(ISE));
+        assertFalse("third completion must be ignored", promise.complete(new Try.Success<>(84)));
+        assertEquals(new Try.Success<>(42), promise.future().await());
+    }
+
+    @Test
+    public void testCallbacksOfACompletedFutureRunInTheCallingThread() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        TryFuture.successful(42).map(i -> {
+            thread.set(Thread.currentThread());
+            return i;
+        });
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void testCallbacksRunInRegistrationOrderOnCompletion() {
+        TryPromise<Integer> promise = new TryPromise<>();
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            promise.future().onComplete(t -> order.add(n));
+        }
+        assertTrue("callbacks must wait for completion", order.isEmpty());
+        promise.success(42);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    public void testMapAndFilter() {
+        TryPromise<Integer> promise = new TryPromise<>();
+        TryFuture<String> mapped = promise.future().map(i -> i + 1).filter(i -> i > 0).map(Object::toString);
+        promise.success(41);
+        assertEquals(new Try.Success<>("42"), mapped.value().get());
+    }
+
+    @Test
+    public void testMapOnExecutor() throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        Try<Integer> result = TryFuture.successful(42).map(i -> {
+            thread.set(Thread.currentThread());
+            return i * 2;
+        }, executor).await();
+        assertEquals(new Try.Success<>(84), result);
+        assertTrue("mapper must run on the executor", thread.get() != Thread.currentThread());
+    }
+
+    @Test
+    public void testFlatMap() throws InterruptedException {
+        TryFuture<Integer> result = TryFuture.successful(21).flatMap(i -> TryFuture.apply(() -> i * 2, executor));
+        assertEquals(new Try.Success<>(42), result.await());
+        assertEquals(new Try.Failure<>(ISE), TryFuture.<Integer>failed(ISE).flatMap(TryFuture::successful).await());
+        assertTrue("a throwing mapper must fail the future",
+                TryFuture.successful(1).flatMap(i -> {
+                    throw ISE;
+                }).await().isFailure());
+    }
+
+    @Test
+    public void testRecoverAndRecoverWith() throws InterruptedException {
+        assertEquals(new Try.Success<>(0), TryFuture.<Integer>failed(ISE).recover(e -> 0).await());
+        assertEquals(new Try.Success<>(42), TryFuture.successful(42).recover(e -> 0).await());
+        assertEquals(new Try.Success<>(0),
+                TryFuture.<Integer>failed(ISE).recoverWith(e -> TryFuture.apply(() -> 0, executor)).await());
+    }
+
+    @Test
+    public void testCompletableFutureConversions() throws Exception {
+        assertEquals(Integer.valueOf(42), TryFuture.successful(42).toCompletableFuture().get());
+        assertTrue("failure must complete exceptionally",
+                TryFuture.failed(ISE).toCompletableFuture().isCompletedExceptionally());
+
+        CompletableFuture<Integer> cf = new CompletableFuture<>();
+        TryFuture<Integer> adapted = TryFuture.fromCompletionStage(cf.thenApply(i -> i / 0));
+        assertFalse("adapted must not be completed yet", adapted.isCompleted());
+        cf.complete(1);
+        assertTrue("the CompletionException must be unwrapped",
+                adapted.await().failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testAwaitWithTimeout() throws InterruptedException {
+        Try<Integer> result = new TryPromise<Integer>().future().await(10, TimeUnit.MILLISECONDS);
+        assertTrue("result must fail with a TimeoutException", result.failed().get() instanceof TimeoutException);
+    }
+
+    @Test
+    public void testConcurrentRegistrationAndCompletion() throws InterruptedException {
+        for (int round = 0; round < 100; round++) {
+            TryPromise<Integer> promise = new TryPromise<>();
+            AtomicInteger calls = new AtomicInteger();
+            int registrations = 200;
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(4);
+            for (int t = 0; t < 4; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < registrations / 4; i++) {
+                        promise.future().onComplete(r -> calls.incrementAndGet());
+                    }
+                    done.countDown();
+                });
+            }
+            start.countDown();
+            promise.success(round);
+            done.await();
+            assertEquals("every callback must run exactly once", registrations, calls.get());
+        }
+    }
+
+    @Test
+    public void testRejectedCallbackDoesNotStopTheOthers() throws InterruptedException {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        TryPromise<Integer> promise = new TryPromise<>();
+        AtomicInteger calls = new AtomicInteger();
+        TryFuture<Integer> rejected = promise.future().map(i -> i + 1, closed);
+        TryFuture<Integer> accepted = promise.future().map(i -> i + 2, executor);
+        promise.future().onComplete(t -> calls.incrementAndGet(), closed);
+        promise.future().onComplete(t -> calls.incrementAndGet());
+
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        AtomicReference<Throwable> reported = new AtomicReference<>();
+        thread.setUncaughtExceptionHandler((t, e) -> reported.set(e));
+        try {
+            promise.success(40);
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        assertTrue(reported.get() instanceof RejectedExecutionException);
+        assertEquals(new Try.Success<>(42), accepted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertTrue("the derived future must fail with the rejection",
+                rejected.await(5, TimeUnit.SECONDS).failed().get() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testRejectedCombinatorsFail() throws InterruptedException {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        TryFuture<Integer> future = TryFuture.successful(40);
+        assertTrue(future.map(i -> i + 2, closed).await().failed().get() instanceof RejectedExecutionException);
+        assertTrue(future.flatMap(TryFuture::successful, closed).await().failed().get()
+                instanceof RejectedExecutionException);
+        assertTrue(future.recover(e -> 0, closed).await().failed().get() instanceof RejectedExecutionException);
+        assertTrue(future.recoverWith(e -> TryFuture.successful(0), closed).await().failed().get()
+                instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testConcurrentTimedOutWaitsLeaveNoWaiterBehind() throws InterruptedException {
+        int waiters = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(waiters);
+        try {
+            for (int round = 0; round < 50; round++) {
+                assertNoWaiterLeftBehind(pool, waiters, round);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void assertNoWaiterLeftBehind(ExecutorService pool, int waiters, int round)
+            throws InterruptedException {
+        TryPromise<Integer> promise = new TryPromise<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(waiters);
+        for (int i = 0; i < waiters; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    promise.future().await(1, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("round " + round, 0, promise.future().pendingCallbacks());
+    }
+
+    @Test
+    public void testTimedOutWaitLeavesNoWaiterBehind() throws InterruptedException {
+        TryPromise<Integer> promise = new TryPromise<>();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(promise.future().await(1, TimeUnit.MILLISECONDS).failed().get()
+                    instanceof TryTimeoutException);
+        }
+        Thread waiter = Thread.currentThread();
+        executor.execute(() -> {
+            while (waiter.getState() != Thread.State.TIMED_WAITING) Thread.yield();
+            promise.success(42);
+        });
+        long start = System.nanoTime();
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200));
+        long parked = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("stale waiter unparked the thread after " + parked + "ms", parked >= 150);
+        assertEquals(new Try.Success<>(42), promise.future().await());
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TryIO}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryIOTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadBytesSpanningChunks() {
+        byte[] data = random(3 * TryIO.CHUNK_SIZE + 17);
+        TrackingStream in = new TrackingStream(data);
+
+        ByteBuffer bytes = TryIO.readBytes(in, data.length).get();
+        assertEquals(0, bytes.position());
+        assertArrayEquals(data, toArray(bytes));
+        assertTrue(in.closed.get());
+    }
+
+    @Test
+    public void testReadString() {
+        String text = "Try è un tipo\nche può fallire";
+        InputStream in = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        assertEquals(text, TryIO.readString(Channels.newChannel(in), StandardCharsets.UTF_8, 1024).get());
+        assertEquals("", TryIO.readString(new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8, 0).get());
+    }
+
+    @Test
+    public void testLargeStringIsDecodedOnce() {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 2 * TryIO.CHUNK_SIZE) {
+            text.append("àèìòù");
+        }
+        byte[] data = text.toString().getBytes(StandardCharsets.UTF_8);
+        assertEquals(text.toString(), TryIO.readString(new ByteArrayInputStream(data), StandardCharsets.UTF_8,
+                data.length).get());
+    }
+
+    @Test
+    public void testSizeLimit() {
+        byte[] data = random(TryIO.CHUNK_SIZE + 1);
+        TrackingStream in = new TrackingStream(data);
+
+        Try<ByteBuffer> bytes = TryIO.readBytes(in, data.length - 1);
+        SizeLimitExceededException e = (SizeLimitExceededException) bytes.failed().get();
+        assertEquals(data.length - 1, e.getLimit());
+        assertTrue(in.closed.get());
+        assertTrue(in.read <= data.length);
+
+        assertEquals(data.length, TryIO.readBytes(new ByteArrayInputStream(data), data.length).get().limit());
+    }
+
+    @Test
+    public void testFiles() throws IOException {
+        byte[] data = random(100_000);
+        Path file = folder.newFile().toPath();
+        Files.write(file, data);
+
+        assertArrayEquals(data, toArray(TryIO.readBytes(new FileInputStream(file.toFile()), data.length).get()));
+        FileChannel channel = FileChannel.open(file);
+        assertArrayEquals(data, toArray(TryIO.readBytes(channel, data.length).get()));
+        assertTrue(!channel.isOpen());
+
+        // the size of a file is known up front, so nothing is read at all
+        channel = FileChannel.open(file);
+        assertTrue(TryIO.readBytes(channel, 10).failed().get() instanceof SizeLimitExceededException);
+        assertTrue(!channel.isOpen());
+    }
+
+    @Test
+    public void testMalformedInput() {
+        InputStream in = new ByteArrayInputStream(new byte[]{'a', (byte) 0xC3});
+        assertTrue(TryIO.readString(in, StandardCharsets.UTF_8, 10).failed().get() instanceof CharacterCodingException);
+    }
+
+    @Test
+    public void testReadFailureClosesStream() {
+        IOException failure = new IOException("broken");
+        TrackingStream in = new TrackingStream(random(10)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                throw failure;
+            }
+        };
+
+        assertEquals(failure, TryIO.readString(in, StandardCharsets.UTF_8, 100).failed().get());
+        assertTrue(in.closed.get());
+    }
+
+    @Test
+    public void testBuffersAreReturnedToThePool() {
+        byte[] data = random(2 * TryIO.CHUNK_SIZE);
+        for (int i = 0; i < 10; i++) {
+            TryIO.readBytes(new ByteArrayInputStream(data), data.length).get();
+            TryIO.readBytes(new ByteArrayInputStream(data), 10);
+        }
+        assertTrue(TryIO.pooled() >= 3);
+        assertTrue(TryIO.pooled() <= 32);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        TryIO.readBytes(new ByteArrayInputStream(new byte[0]), -1);
+    }
+
+    private static byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static class TrackingStream extends FilterInputStream {
+
+        final AtomicBoolean closed = new AtomicBoolean();
+        int read;
+
+        TrackingStream(byte[] data) {
+            super(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) read += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TryHooks} and {@link TryMetrics}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TryMetricsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TryMetrics metrics;
+
+    @Before
+    public void setup() {
+        metrics = new TryMetrics();
+        TryHooks.register(metrics);
+    }
+
+    @After
+    public void tearDown() {
+        TryHooks.unregister(metrics);
+    }
+
+    @Test
+    public void testCountsOutcomesByOperation() {
+        Try.apply(() -> 1);
+        Try.apply(() -> Integer.parseInt("x"));
+        Try.apply("parse", () -> Integer.parseInt("1"));
+        new Try.Success<>("a").map(String::length);
+        TryMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getOperation("apply").getSuccessCount());
+        assertEquals(1, snapshot.getOperation("apply").getFailureCount());
+        assertEquals(Long.valueOf(1),
+                snapshot.getOperation("apply").getFailureCounts().get(NumberFormatException.class.getName()));
+        assertEquals(1, snapshot.getOperation("parse").getSuccessCount());
+        assertEquals("combinators must not be reported as apply", 1, snapshot.getOperation("map").getSuccessCount());
+        assertEquals(2, snapshot.getOperation("apply").getLatency().getCount());
+    }
+
+    @Test
+    public void testFlatMapReportsTheFlattenedOutcome() {
+        new Try.Success<>(1).flatMap(i -> new Try.Failure<Integer>(new IOException("down")));
+        new Try.Success<>(1).filter(i -> i > 1);
+        TryMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getOperation("flatMap").getFailureCount());
+        assertEquals(1, snapshot.getOperation("filter").getFailureCount());
+    }
+
+    @Test
+    public void testRecoveries() {
+        Try<Integer> failure = new Try.Failure<>(new IOException("down"));
+        failure.recover(e -> 0);
+        failure.recoverWith(e -> new Try.Failure<>(new IllegalStateException()));
+        TryMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getOperation("recover").getSuccessCount());
+        assertEquals(Long.valueOf(1),
+                snapshot.getOperation("recover").getRecoveryCounts().get(IOException.class.getName()));
+        assertEquals(1, snapshot.getOperation("recoverWith").getFailureCount());
+        assertTrue(snapshot.getOperation("recoverWith").getRecoveryCounts().isEmpty());
+    }
+
+    @Test
+    public void testUnregisteredHookIsNotNotified() {
+        TryHooks.unregister(metrics);
+        assertFalse(TryHooks.enabled());
+        Try.apply(() -> 1);
+        assertTrue(metrics.snapshot().getOperations().isEmpty());
+    }
+
+    @Test
+    public void testFailingHookIsIsolated() {
+        AtomicInteger reported = new AtomicInteger();
+        TryHook failing = new TryHook() {
+            @Override
+            public void onSuccess(String operation, long durationNanos) {
+                throw new IllegalStateException("hook");
+            }
+
+            @Override
+            public void onFailure(String operation, Throwable exception, long durationNanos) {
+            }
+        };
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> reported.incrementAndGet());
+        TryHooks.register(failing);
+        try {
+            assertEquals(new Try.Success<>(1), Try.apply(() -> 1));
+        } finally {
+            TryHooks.unregister(failing);
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        assertEquals(1, reported.get());
+        assertEquals("the next hooks must still be notified", 1,
+                metrics.snapshot().getOperation("apply").getSuccessCount());
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        for (long value : new long[]{0, 1, 3, 4, 5, 7, 8, 1000, 123456789, Long.MAX_VALUE}) {
+            int index = TryMetrics.Histogram.indexOf(value);
+            assertTrue(TryMetrics.Histogram.lowerBound(index) <= value);
+            assertTrue(index + 1 == TryMetrics.Histogram.BUCKETS
+                    || value < TryMetrics.Histogram.lowerBound(index + 1));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        TryMetrics.Histogram histogram = new TryMetrics.Histogram();
+        for (long i = 1; i <= 1000; i++) histogram.record(i * 1000);
+        TryMetrics.LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500500000L, snapshot.getSumNanos());
+        long p50 = snapshot.getPercentileNanos(50);
+        assertTrue(p50 >= 500_000 && p50 <= 625_000);
+        long p99 = snapshot.getPercentileNanos(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_250_000);
+    }
+
+    @Test
+    public void testPrometheusExport() throws IOException {
+        Try.apply("load \"users\"", () -> Integer.parseInt("x"));
+        StringBuilder out = new StringBuilder();
+        metrics.writePrometheus(out);
+        String text = out.toString();
+        String op = "operation=\"load \\\"users\\\"\"";
+        assertTrue(text.contains("try_operations_total{" + op + ",outcome=\"failure\"} 1\n"));
+        assertTrue(text.contains("try_failures_total{" + op + ",exception=\"java.lang.NumberFormatException\"} 1\n"));
+        assertTrue(text.contains("try_operation_duration_seconds_bucket{" + op + ",le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("# TYPE try_operation_duration_seconds histogram\n"));
+    }
+
+    @Test
+    public void testPrometheusFileExport() throws IOException {
+        Try.apply(() -> 1);
+        Path file = folder.getRoot().toPath().resolve("try.prom");
+        metrics.writePrometheus(file);
+        String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(text.contains("try_operations_total{operation=\"apply\",outcome=\"success\"} 1\n"));
+        assertEquals("no temporary file must be left behind", 1, folder.getRoot().list().length);
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryPipeline}. Each chain is checked against the same chain applied eagerly to {@link Try}.
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TryPipelineTest {
+
+    private static final NumberFormatException NFE = new NumberFormatException("Number not valid");
+    private static final IllegalStateException ISE = new IllegalStateException("Boom");
+
+    @Test
+    public void testSupplierOnly() {
+        assertEquals(Try.apply(this::success), TryPipeline.of(this::success).run());
+        assertEquals(Try.apply(this::failure), TryPipeline.of(this::failure).run());
+    }
+
+    @Test
+    public void testMapChain() {
+        Try<String> eager = Try.apply(this::success).map(i -> i + 1).map(i -> i * 2).map(Object::toString);
+        Try<String> fused = TryPipeline.of(this::success).map(i -> i + 1).map(i -> i * 2).map(Object::toString).run();
+        assertEquals(eager, fused);
+        assertEquals(new Try.Success<>("86"), fused);
+    }
+
+    @Test
+    public void testFlatMapChain() {
+        Try<Integer> eager = Try.apply(this::success).flatMap(i -> Try.apply(() -> i + 1));
+        Try<Integer> fused = TryPipeline.of(this::success).flatMap(i -> Try.apply(() -> i + 1)).run();
+        assertEquals(eager, fused);
+    }
+
+    @Test
+    public void testFlatMapToAFailure() {
+        Try<Integer> eager = Try.apply(this::success).flatMap(i -> new Try.Failure<Integer>(ISE)).map(i -> i + 1);
+        Try<Integer> fused = TryPipeline.of(this::success).flatMap(i -> new Try.Failure<Integer>(ISE)).map(i -> i + 1)
+                .run();
+        assertEquals(eager, fused);
+        assertEquals(new Try.Failure<>(ISE), fused);
+    }
+
+    @Test
+    public void testExceptionInTheMiddleSkipsTheRemainingStages() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> fused = TryPipeline.of(this::success)
+                .map(i -> {
+                    throw ISE;
+                })
+                .map(i -> calls.incrementAndGet())
+                .run();
+        assertEquals(new Try.Failure<>(ISE), fused);
+        assertEquals("stages after a failure must not be run", 0, calls.get());
+    }
+
+    @Test
+    public void testFilter() {
+        assertEquals(new Try.Success<>(42), TryPipeline.of(this::success).filter(i -> i == 42).run());
+        Try<Integer> filtered = TryPipeline.of(this::success).filter(i -> i != 42).run();
+        assertTrue("filtered must fail with a NoSuchElementException",
+                filtered.failed().get() instanceof NoSuchElementException);
+        assertEquals(Try.apply(this::success).filter(i -> i != 42).failed().get().getMessage(),
+                filtered.failed().get().getMessage());
+    }
+
+    @Test
+    public void testRecover() {
+        Try<Integer> eager = Try.apply(this::failure).map(i -> i + 1).<Integer>recover(e -> 84).map(i -> i + 1);
+        Try<Integer> fused = TryPipeline.of(this::failure).map(i -> i + 1).<Integer>recover(e -> 84).map(i -> i + 1)
+                .run();
+        assertEquals(eager, fused);
+        assertEquals(new Try.Success<>(85), fused);
+    }
+
+    @Test
+    public void testRecoverIsSkippedOnSuccess() {
+        assertEquals(new Try.Success<>(42), TryPipeline.of(this::success).<Integer>recover(e -> 84).run());
+    }
+
+    @Test
+    public void testRecoverWith() {
+        Try<Integer> eager = Try.apply(this::failure).recoverWith(e -> new Try.Failure<>(ISE));
+        Try<Integer> fused = TryPipeline.of(this::failure).<Integer>recoverWith(e -> new Try.Failure<>(ISE)).run();
+        assertEquals(eager, fused);
+        assertEquals(new Try.Success<>(0),
+                TryPipeline.of(this::failure).<Integer>recoverWith(e -> new Try.Success<>(0)).run());
+    }
+
+    @Test
+    public void testTransform() {
+        assertEquals(new Try.Success<>(84), TryPipeline.of(this::success)
+                .transform(i -> new Try.Success<>(i * 2), e -> new Try.Success<>(0)).run());
+        assertEquals(new Try.Success<>(0), TryPipeline.of(this::failure)
+                .transform(i -> new Try.Success<>(i * 2), e -> new Try.Success<>(0)).run());
+    }
+
+    @Test
+    public void testNullFromFlatMapIsAFailure() {
+        Try<Integer> fused = TryPipeline.of(this::success).<Integer>flatMap(i -> null).run();
+        assertTrue("fused must fail with a NullPointerException",
+                fused.failed().get() instanceof NullPointerException);
+    }
+
+    @Test(expected = OutOfMemoryError.class)
+    public void testErrorMustNotBeCaught() {
+        TryPipeline.of(this::success).map(i -> {
+            throw new OutOfMemoryError();
+        }).run();
+    }
+
+    @Test
+    public void testPipelineCanBeRunManyTimes() {
+        AtomicInteger counter = new AtomicInteger();
+        TryPipeline<Integer> pipeline = TryPipeline.of(counter::incrementAndGet).map(i -> i * 10);
+        assertEquals(new Try.Success<>(10), pipeline.run());
+        assertEquals(new Try.Success<>(20), pipeline.run());
+    }
+
+    private int success() {
+        return 42;
+    }
+
+    private int failure() throws NumberFormatException {
+        throw NFE;
+    }
+}
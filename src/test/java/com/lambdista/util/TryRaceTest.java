@@ -0,0 +1,245 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Try#hedge}, {@link Try#firstSuccessOf} and {@link HedgePolicy}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryRaceTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return a supplier blocking until it's interrupted
+     */
+    private static FailableSupplier<String> hang() {
+        return () -> {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return "late";
+        };
+    }
+
+    /**
+     * Asserts that no supplier is left running: each one was either interrupted or never started.
+     */
+    private void assertLosersStopped() throws InterruptedException {
+        executor.shutdown();
+        assertTrue("the losers must be interrupted", executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static FailableSupplier<String> fail(String message) {
+        return () -> {
+            throw new IOException(message);
+        };
+    }
+
+    @Test
+    public void testFirstSuccessOfReturnsFastestAndInterruptsLosers() throws InterruptedException {
+        List<FailableSupplier<String>> suppliers = Arrays.asList(hang(), () -> "fast");
+        assertEquals(new Try.Success<>("fast"), Try.firstSuccessOf(suppliers, executor));
+        assertLosersStopped();
+    }
+
+    @Test
+    public void testFirstSuccessOfSkipsFailures() {
+        List<FailableSupplier<String>> suppliers = Arrays.asList(fail("a"), () -> {
+            Thread.sleep(20);
+            return "slow";
+        }, fail("b"));
+        assertEquals(new Try.Success<>("slow"), Try.firstSuccessOf(suppliers, executor));
+    }
+
+    @Test
+    public void testFirstSuccessOfAggregatesFailures() {
+        List<FailableSupplier<String>> suppliers = Arrays.asList(() -> {
+            Thread.sleep(20);
+            throw new IOException("a");
+        }, fail("b"), fail("c"));
+        Throwable e = Try.firstSuccessOf(suppliers, executor).failed().get();
+        assertTrue(e instanceof MultipleFailuresException);
+        List<Throwable> failures = ((MultipleFailuresException) e).getFailures();
+        assertEquals(3, failures.size());
+        assertEquals("input order", "a", failures.get(0).getMessage());
+        assertEquals("b", failures.get(1).getMessage());
+        assertEquals("c", failures.get(2).getMessage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFirstSuccessOfNeedsSuppliers() {
+        Try.firstSuccessOf(Arrays.<FailableSupplier<String>>asList(), executor);
+    }
+
+    @Test
+    public void testHedgeSkipsBackupWhenPrimaryIsFast() throws InterruptedException {
+        AtomicInteger backups = new AtomicInteger();
+        Try<String> result = Try.hedge(HedgePolicy.after(20, TimeUnit.MILLISECONDS), () -> "primary", () -> {
+            backups.incrementAndGet();
+            return "backup";
+        }, executor);
+        assertEquals(new Try.Success<>("primary"), result);
+        Thread.sleep(60);
+        assertEquals(0, backups.get());
+    }
+
+    @Test
+    public void testHedgeStartsBackupAfterDelay() throws InterruptedException {
+        long start = System.nanoTime();
+        Try<String> result = Try.hedge(HedgePolicy.after(20, TimeUnit.MILLISECONDS), hang(), () -> "backup",
+                executor);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(new Try.Success<>("backup"), result);
+        assertTrue("elapsed " + elapsed, elapsed >= 15);
+        assertLosersStopped();
+    }
+
+    @Test
+    public void testHedgeStartsBackupWhenPrimaryFails() {
+        long start = System.nanoTime();
+        Try<String> result = Try.hedge(HedgePolicy.after(1, TimeUnit.MINUTES), fail("primary"), () -> "backup",
+                executor);
+        assertEquals(new Try.Success<>("backup"), result);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testHedgeAggregatesFailures() {
+        Try<String> result = Try.hedge(HedgePolicy.after(0, TimeUnit.MILLISECONDS), fail("primary"),
+                fail("backup"), executor);
+        MultipleFailuresException e = (MultipleFailuresException) result.failed().get();
+        assertEquals(2, e.getSuppressed().length);
+        assertEquals("primary", e.getSuppressed()[0].getMessage());
+        assertEquals("backup", e.getSuppressed()[1].getMessage());
+    }
+
+    @Test
+    public void testBackupIsSubmittedByTheCallingThread() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            AtomicReference<Thread> backup = new AtomicReference<>();
+            Try<String> result = Try.hedge(HedgePolicy.after(10, TimeUnit.MILLISECONDS), () -> {
+                Thread.sleep(200);
+                return "primary";
+            }, () -> {
+                backup.set(Thread.currentThread());
+                return "backup";
+            }, pool);
+            assertEquals(new Try.Success<>("backup"), result);
+            assertSame("the backup must not run in the timer thread", Thread.currentThread(), backup.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testHedgeWithADirectExecutor() {
+        HedgePolicy policy = HedgePolicy.after(10, TimeUnit.MILLISECONDS);
+        assertEquals(new Try.Success<>("primary"), Try.hedge(policy, () -> "primary", () -> "backup", Runnable::run));
+        assertEquals(new Try.Success<>("backup"), Try.hedge(policy, fail("primary"), () -> "backup", Runnable::run));
+    }
+
+    @Test
+    public void testInterruptedCallerCancelsTheRace() throws InterruptedException {
+        Thread.currentThread().interrupt();
+        try {
+            Try<String> result = Try.firstSuccessOf(Arrays.asList(hang(), hang()), executor);
+            assertTrue(result.failed().get() instanceof InterruptedException);
+            assertTrue("the interrupt status must be restored", Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        assertLosersStopped();
+    }
+
+    @Test
+    public void testPercentilePolicy() {
+        HedgePolicy policy = HedgePolicy.percentile(0.9, 50, TimeUnit.MILLISECONDS);
+        for (int i = 1; i < 20; i++) policy.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals("too few samples", 50, policy.getDelay(TimeUnit.MILLISECONDS));
+
+        policy = HedgePolicy.percentile(0.9, 50, TimeUnit.MILLISECONDS);
+        for (int i = 1; i <= 100; i++) policy.record(TimeUnit.MILLISECONDS.toNanos(i));
+        long p90 = policy.getDelay(TimeUnit.MICROSECONDS);
+        assertTrue("p90 " + p90, p90 >= 90_000 && p90 <= 90_000 * 5 / 4);
+    }
+
+    @Test
+    public void testPercentilePolicyFollowsLatencyChanges() {
+        HedgePolicy policy = HedgePolicy.percentile(0.5, 50, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 1024; i++) policy.record(TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(policy.getDelay(TimeUnit.MILLISECONDS) >= 100);
+        for (int i = 0; i < 1000; i++) policy.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue("older samples must weigh less", policy.getDelay(TimeUnit.MILLISECONDS) < 2);
+    }
+
+    @Test
+    public void testPercentilePolicyKeepsTheHedgeRate() {
+        HedgePolicy policy = HedgePolicy.percentile(0.75, 25, TimeUnit.MILLISECONDS);
+        AtomicInteger backups = new AtomicInteger();
+        for (int i = 0; i < 200; i++) {
+            if (i == 100) backups.set(0);
+            long primaryMillis = i % 2 == 0 ? 1 : 10 + i * 7 % 31;
+            Try.hedge(policy, () -> {
+                Thread.sleep(primaryMillis);
+                return "primary";
+            }, () -> {
+                backups.incrementAndGet();
+                Thread.sleep(1);
+                return "backup";
+            }, executor);
+        }
+        assertTrue("hedged " + backups.get() + " of the last 100 calls instead of about 25", backups.get() <= 35);
+    }
+
+    @Test
+    public void testPercentilePolicyTracksSuccessfulAttempts() {
+        HedgePolicy policy = HedgePolicy.percentile(0.5, 1, TimeUnit.MINUTES);
+        for (int i = 0; i < 25; i++) Try.hedge(policy, () -> "primary", () -> "backup", executor);
+        assertTrue(policy.getDelay(TimeUnit.MILLISECONDS) < 1000);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TryScope}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-17
+ */
+public class TryScopeTest {
+
+    @Test
+    public void testJoinInForkOrder() {
+        try (TryScope<Integer> scope = TryScope.open()) {
+            scope.fork(() -> {
+                Thread.sleep(50);
+                return 1;
+            });
+            scope.fork(() -> 2);
+            scope.fork(() -> 3);
+            assertEquals(Arrays.asList(1, 2, 3), scope.join().get());
+        }
+    }
+
+    @Test
+    public void testFirstFailureCancelsSiblings() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CountDownLatch started = new CountDownLatch(1);
+        long start = System.nanoTime();
+        try (TryScope<String> scope = TryScope.open()) {
+            TryFuture<String> slow = scope.fork(() -> {
+                started.countDown();
+                Thread.sleep(10_000);
+                return "slow";
+            });
+            scope.fork(() -> {
+                started.await();
+                throw failure;
+            });
+
+            assertEquals(failure, scope.join().failed().get());
+            assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+            assertTrue(scope.isCancelled());
+            // join only returns once every subtask has finished
+            assertTrue(slow.isCompleted());
+            assertTrue(slow.await().failed().get() instanceof InterruptedException);
+        }
+    }
+
+    @Test
+    public void testForkAfterCancellationDoesNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        try (TryScope<String> scope = TryScope.open()) {
+            scope.fork(() -> {
+                throw new IllegalStateException();
+            });
+            assertTrue(scope.join().isFailure());
+
+            TryFuture<String> late = scope.fork(() -> {
+                ran.set(true);
+                return "late";
+            });
+            assertTrue(late.await().failed().get() instanceof CancellationException);
+        }
+        assertFalse(ran.get());
+    }
+
+    @Test
+    public void testDeadline() throws InterruptedException {
+        try (TryScope<String> scope = TryScope.open(100, TimeUnit.MILLISECONDS)) {
+            TryFuture<String> slow = scope.fork(() -> {
+                Thread.sleep(10_000);
+                return "slow";
+            });
+            assertTrue(scope.join().failed().get() instanceof TryTimeoutException);
+            assertTrue(slow.await().failed().get() instanceof InterruptedException);
+        }
+    }
+
+    @Test
+    public void testCloseCancelsAndWaits() {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task);
+            threads.add(thread);
+            return thread;
+        };
+        TryScope<String> scope = TryScope.open(factory);
+        TryFuture<String> slow = scope.fork(() -> {
+            Thread.sleep(10_000);
+            return "slow";
+        });
+        scope.close();
+
+        assertEquals(1, threads.size());
+        assertFalse(threads.get(0).isAlive());
+        assertTrue(slow.isCompleted());
+        assertTrue(scope.isCancelled());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testForkAfterClose() {
+        TryScope<String> scope = TryScope.open();
+        scope.close();
+        scope.fork(() -> "too late");
+    }
+
+    @Test
+    public void testInterruptedJoin() throws InterruptedException {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean subtaskFinished = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread joiner = new Thread(() -> {
+            try (TryScope<String> scope = TryScope.open()) {
+                TryFuture<String> slow = scope.fork(() -> {
+                    started.countDown();
+                    Thread.sleep(10_000);
+                    return "slow";
+                });
+                Try<List<String>> result = scope.join();
+                interrupted.set(result.failed().get() instanceof InterruptedException
+                        && Thread.currentThread().isInterrupted());
+                subtaskFinished.set(slow.isCompleted());
+            }
+        });
+        joiner.start();
+        started.await();
+        joiner.interrupt();
+        joiner.join(5000);
+
+        assertTrue(interrupted.get());
+        assertTrue(subtaskFinished.get());
+    }
+
+    @Test
+    public void testNestedScopes() throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            created.incrementAndGet();
+            return new Thread(task);
+        };
+        CountDownLatch innerStarted = new CountDownLatch(1);
+        try (TryScope<Object> outer = TryScope.open(factory)) {
+            TryFuture<Object> nested = outer.fork(() -> {
+                try (TryScope<String> inner = TryScope.open()) {
+                    inner.fork(() -> {
+                        innerStarted.countDown();
+                        Thread.sleep(10_000);
+                        return "inner";
+                    });
+                    return inner.join().get();
+                }
+            });
+            outer.fork(() -> {
+                innerStarted.await();
+                throw new IllegalStateException("outer failure");
+            });
+
+            assertEquals("outer failure", outer.join().failed().get().getMessage());
+            assertTrue(nested.await().isFailure());
+        }
+        // the inner scope inherited the thread factory of the outer one
+        assertEquals(3, created.get());
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2014 Alessandro Lacava
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdista.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TrySingleFlight}
+ *
+ * @author Alessandro Lacava
+ * @since 2026-10-16
+ */
+public class TrySingleFlightTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentCallsShareOneExecution() throws Exception {
+        TrySingleFlight<String, Integer> flight = new TrySingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FailableSupplier<Integer> slow = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return 42;
+        };
+        List<Future<Try<Integer>>> results = new ArrayList<>();
+        results.add(executor.submit(() -> flight.apply("k", slow)));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        List<Thread> waiters = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> {
+                waiters.add(Thread.currentThread());
+                return flight.apply("k", slow);
+            }));
+        }
+        while (!parked(waiters, 7)) Thread.yield();
+        release.countDown();
+        Try<Integer> first = results.get(0).get();
+        for (Future<Try<Integer>> result : results) {
+            assertSame("all the callers must get the same Try", first, result.get());
+        }
+        assertEquals(new Try.Success<>(42), first);
+        assertEquals(1, calls.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void testKeyIsForgottenOnCompletion() {
+        TrySingleFlight<String, Integer> flight = new TrySingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        flight.apply("k", calls::incrementAndGet);
+        flight.apply("k", calls::incrementAndGet);
+        assertEquals(2, calls.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void testFailuresAreShared() {
+        TrySingleFlight<String, Integer> flight = new TrySingleFlight<>();
+        Try<Integer> result = flight.apply("k", () -> {
+            throw new IOException("down");
+        });
+        assertTrue("result must be a failure", result.failed().get() instanceof IOException);
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void testDifferentKeysRunIndependently() {
+        TrySingleFlight<String, String> flight = new TrySingleFlight<>();
+        Try<String> outer = flight.apply("a", () -> flight.apply("b", () -> "b").get() + "a");
+        assertEquals(new Try.Success<>("ba"), outer);
+    }
+
+    @Test
+    public void testApplyAsync() throws InterruptedException {
+        TrySingleFlight<String, Integer> flight = new TrySingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        TryFuture<Integer> first = flight.applyAsync("k", () -> {
+            release.await();
+            return 42;
+        }, executor);
+        TryFuture<Integer> second = flight.applyAsync("k", () -> 0, executor);
+        assertSame(first, second);
+        release.countDown();
+        assertEquals(new Try.Success<>(42), second.await());
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void testErrorsAreRethrown() {
+        TrySingleFlight<String, Integer> flight = new TrySingleFlight<>();
+        try {
+            flight.apply("k", () -> {
+                throw new StackOverflowError();
+            });
+        } finally {
+            assertEquals(0, flight.inFlight());
+        }
+    }
+
+    private static boolean parked(List<Thread> threads, int expected) {
+        if (threads.size() < expected) return false;
+        for (Thread thread : threads) {
+            if (thread.getState() != Thread.State.WAITING) return false;
+        }
+        return true;
+    }
+}
@@ -26,9 +26,13 @@ import static org.mockito.Mockito.verify;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -438,6 +442,79 @@ public class TryTest {
     	verify(inputStreamMock).close();
     }
 
+    @Test
+    public void testSequenceOfSuccesses() {
+        List<Try<Integer>> tries = Arrays.asList(Try.apply(this::success), new Try.Success<>(84));
+        assertEquals("out must be Success([42, 84])", new Try.Success<>(Arrays.asList(42, 84)), Try.sequence(tries));
+        assertEquals("out must be Success([42, 84])", new Try.Success<>(Arrays.asList(42, 84)),
+                Try.sequence(tries.stream()));
+        assertEquals("out must be Success([])", new Try.Success<>(Arrays.asList()),
+                Try.sequence(Arrays.<Try<Integer>>asList()));
+    }
+
+    @Test
+    public void testSequenceStopsAtTheFirstFailure() {
+        Try<Integer> firstFailure = Try.apply(this::failure);
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<Try<Integer>> tries = Stream.of(new Try.Success<>(42), firstFailure,
+                new Try.Failure<>(new IllegalStateException()), new Try.Success<>(84));
+        Try<List<Integer>> out = Try.sequence(tries.peek(t -> consumed.incrementAndGet()));
+        assertTrue("out must be the first failure", (Object) out == firstFailure);
+        assertEquals("elements after the first failure must not be consumed", 2, consumed.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSequenceOfAnArray() {
+        Try<Integer>[] tries = new Try[]{new Try.Success<>(42), null};
+        assertTrue("a null element must be a failure",
+                Try.sequence(tries).failed().get() instanceof NullPointerException);
+    }
+
+    @Test
+    public void testSequenceAllAccumulatesTheFailures() {
+        NumberFormatException first = new NumberFormatException();
+        IllegalStateException second = new IllegalStateException();
+        Try<List<Integer>> out = Try.sequenceAll(Arrays.asList(new Try.Failure<Integer>(first),
+                new Try.Success<>(42), new Try.Failure<Integer>(second)));
+        Throwable e = out.failed().get();
+        assertTrue("e must be a MultipleFailuresException", e instanceof MultipleFailuresException);
+        assertEquals(Arrays.asList(first, second), ((MultipleFailuresException) e).getFailures());
+        assertEquals(new Try.Success<>(Arrays.asList(42)), Try.sequenceAll(Stream.of(new Try.Success<>(42))));
+    }
+
+    @Test
+    public void testTraverse() {
+        assertEquals(new Try.Success<>(Arrays.asList(1, 2, 3)),
+                Try.traverse(Arrays.asList("1", "2", "3"), s -> Try.apply(() -> Integer.parseInt(s))));
+        assertEquals(new Try.Success<>(Arrays.asList(1, 2, 3)),
+                Try.traverse(new String[]{"1", "2", "3"}, s -> Try.apply(() -> Integer.parseInt(s))));
+
+        AtomicInteger calls = new AtomicInteger();
+        Try<List<Integer>> out = Try.traverse(Stream.of("1", "n/a", "3"), s -> {
+            calls.incrementAndGet();
+            return Try.apply(() -> Integer.parseInt(s));
+        });
+        assertTrue("out must fail with a NumberFormatException", out.failed().get() instanceof NumberFormatException);
+        assertEquals("mapper must not be applied after the first failure", 2, calls.get());
+    }
+
+    @Test
+    public void testTraverseCapturesExceptionsThrownByTheMapper() {
+        Try<List<Integer>> out = Try.traverse(Arrays.asList("1"), s -> {
+            throw new IllegalStateException();
+        });
+        assertTrue("out must fail with an IllegalStateException", out.failed().get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testTraverseAllAccumulatesTheFailures() {
+        Try<List<Integer>> out = Try.traverseAll(Arrays.asList("1", "n/a", "x"), s -> Try.apply(() -> Integer.parseInt(s)));
+        Throwable e = out.failed().get();
+        assertTrue("e must be a MultipleFailuresException", e instanceof MultipleFailuresException);
+        assertEquals(2, e.getSuppressed().length);
+    }
+
     private int success() {
         return 42;
     }